@@ -0,0 +1,30 @@
+package com.bluemoon.fees.benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// JMH entry point that always records JSON results, named by version so runs can be compared release over release:
+//   java -jar target/benchmarks.jar [JMH options]        -> results/fees-<version>-<timestamp>.json
+// Passing -rf/-rff overrides the defaults.
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws Exception {
+        List<String> options = new ArrayList<>(Arrays.asList(args));
+        if (!options.contains("-rf")) {
+            options.addAll(List.of("-rf", "json"));
+        }
+        if (!options.contains("-rff")) {
+            String version = BenchmarkMain.class.getPackage().getImplementationVersion();
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            Path results = Path.of("results", "fees-" + (version != null ? version : "dev") + "-" + timestamp + ".json");
+            Files.createDirectories(results.getParent());
+            options.addAll(List.of("-rff", results.toString()));
+        }
+        org.openjdk.jmh.Main.main(options.toArray(String[]::new));
+    }
+}
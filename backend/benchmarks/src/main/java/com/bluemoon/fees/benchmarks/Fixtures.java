@@ -0,0 +1,170 @@
+package com.bluemoon.fees.benchmarks;
+
+import com.bluemoon.fees.dto.HoKhauSummary;
+import com.bluemoon.fees.entity.HoKhau;
+import com.bluemoon.fees.entity.KhoanThu;
+import com.bluemoon.fees.entity.NhanKhau;
+import com.bluemoon.fees.entity.NopPhi;
+import com.bluemoon.fees.entity.ParkingTariff;
+import com.bluemoon.fees.entity.UtilityPayment;
+import com.bluemoon.fees.entity.UtilityService;
+import com.bluemoon.fees.entity.Vehicle;
+import com.bluemoon.fees.entity.VehicleType;
+import com.bluemoon.fees.parking.ParkingTariffTable;
+import com.bluemoon.fees.service.HoKhauService;
+import com.bluemoon.fees.service.ParkingTariffService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Deterministic in-memory data shaped like a production apartment block
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static HoKhau hoKhau(long id, int members) {
+        HoKhau hoKhau = new HoKhau();
+        hoKhau.setId(id);
+        hoKhau.setSoHoKhau("HK" + id);
+        hoKhau.setChuHo("Nguyễn Văn " + id);
+        hoKhau.setAddress("Tầng " + (id % 30) + ", BlueMoon");
+        hoKhau.setSoNha(String.valueOf(id));
+        hoKhau.setDuong("Đường Giải Phóng");
+        hoKhau.setPhuong("Phương Liệt");
+        hoKhau.setQuan("Thanh Xuân");
+        hoKhau.setSoThanhVien(members);
+        hoKhau.setSoDienThoai("09" + String.format("%08d", id));
+        hoKhau.setEmail("hk" + id + "@bluemoon.vn");
+        hoKhau.setNgayLamHoKhau(LocalDate.of(2020, 1, 1));
+        hoKhau.setCacKhoanNop(new ArrayList<>());
+        for (int i = 0; i < members; i++) {
+            NhanKhau nhanKhau = new NhanKhau();
+            nhanKhau.setId(id * 10 + i);
+            nhanKhau.setHoTen("Thành viên " + i);
+            nhanKhau.setNgaySinh(LocalDate.of(1980 + i, 1, 1));
+            nhanKhau.setGioiTinh(i % 2 == 0 ? "Nam" : "Nữ");
+            nhanKhau.setNgayThemNhanKhau(LocalDate.of(2020, 1, 1));
+            hoKhau.addNhanKhau(nhanKhau);
+        }
+        hoKhau.addVehicle(vehicle(id * 10, id, "XE_MAY"));
+        return hoKhau;
+    }
+
+    static List<HoKhau> hoKhauList(int size) {
+        List<HoKhau> list = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            list.add(hoKhau(id, 1 + (int) (id % 5)));
+        }
+        return list;
+    }
+
+    static KhoanThu khoanThu(long id) {
+        KhoanThu khoanThu = new KhoanThu();
+        khoanThu.setId(id);
+        khoanThu.setTenKhoanThu("Phí dịch vụ " + id);
+        khoanThu.setBatBuoc(true);
+        khoanThu.setSoTien(7000.0);
+        khoanThu.setThoiHan(LocalDate.of(2026, 12, 31));
+        khoanThu.setNgayTao(LocalDate.of(2026, 1, 1));
+        return khoanThu;
+    }
+
+    // Payments reference shared household and fee instances, as they would within one persistence context
+    static List<NopPhi> nopPhiList(List<HoKhau> households, int feeTypes) {
+        List<KhoanThu> fees = new ArrayList<>();
+        for (long id = 1; id <= feeTypes; id++) {
+            fees.add(khoanThu(id));
+        }
+        List<NopPhi> payments = new ArrayList<>();
+        long id = 1;
+        for (HoKhau hoKhau : households) {
+            for (KhoanThu khoanThu : fees) {
+                NopPhi nopPhi = new NopPhi();
+                nopPhi.setId(id++);
+                nopPhi.setHoKhau(hoKhau);
+                nopPhi.setKhoanThu(khoanThu);
+                nopPhi.setNguoiNop(hoKhau.getChuHo());
+                nopPhi.setNgayNop(LocalDate.of(2026, 3, 15));
+                nopPhi.setTongTien(khoanThu.getSoTien());
+                nopPhi.setSoTien(khoanThu.getSoTien());
+                nopPhi.setDaXacNhan(id % 3 == 0);
+                hoKhau.getCacKhoanNop().add(nopPhi);
+                payments.add(nopPhi);
+            }
+        }
+        return payments;
+    }
+
+    static Vehicle vehicle(long id, long hoKhauId, String loaiXe) {
+        Vehicle vehicle = new Vehicle();
+        vehicle.setId(id);
+        vehicle.setBienSoXe("29A-" + String.format("%05d", id));
+        vehicle.setLoaiXe(loaiXe);
+        vehicle.setHangXe("Honda");
+        vehicle.setMauXe("Vision");
+        vehicle.setNamSanXuat(2022);
+        vehicle.setMauSac("Đen");
+        vehicle.setHoKhauId(hoKhauId);
+        return vehicle;
+    }
+
+    static UtilityService utilityService(long id, HoKhau hoKhau) {
+        UtilityService service = new UtilityService();
+        service.setId(id);
+        service.setHoKhau(hoKhau);
+        service.setLoaiDichVu("DIEN");
+        service.setThang(3);
+        service.setNam(2026);
+        service.setChiSoCu(1200.0);
+        service.setChiSoMoi(1385.0);
+        service.setSoLuongSuDung(185.0);
+        service.setDonGia(3500.0);
+        service.setPhiCoDinh(0.0);
+        service.setTongTien(647500.0);
+        service.setNgayGhiNhan(LocalDateTime.of(2026, 3, 31, 9, 0));
+        service.setDonViTinh("kWh");
+        return service;
+    }
+
+    static UtilityPayment utilityPayment(long id, long hoKhauId) {
+        UtilityPayment payment = new UtilityPayment();
+        payment.setId(id);
+        payment.setHoKhauId(hoKhauId);
+        payment.setThang(3);
+        payment.setNam(2026);
+        payment.setSoTienThanhToan(717500.0);
+        payment.setPhiGuiXe(70000.0);
+        payment.setPhiDichVu(0.0);
+        payment.setNgayThanhToan(LocalDate.of(2026, 4, 5));
+        payment.setMaGiaoDich("UT202604050001");
+        payment.setTrangThai("THANH_CONG");
+        payment.setCreatedAt(LocalDateTime.of(2026, 4, 5, 10, 0));
+        return payment;
+    }
+
+    // Stands in for a warm "hoKhau" cache: getSummary is a map lookup, as it is after the first request
+    static HoKhauService summaryService(List<HoKhau> households) {
+        Map<Long, HoKhauSummary> summaries = new HashMap<>();
+        for (HoKhau hoKhau : households) {
+            summaries.put(hoKhau.getId(), new HoKhauSummary(hoKhau.getId(), hoKhau.getSoHoKhau(), hoKhau.getChuHo(),
+                    hoKhau.getAddress(), hoKhau.isHoatDong()));
+        }
+        return Stubs.answering(HoKhauService.class, "getSummary", args -> summaries.get((Long) args[0]));
+    }
+
+    // Production rates plus one later change per type, so lookups go through the effective-date search
+    static ParkingTariffService parkingTariffService() {
+        ParkingTariffTable table = new ParkingTariffTable(List.of(
+                new ParkingTariff(1L, VehicleType.XE_MAY, 70000.0, LocalDate.of(2000, 1, 1), null),
+                new ParkingTariff(2L, VehicleType.OTO, 1200000.0, LocalDate.of(2000, 1, 1), null),
+                new ParkingTariff(3L, VehicleType.XE_MAY, 80000.0, LocalDate.of(2030, 1, 1), null),
+                new ParkingTariff(4L, VehicleType.OTO, 1300000.0, LocalDate.of(2030, 1, 1), null)),
+                Map.of());
+        return Stubs.answering(ParkingTariffService.class, "getTariffTable", args -> table);
+    }
+}
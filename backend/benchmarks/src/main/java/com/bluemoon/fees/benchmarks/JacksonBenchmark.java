@@ -0,0 +1,74 @@
+package com.bluemoon.fees.benchmarks;
+
+import com.bluemoon.fees.dto.HoKhauListItem;
+import com.bluemoon.fees.entity.HoKhau;
+import com.bluemoon.fees.entity.NopPhi;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Response serialization for household and payment lists. Entities are fully initialized in memory,
+// so lazy loading is excluded; the projection row shows what ?view=list saves on the wire alone
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonBenchmark {
+
+    @Param({"100", "1000"})
+    public int households;
+
+    private ObjectMapper objectMapper;
+    private List<HoKhau> hoKhauList;
+    private List<HoKhauListItem> hoKhauListItems;
+    private List<NopPhi> nopPhiList;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot's defaults: java.time support, ISO dates instead of timestamps
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        hoKhauList = Fixtures.hoKhauList(households);
+        nopPhiList = Fixtures.nopPhiList(hoKhauList, 3);
+        hoKhauListItems = hoKhauList.stream()
+                .map(h -> new HoKhauListItem(h.getId(), h.getSoHoKhau(), h.getChuHo(), h.getAddress(), h.getSoNha(),
+                        h.getDuong(), h.getPhuong(), h.getQuan(), h.getSoThanhVien(), h.getSoDienThoai(), h.getEmail(),
+                        h.getNgayLamHoKhau(), h.isHoatDong()))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] hoKhauEntities() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(hoKhauList);
+    }
+
+    @Benchmark
+    public byte[] hoKhauListItems() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(hoKhauListItems);
+    }
+
+    @Benchmark
+    public byte[] nopPhiEntities() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(nopPhiList);
+    }
+}
@@ -0,0 +1,75 @@
+package com.bluemoon.fees.benchmarks;
+
+import com.bluemoon.fees.security.JwtAuthenticationFilter;
+import com.bluemoon.fees.security.JwtService;
+import com.bluemoon.fees.security.JwtTokenCache;
+import com.bluemoon.fees.security.StreamTicketStore;
+import com.bluemoon.fees.service.UserService;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// The authentication filter on a request carrying a Bearer token. "cached" is the steady state;
+// "uncached" forces a parse and a user lookup (stubbed, so database time is not included)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtFilterBenchmark {
+
+    @Param({"cached", "uncached"})
+    public String tokenCache;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        JwtService jwtService = JwtBenchmark.jwtService();
+        UserDetails user = JwtBenchmark.user();
+        UserService userService = Stubs.answering(UserService.class, "loadUserByUsername", args -> user);
+        // A zero TTL expires every entry on creation, so each request misses
+        JwtTokenCache cache = new JwtTokenCache(10_000, "cached".equals(tokenCache) ? 300 : 0);
+        filter = new JwtAuthenticationFilter(jwtService, userService, cache, new StreamTicketStore(Duration.ofSeconds(30)));
+
+        request = new MockHttpServletRequest("GET", "/api/households");
+        request.addHeader("Authorization", "Bearer " + jwtService.generateToken(user));
+        response = new MockHttpServletResponse();
+        chain = (req, res) -> blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Benchmark
+    public void authenticate() throws Exception {
+        // OncePerRequestFilter marks the request as filtered, and the filter skips an authenticated context
+        request.removeAttribute(filter.getClass().getName() + ".FILTERED");
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request, response, chain);
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+}
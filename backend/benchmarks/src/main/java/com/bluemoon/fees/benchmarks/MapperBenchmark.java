@@ -0,0 +1,85 @@
+package com.bluemoon.fees.benchmarks;
+
+import com.bluemoon.fees.entity.HoKhau;
+import com.bluemoon.fees.entity.UtilityPayment;
+import com.bluemoon.fees.entity.UtilityService;
+import com.bluemoon.fees.entity.Vehicle;
+import com.bluemoon.fees.monitoring.DomainMetrics;
+import com.bluemoon.fees.service.HoKhauService;
+import com.bluemoon.fees.service.impl.UtilityPaymentServiceImpl;
+import com.bluemoon.fees.service.impl.UtilityServiceServiceImpl;
+import com.bluemoon.fees.service.impl.VehicleServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The private convertToDTO mappers, called through method handles so only the mapping is measured
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private MethodHandle utilityServiceMapper;
+    private MethodHandle vehicleMapper;
+    private MethodHandle utilityPaymentMapper;
+
+    private UtilityService utilityService;
+    private Vehicle vehicle;
+    private UtilityPayment utilityPayment;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        List<HoKhau> households = Fixtures.hoKhauList(10);
+        HoKhauService hoKhauService = Fixtures.summaryService(households);
+        DomainMetrics domainMetrics = new DomainMetrics(new SimpleMeterRegistry());
+
+        utilityServiceMapper = mapper(Stubs.construct(UtilityServiceServiceImpl.class, hoKhauService, domainMetrics), UtilityService.class);
+        vehicleMapper = mapper(Stubs.construct(VehicleServiceImpl.class, hoKhauService, Fixtures.parkingTariffService()), Vehicle.class);
+        utilityPaymentMapper = mapper(Stubs.construct(UtilityPaymentServiceImpl.class, hoKhauService, domainMetrics), UtilityPayment.class);
+
+        utilityService = Fixtures.utilityService(1, households.get(2));
+        vehicle = Fixtures.vehicle(1, 3, "OTO");
+        utilityPayment = Fixtures.utilityPayment(1, 3);
+    }
+
+    @Benchmark
+    public Object utilityServiceToDTO() throws Throwable {
+        return utilityServiceMapper.invoke(utilityService);
+    }
+
+    @Benchmark
+    public Object vehicleToDTO() throws Throwable {
+        return vehicleMapper.invoke(vehicle);
+    }
+
+    @Benchmark
+    public Object utilityPaymentToDTO() throws Throwable {
+        return utilityPaymentMapper.invoke(utilityPayment);
+    }
+
+    // Bound to the service instance, typed (Entity)Object
+    private static MethodHandle mapper(Object service, Class<?> entityType) throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(service.getClass(), MethodHandles.lookup());
+        return lookup.findVirtual(service.getClass(), "convertToDTO", MethodType.methodType(
+                        service.getClass().getDeclaredMethod("convertToDTO", entityType).getReturnType(), entityType))
+                .bindTo(service)
+                .asType(MethodType.methodType(Object.class, entityType));
+    }
+}
@@ -0,0 +1,61 @@
+package com.bluemoon.fees.benchmarks;
+
+import com.bluemoon.fees.repository.VehicleRepository;
+import com.bluemoon.fees.repository.projection.VehicleTypeCount;
+import com.bluemoon.fees.service.impl.VehicleServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Monthly parking fee for one household; the repository returns the per-type counts from memory
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParkingFeeBenchmark {
+
+    @Param({"1", "3", "10"})
+    public int vehicles;
+
+    private VehicleServiceImpl vehicleService;
+
+    @Setup
+    public void setUp() {
+        long cars = vehicles / 3;
+        List<VehicleTypeCount> counts = List.of(count("XE_MAY", vehicles - cars), count("OTO", cars));
+        VehicleRepository vehicleRepository = Stubs.answering(VehicleRepository.class, "countByTypeForHoKhau", args -> counts);
+        vehicleService = Stubs.construct(VehicleServiceImpl.class, vehicleRepository, Fixtures.parkingTariffService());
+    }
+
+    @Benchmark
+    public double calculateMonthlyParkingFee() {
+        return vehicleService.calculateMonthlyParkingFee(1L);
+    }
+
+    private static VehicleTypeCount count(String loaiXe, long soLuong) {
+        return new VehicleTypeCount() {
+            @Override
+            public String getLoaiXe() {
+                return loaiXe;
+            }
+
+            @Override
+            public long getSoLuong() {
+                return soLuong;
+            }
+        };
+    }
+}
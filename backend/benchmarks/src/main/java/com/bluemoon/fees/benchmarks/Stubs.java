@@ -0,0 +1,53 @@
+package com.bluemoon.fees.benchmarks;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.function.Function;
+
+// Wires service implementations without a Spring context: collaborators the benchmark does not touch fail loudly
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    static <T> T unsupported(Class<T> type) {
+        return answering(type, null, null);
+    }
+
+    // Interface stub answering one method by name; every other call throws
+    static <T> T answering(Class<T> type, String methodName, Function<Object[], Object> answer) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            switch (method.getName()) {
+                case "toString":
+                    return type.getSimpleName() + " stub";
+                case "hashCode":
+                    return System.identityHashCode(self);
+                case "equals":
+                    return self == args[0];
+                default:
+                    if (method.getName().equals(methodName)) {
+                        return answer.apply(args);
+                    }
+                    throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not stubbed");
+            }
+        });
+        return type.cast(proxy);
+    }
+
+    // Calls the single constructor of a @RequiredArgsConstructor class, filling unmatched interfaces with unsupported stubs
+    static <T> T construct(Class<T> type, Object... collaborators) {
+        Constructor<?> constructor = type.getConstructors()[0];
+        Object[] args = Arrays.stream(constructor.getParameterTypes())
+                .map(parameter -> Arrays.stream(collaborators)
+                        .filter(parameter::isInstance)
+                        .findFirst()
+                        .orElseGet(() -> parameter.isInterface() ? unsupported(parameter) : null))
+                .toArray();
+        try {
+            return type.cast(constructor.newInstance(args));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot construct " + type.getSimpleName(), e);
+        }
+    }
+}
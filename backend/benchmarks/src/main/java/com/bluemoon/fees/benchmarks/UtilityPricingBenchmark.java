@@ -0,0 +1,52 @@
+package com.bluemoon.fees.benchmarks;
+
+import com.bluemoon.fees.utility.TierSchedule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Pricing a month of electricity readings with the six-tier residential tariff, as the repricing pass does
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UtilityPricingBenchmark {
+
+    @Param({"1000", "10000"})
+    public int readings;
+
+    private TierSchedule schedule;
+    private double[] quantities;
+    private double[] amounts;
+
+    @Setup
+    public void setUp() {
+        schedule = new TierSchedule(new double[]{50, 100, 200, 300, 400, Double.POSITIVE_INFINITY},
+                new double[]{1984, 2050, 2380, 2998, 3350, 3460});
+        Random random = new Random(42);
+        quantities = new double[readings];
+        for (int i = 0; i < readings; i++) {
+            quantities[i] = random.nextInt(600);
+        }
+        amounts = new double[readings];
+    }
+
+    @Benchmark
+    public double[] priceAll() {
+        schedule.priceAll(quantities, amounts, readings);
+        return amounts;
+    }
+}
@@ -0,0 +1,156 @@
+package com.bluemoon.fees.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Seeds realistic volumes with plain JDBC batches; going through the services would take hours for 1M payments
+@Slf4j
+@RequiredArgsConstructor
+class DataSeeder {
+
+    private static final int BATCH_SIZE = 5_000;
+
+    private static final String[] HO = {"Nguyễn", "Trần", "Lê", "Phạm", "Hoàng", "Huỳnh", "Phan", "Vũ", "Võ", "Đặng", "Bùi", "Đỗ", "Hồ", "Ngô", "Dương", "Lý"};
+    private static final String[] DEM = {"Văn", "Thị", "Hữu", "Đức", "Minh", "Ngọc", "Thanh", "Quang", "Thu", "Xuân"};
+    private static final String[] TEN = {"An", "Bình", "Cường", "Dũng", "Đức", "Giang", "Hà", "Hải", "Hạnh", "Hiếu", "Hoa", "Hùng",
+            "Hương", "Khánh", "Lan", "Linh", "Long", "Mai", "Nam", "Nga", "Phong", "Phúc", "Quân", "Sơn", "Tâm", "Thảo", "Trang", "Tú", "Tuấn", "Yến"};
+    private static final String[] DUONG = {"Giải Phóng", "Trường Chinh", "Nguyễn Trãi", "Láng", "Kim Mã", "Đội Cấn", "Lạc Long Quân", "Tôn Đức Thắng"};
+    private static final String[] NGHE = {"Kỹ sư", "Giáo viên", "Bác sĩ", "Kinh doanh", "Sinh viên", "Hưu trí", "Công nhân", "Nhân viên văn phòng"};
+
+    private final JdbcTemplate jdbc;
+    private final LoadTestSettings settings;
+
+    SeedData seed() {
+        Random random = new Random(settings.getRandomSeed());
+        long started = System.nanoTime();
+
+        long firstHoKhauId = nextId("ho_khau");
+        int households = settings.getHouseholds();
+        int[] members = new int[households];
+        for (int i = 0; i < settings.getResidents(); i++) {
+            members[i % households]++;
+        }
+        String[] chuHo = new String[households];
+        batch("ho_khau", households,
+                "INSERT INTO ho_khau (so_ho_khau, chu_ho, address, so_nha, duong, phuong, quan, so_thanh_vien, " +
+                "so_dien_thoai, email, ngay_lam_ho_khau, hoat_dong) VALUES (?,?,?,?,?,?,?,?,?,?,?,?)",
+                i -> {
+                    chuHo[i] = fullName(random, random.nextBoolean());
+                    String duong = DUONG[random.nextInt(DUONG.length)];
+                    return new Object[]{"HK" + String.format("%06d", i + 1), chuHo[i],
+                            "Căn " + (i + 1) + ", tòa BlueMoon, đường " + duong, String.valueOf(i + 1), duong,
+                            "Phương Liệt", "Thanh Xuân", members[i], "09" + String.format("%08d", 10_000_000 + i),
+                            "hk" + (i + 1) + "@bluemoon.vn", Date.valueOf(LocalDate.of(2015, 1, 1).plusDays(random.nextInt(3000))),
+                            random.nextInt(50) != 0};
+                });
+
+        int[] seen = new int[households];
+        batch("nhan_khau", settings.getResidents(),
+                "INSERT INTO nhan_khau (ho_ten, ngay_sinh, gioi_tinh, cccd, nghe_nghiep, ngay_them_nhan_khau, " +
+                "quan_he_voi_chu_ho, ho_khau_id) VALUES (?,?,?,?,?,?,?,?)",
+                i -> {
+                    int household = i % households;
+                    boolean head = seen[household]++ == 0;
+                    boolean male = random.nextBoolean();
+                    return new Object[]{head ? chuHo[household] : fullName(random, male),
+                            Date.valueOf(LocalDate.of(1940, 1, 1).plusDays(random.nextInt(30_000))), male ? "Nam" : "Nữ",
+                            String.format("%012d", 1_000_000_000L + i), NGHE[random.nextInt(NGHE.length)],
+                            Date.valueOf(LocalDate.of(2015, 1, 1).plusDays(random.nextInt(3000))),
+                            head ? "Chủ hộ" : "Thành viên", firstHoKhauId + household};
+                });
+
+        long firstKhoanThuId = nextId("khoan_thu");
+        batch("khoan_thu", settings.getFeeTypes(),
+                "INSERT INTO khoan_thu (ten_khoan_thu, bat_buoc, so_tien, thoi_han, ghi_chu, ngay_tao, hoat_dong) " +
+                "VALUES (?,?,?,?,?,?,?)",
+                i -> new Object[]{(i % 4 == 3 ? "Quỹ ủng hộ " : "Phí dịch vụ ") + (i + 1), i % 4 != 3,
+                        50_000.0 * (1 + i % 8), Date.valueOf(LocalDate.now().plusMonths(1 + i % 12)), null,
+                        Date.valueOf(LocalDate.now().minusYears(2)), true});
+        List<Long> khoanThuIds = new ArrayList<>();
+        for (int i = 0; i < settings.getFeeTypes(); i++) {
+            khoanThuIds.add(firstKhoanThuId + i);
+        }
+
+        LocalDate today = LocalDate.now();
+        batch("nop_phi", settings.getFeePayments(),
+                "INSERT INTO nop_phi (ho_khau_id, khoan_thu_id, nguoi_nop, ngay_nop, tong_tien, so_tien, da_xac_nhan) " +
+                "VALUES (?,?,?,?,?,?,?)",
+                i -> {
+                    int household = random.nextInt(households);
+                    double amount = 50_000.0 * (1 + random.nextInt(8));
+                    return new Object[]{firstHoKhauId + household, khoanThuIds.get(random.nextInt(khoanThuIds.size())),
+                            chuHo[household], Date.valueOf(today.minusDays(random.nextInt(730))), amount,
+                            random.nextInt(10) == 0 ? amount / 2 : amount, random.nextInt(100) < 85};
+                });
+
+        // Ids come from utility_service_seq, so they are written explicitly and the sequence is moved past them.
+        // The bills are priced by a flat unit price, not the tiered tariff, so theo_bieu_gia stays false
+        long firstUtilityId = nextId("utility_service");
+        LocalDateTime now = LocalDateTime.now();
+        batch("utility_service", settings.getUtilityServices(),
+                "INSERT INTO utility_service (id, ho_khau_id, loai_dich_vu, thang, nam, chi_so_cu, chi_so_moi, so_luong_su_dung, " +
+                "don_gia, phi_co_dinh, tong_tien, trang_thai, ngay_ghi_nhan, don_vi_tinh, theo_bieu_gia, created_at, updated_at) " +
+                "VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)",
+                i -> {
+                    int household = (i / 2) % households;
+                    boolean dien = i % 2 == 0;
+                    LocalDate month = today.withDayOfMonth(1).minusMonths(i / (2L * households));
+                    double oldReading = 1000 + random.nextInt(5000);
+                    double used = dien ? 80 + random.nextInt(300) : 5 + random.nextInt(25);
+                    double unitPrice = dien ? 3_000 : 15_000;
+                    Timestamp recorded = Timestamp.valueOf(month.plusMonths(1).atStartOfDay().minusDays(1));
+                    return new Object[]{firstUtilityId + i, firstHoKhauId + household, dien ? "DIEN" : "NUOC",
+                            month.getMonthValue(), month.getYear(), oldReading, oldReading + used, used, unitPrice, 0.0,
+                            used * unitPrice, month.isBefore(today.withDayOfMonth(1).minusMonths(1)) || random.nextBoolean()
+                                    ? "DA_THANH_TOAN" : "CHUA_THANH_TOAN",
+                            recorded, dien ? "kWh" : "m3", false, Timestamp.valueOf(now), Timestamp.valueOf(now)};
+                });
+        jdbc.execute("ALTER SEQUENCE utility_service_seq RESTART WITH " + (firstUtilityId + settings.getUtilityServices() + 100));
+
+        long[] unverified = jdbc.queryForList("SELECT id FROM nop_phi WHERE da_xac_nhan = FALSE ORDER BY id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+        List<String> searchTerms = new ArrayList<>(List.of(TEN));
+        searchTerms.addAll(List.of("nguyen van", "tran thi", "le", "pham minh", "hoang duc", "HK0012", "29A"));
+
+        log.info("Seeded {} households, {} residents, {} fee types, {} fee payments and {} utility bills in {} s",
+                households, settings.getResidents(), settings.getFeeTypes(), settings.getFeePayments(),
+                settings.getUtilityServices(), (System.nanoTime() - started) / 1_000_000_000);
+        return new SeedData(firstHoKhauId, households, khoanThuIds, searchTerms, unverified, new AtomicInteger());
+    }
+
+    private interface RowFactory {
+        Object[] row(int index);
+    }
+
+    private void batch(String table, int rows, String sql, RowFactory factory) {
+        List<Object[]> chunk = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            chunk.add(factory.row(i));
+            if (chunk.size() == BATCH_SIZE || i == rows - 1) {
+                jdbc.batchUpdate(sql, chunk);
+                chunk.clear();
+            }
+        }
+        log.info("Seeded {} rows into {}", rows, table);
+    }
+
+    private long nextId(String table) {
+        Long max = jdbc.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    private static String fullName(Random random, boolean male) {
+        String dem = male ? DEM[random.nextInt(DEM.length)] : (random.nextBoolean() ? "Thị" : DEM[random.nextInt(DEM.length)]);
+        return HO[random.nextInt(HO.length)] + " " + dem + " " + TEN[random.nextInt(TEN.length)];
+    }
+}
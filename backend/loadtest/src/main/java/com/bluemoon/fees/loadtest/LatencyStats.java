@@ -0,0 +1,29 @@
+package com.bluemoon.fees.loadtest;
+
+import java.util.Arrays;
+
+// Per-endpoint summary of the measured window; latencies are exact (sorted samples, no histogram buckets)
+record LatencyStats(String endpoint, long requests, long errors, double throughput,
+                    double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+
+    static LatencyStats of(String endpoint, long[] latencyNanos, long errors, double seconds) {
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+        return new LatencyStats(endpoint, sorted.length, errors, sorted.length / seconds,
+                millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.90)),
+                millis(percentile(sorted, 0.99)), millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+    }
+
+    // Nearest-rank percentile
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
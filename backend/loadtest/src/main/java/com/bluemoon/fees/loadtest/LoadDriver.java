@@ -0,0 +1,158 @@
+package com.bluemoon.fees.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Closed-loop driver: each virtual user logs in once, then sends weighted-random scenarios back to back.
+// Requests sent during warmup are discarded; only those sent in the measured window are reported.
+@Slf4j
+@RequiredArgsConstructor
+class LoadDriver {
+
+    private final URI base;
+    private final LoadTestSettings settings;
+    private final SeedData seed;
+    private final ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private Map<String, Scenario> scenarios;
+
+    List<LatencyStats> run() throws Exception {
+        scenarios = Scenario.all(settings);
+        List<Scenario> weighted = new ArrayList<>();
+        settings.getMix().forEach((name, weight) -> {
+            Scenario scenario = scenarios.get(name);
+            if (scenario == null) {
+                throw new IllegalArgumentException("Unknown scenario '" + name + "', expected one of " + scenarios.keySet());
+            }
+            for (int i = 0; i < weight; i++) {
+                weighted.add(scenario);
+            }
+        });
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix selects no scenario");
+        }
+
+        long start = System.nanoTime();
+        long measureFrom = start + settings.getWarmup().toNanos();
+        long end = measureFrom + settings.getDuration().toNanos();
+        log.info("Driving {} virtual users: {} warmup, {} measured, mix {}",
+                settings.getConcurrency(), settings.getWarmup(), settings.getDuration(), settings.getMix());
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.getConcurrency());
+        List<Future<Recorder>> users = new ArrayList<>();
+        for (int i = 0; i < settings.getConcurrency(); i++) {
+            users.add(executor.submit(() -> virtualUser(weighted, measureFrom, end)));
+        }
+        Recorder total = new Recorder();
+        for (Future<Recorder> user : users) {
+            total.merge(user.get());
+        }
+        executor.shutdown();
+
+        double seconds = settings.getDuration().toNanos() / 1e9;
+        List<LatencyStats> stats = new ArrayList<>();
+        total.latencies.forEach((endpoint, samples) ->
+                stats.add(LatencyStats.of(endpoint, samples.toArray(), total.errors.getOrDefault(endpoint, 0L), seconds)));
+        stats.sort((a, b) -> a.endpoint().compareTo(b.endpoint()));
+        stats.add(LatencyStats.of("TOTAL", total.all(), total.errors.values().stream().mapToLong(Long::longValue).sum(), seconds));
+        return stats;
+    }
+
+    private Recorder virtualUser(List<Scenario> weighted, long measureFrom, long end) throws Exception {
+        String token = login();
+        Recorder recorder = new Recorder();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            Scenario scenario = weighted.get(random.nextInt(weighted.size()));
+            HttpRequest request = scenario.factory().build(base, token, seed, random);
+            long sent = System.nanoTime();
+            if (sent >= end) {
+                return recorder;
+            }
+            boolean ok;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() / 100 == 2;
+            } catch (Exception e) {
+                ok = false;
+            }
+            // Counted by send time, so slow requests straddling the end of the window are not dropped
+            if (sent >= measureFrom) {
+                recorder.record(scenario.name(), System.nanoTime() - sent, ok);
+            }
+        }
+    }
+
+    private String login() throws Exception {
+        HttpRequest request = scenarios.get("login").factory().build(base, null, seed, ThreadLocalRandom.current());
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login as " + settings.getUsername() + " failed: HTTP " + response.statusCode());
+        }
+        JsonNode body = objectMapper.readTree(response.body());
+        return body.get("token").asText();
+    }
+
+    // Latency samples of one virtual user, merged after the run so recording needs no synchronization
+    private static final class Recorder {
+        private final Map<String, Samples> latencies = new HashMap<>();
+        private final Map<String, Long> errors = new HashMap<>();
+
+        void record(String endpoint, long nanos, boolean ok) {
+            latencies.computeIfAbsent(endpoint, k -> new Samples()).add(nanos);
+            if (!ok) {
+                errors.merge(endpoint, 1L, Long::sum);
+            }
+        }
+
+        void merge(Recorder other) {
+            other.latencies.forEach((endpoint, samples) -> latencies.computeIfAbsent(endpoint, k -> new Samples()).addAll(samples));
+            other.errors.forEach((endpoint, count) -> errors.merge(endpoint, count, Long::sum));
+        }
+
+        long[] all() {
+            Samples all = new Samples();
+            latencies.values().forEach(all::addAll);
+            return all.toArray();
+        }
+    }
+
+    private static final class Samples {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
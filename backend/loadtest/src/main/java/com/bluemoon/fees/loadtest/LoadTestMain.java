@@ -0,0 +1,80 @@
+package com.bluemoon.fees.loadtest;
+
+import com.bluemoon.fees.FeesApplication;
+import com.bluemoon.fees.service.SearchService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Boots FeesApplication on an embedded database, seeds it, drives the scenario mix and reports per-endpoint latency.
+//   java -jar target/loadtest.jar --loadtest.concurrency=64 --loadtest.duration=2m --loadtest.fee-payments=200000
+@Slf4j
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(FeesApplication.class)
+                .properties("spring.config.name=loadtest")
+                .run(args);
+        int exitCode = 0;
+        try {
+            LoadTestSettings settings = Binder.get(context.getEnvironment())
+                    .bindOrCreate("loadtest", Bindable.of(LoadTestSettings.class));
+            SeedData seed = new DataSeeder(context.getBean(JdbcTemplate.class), settings).seed();
+            // The index was built at startup, before the seed data existed
+            context.getBean(SearchService.class).rebuildIndex();
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            List<LatencyStats> stats = new LoadDriver(URI.create("http://localhost:" + port), settings, seed, objectMapper).run();
+
+            print(stats);
+            Path results = write(stats, settings, objectMapper);
+            log.info("Results written to {}", results.toAbsolutePath());
+            if (stats.get(stats.size() - 1).errors() > 0) {
+                exitCode = 1;
+            }
+        } catch (Exception e) {
+            log.error("Load test failed", e);
+            exitCode = 2;
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private static void print(List<LatencyStats> stats) {
+        StringBuilder table = new StringBuilder(String.format("%n%-18s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (LatencyStats s : stats) {
+            table.append(String.format("%-18s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", s.endpoint(), s.requests(),
+                    s.errors(), s.throughput(), s.p50Millis(), s.p90Millis(), s.p99Millis(), s.maxMillis()));
+        }
+        log.info("{}", table);
+    }
+
+    private static Path write(List<LatencyStats> stats, LoadTestSettings settings, ObjectMapper objectMapper) throws Exception {
+        Path dir = Path.of(settings.getResultsDir());
+        Files.createDirectories(dir);
+        Path file = dir.resolve("loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("endpoints", stats);
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        return file;
+    }
+}
@@ -0,0 +1,26 @@
+package com.bluemoon.fees.loadtest;
+
+import lombok.Data;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Bound from the "loadtest" prefix; defaults live in loadtest.properties
+@Data
+public class LoadTestSettings {
+    private int households;
+    private int residents;
+    private int feeTypes;
+    private int feePayments;
+    private int utilityServices;
+    private long randomSeed;
+
+    private int concurrency;
+    private Duration warmup;
+    private Duration duration;
+    private String username;
+    private String password;
+    private Map<String, Integer> mix = new LinkedHashMap<>();
+    private String resultsDir;
+}
@@ -0,0 +1,64 @@
+package com.bluemoon.fees.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// One scripted request a virtual user can make; the name is the endpoint label in the report
+record Scenario(String name, RequestFactory factory) {
+
+    interface RequestFactory {
+        HttpRequest build(URI base, String token, SeedData seed, ThreadLocalRandom random);
+    }
+
+    static Map<String, Scenario> all(LoadTestSettings settings) {
+        Map<String, Scenario> scenarios = new LinkedHashMap<>();
+        add(scenarios, "login", (base, token, seed, random) -> json(base, "/api/auth/login", null)
+                .POST(body("{\"username\":\"" + settings.getUsername() + "\",\"password\":\"" + settings.getPassword() + "\"}"))
+                .build());
+        add(scenarios, "dashboard", (base, token, seed, random) -> json(base, "/api/dashboard/summary?months=6", token)
+                .GET().build());
+        add(scenarios, "household-search", (base, token, seed, random) -> json(base, "/api/search?limit=20&q="
+                + encode(seed.searchTerms().get(random.nextInt(seed.searchTerms().size()))), token)
+                .GET().build());
+        add(scenarios, "household-page", (base, token, seed, random) -> json(base, "/api/households/page?size=50&page="
+                + random.nextInt(Math.max(1, seed.households() / 50)), token)
+                .GET().build());
+        add(scenarios, "payment-entry", (base, token, seed, random) -> json(base, "/api/payments", token)
+                .POST(body("{\"hoKhau\":{\"id\":" + (seed.firstHoKhauId() + random.nextInt(seed.households())) + "}," +
+                        "\"khoanThu\":{\"id\":" + seed.khoanThuIds().get(random.nextInt(seed.khoanThuIds().size())) + "}," +
+                        "\"nguoiNop\":\"Load test\",\"daXacNhan\":false}"))
+                .build());
+        add(scenarios, "payment-verify", (base, token, seed, random) -> json(base, "/api/payments/"
+                + seed.nextUnverifiedPaymentId() + "/verify", token)
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build());
+        return scenarios;
+    }
+
+    private static void add(Map<String, Scenario> scenarios, String name, RequestFactory factory) {
+        scenarios.put(name, new Scenario(name, factory));
+    }
+
+    private static HttpRequest.Builder json(URI base, String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(base.resolve(path))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private static HttpRequest.BodyPublisher body(String json) {
+        return HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
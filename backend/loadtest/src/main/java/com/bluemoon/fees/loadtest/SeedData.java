@@ -0,0 +1,15 @@
+package com.bluemoon.fees.loadtest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// What the scenarios need to know about the seeded database
+record SeedData(long firstHoKhauId, int households, List<Long> khoanThuIds, List<String> searchTerms,
+                long[] unverifiedPaymentIds, AtomicInteger nextUnverified) {
+
+    // Each verification takes a different payment, so the run never re-verifies the same row
+    long nextUnverifiedPaymentId() {
+        int index = nextUnverified.getAndIncrement();
+        return unverifiedPaymentIds[index % unverifiedPaymentIds.length];
+    }
+}
@@ -2,13 +2,17 @@ package com.bluemoon.fees;
 
 import com.bluemoon.fees.entity.User;
 import com.bluemoon.fees.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.PropertySource;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @SpringBootApplication
+@Slf4j
+@PropertySource("classpath:bluemoon-defaults.properties")
 public class FeesApplication {
     public static void main(String[] args) {
         SpringApplication.run(FeesApplication.class, args);
@@ -18,7 +22,7 @@ public class FeesApplication {
     public CommandLineRunner initializeUsers(UserRepository userRepository, PasswordEncoder passwordEncoder) {
         return args -> {
             if (userRepository.count() == 0) {
-                System.out.println("No users found, creating default admin user...");
+                log.info("No users found, creating default admin user...");
 
                 User adminUser = User.builder()
                     .username("admin")
@@ -59,9 +63,9 @@ public class FeesApplication {
                 userRepository.save(accountantUser);
                 userRepository.save(toTruongUser);
 
-                System.out.println("Default users created successfully!");
+                log.info("Default users created successfully!");
             } else {
-                System.out.println("Users already exist, skipping initialization.");
+                log.info("Users already exist, skipping initialization.");
             }
         };
     }
@@ -0,0 +1,31 @@
+package com.bluemoon.fees.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String HO_KHAU = "hoKhau";
+    public static final String KHOAN_THU = "khoanThu";
+
+    // recordStats feeds the cache.gets/cache.puts/cache.evictions metrics
+    @Value("${app.cache.spec:maximumSize=10000,expireAfterWrite=10m,recordStats}")
+    private String cacheSpec;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(HO_KHAU, KHOAN_THU);
+        cacheManager.setCaffeine(Caffeine.from(cacheSpec));
+        cacheManager.setAllowNullValues(false);
+        // Puts and evictions made inside a transaction apply after it commits, so a rollback cannot leave stale entries
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
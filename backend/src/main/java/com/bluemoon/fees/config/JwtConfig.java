@@ -2,6 +2,8 @@ package com.bluemoon.fees.config;
 
 import com.bluemoon.fees.security.JwtAuthenticationFilter;
 import com.bluemoon.fees.security.JwtService;
+import com.bluemoon.fees.security.JwtTokenCache;
+import com.bluemoon.fees.security.StreamTicketStore;
 import com.bluemoon.fees.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -12,9 +14,11 @@ import org.springframework.context.annotation.Configuration;
 public class JwtConfig {
     private final JwtService jwtService;
     private final UserService userService;
+    private final JwtTokenCache jwtTokenCache;
+    private final StreamTicketStore streamTicketStore;
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtService, userService);
+        return new JwtAuthenticationFilter(jwtService, userService, jwtTokenCache, streamTicketStore);
     }
 } 
\ No newline at end of file
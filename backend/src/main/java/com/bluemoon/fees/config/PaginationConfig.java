@@ -0,0 +1,19 @@
+package com.bluemoon.fees.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.web.config.PageableHandlerMethodArgumentResolverCustomizer;
+
+@Configuration
+public class PaginationConfig {
+
+    // Upper bound for ?size= on paged endpoints; larger requests are clamped
+    @Value("${app.pagination.max-page-size:200}")
+    private int maxPageSize;
+
+    @Bean
+    public PageableHandlerMethodArgumentResolverCustomizer pageableMaxSizeCustomizer() {
+        return resolver -> resolver.setMaxPageSize(maxPageSize);
+    }
+}
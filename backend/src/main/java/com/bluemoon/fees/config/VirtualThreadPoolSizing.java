@@ -0,0 +1,58 @@
+package com.bluemoon.fees.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// With virtual threads nothing caps concurrent requests at 200 any more; the connection pool becomes the limit.
+// The pool is fixed-size and sized for the database (2 x cores + 1, at least Hikari's default of 10), and waiting
+// for a connection is bounded so a burst is shed with 503s instead of piling up. Explicit hikari settings win.
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPoolSizing implements BeanPostProcessor {
+
+    private static final String HIKARI = "spring.datasource.hikari.";
+
+    private final Binder binder;
+    private final int maxPoolSize;
+    private final Duration connectionTimeout;
+
+    public VirtualThreadPoolSizing(Environment environment,
+                                   @Value("${app.datasource.virtual-threads.max-pool-size:0}") int maxPoolSize,
+                                   @Value("${app.datasource.virtual-threads.connection-timeout:5s}") Duration connectionTimeout) {
+        this.binder = Binder.get(environment);
+        this.maxPoolSize = maxPoolSize > 0 ? maxPoolSize : Math.max(10, 2 * Runtime.getRuntime().availableProcessors() + 1);
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            if (!isSet("maximum-pool-size")) {
+                dataSource.setMaximumPoolSize(maxPoolSize);
+            }
+            if (!isSet("minimum-idle")) {
+                dataSource.setMinimumIdle(dataSource.getMaximumPoolSize());
+            }
+            if (!isSet("connection-timeout")) {
+                dataSource.setConnectionTimeout(connectionTimeout.toMillis());
+            }
+            log.info("Virtual threads enabled: Hikari pool '{}' sized to {} connections, connection timeout {} ms",
+                    beanName, dataSource.getMaximumPoolSize(), dataSource.getConnectionTimeout());
+        }
+        return bean;
+    }
+
+    private boolean isSet(String property) {
+        return binder.bind(HIKARI + property, String.class).isBound();
+    }
+}
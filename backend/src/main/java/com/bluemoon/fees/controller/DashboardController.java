@@ -0,0 +1,25 @@
+package com.bluemoon.fees.controller;
+
+import com.bluemoon.fees.dto.DashboardSummaryDTO;
+import com.bluemoon.fees.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping("/summary")
+    public ResponseEntity<DashboardSummaryDTO> getSummary(
+            @RequestParam(required = false, defaultValue = "6") int months) {
+        log.info("Getting dashboard summary for the last {} months", months);
+        DashboardSummaryDTO summary = dashboardService.getSummary(Math.min(Math.max(months, 1), 24));
+        return ResponseEntity.ok(summary);
+    }
+}
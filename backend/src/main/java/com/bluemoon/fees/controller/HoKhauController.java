@@ -4,10 +4,15 @@ import com.bluemoon.fees.entity.HoKhau;
 import com.bluemoon.fees.entity.NhanKhau;
 import com.bluemoon.fees.entity.NopPhi;
 import com.bluemoon.fees.dto.HoKhauNhanKhauRequest;
+import com.bluemoon.fees.dto.HoKhauView;
+import com.bluemoon.fees.dto.PageResponse;
+import com.bluemoon.fees.repository.projection.PaymentStatistics;
 import com.bluemoon.fees.service.HoKhauService;
 import com.bluemoon.fees.service.NopPhiService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -24,25 +29,49 @@ public class HoKhauController {
     private final HoKhauService hoKhauService;
     private final NopPhiService nopPhiService;
 
+    // ?view=list (default) | detail | members | entity; only entity walks the lazy collections
     @GetMapping
-    public ResponseEntity<List<HoKhau>> getAllHoKhau(
-            @RequestParam(required = false, defaultValue = "false") boolean showAll) {
-        List<HoKhau> hoKhauList;
-        if (showAll) {
-            log.info("Getting all ho khau (including inactive)");
-            hoKhauList = hoKhauService.findAll();
-            log.info("Found {} ho khau", hoKhauList.size());
-        } else {
-            log.info("Getting all active ho khau");
-            hoKhauList = hoKhauService.findAllActive();
-            log.info("Found {} active ho khau", hoKhauList.size());
-        }
+    public ResponseEntity<List<?>> getAllHoKhau(
+            @RequestParam(required = false, defaultValue = "false") boolean showAll,
+            @RequestParam(required = false, defaultValue = "list") String view) {
+        HoKhauView shape = HoKhauView.from(view);
+        log.info("Getting {} ho khau (view: {})", showAll ? "all" : "active", shape);
+        List<?> hoKhauList = switch (shape) {
+            case LIST -> hoKhauService.findListItems(showAll);
+            case DETAIL, MEMBERS -> hoKhauService.findDetails(showAll, shape == HoKhauView.MEMBERS);
+            case ENTITY -> showAll ? hoKhauService.findAll() : hoKhauService.findAllActive();
+        };
+        log.info("Found {} ho khau", hoKhauList.size());
         return ResponseEntity.ok(hoKhauList);
     }
 
+    // Paged variant: ?page=&size= for offset pages, ?afterId=&size= for keyset pages
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<?>> getHoKhauPage(
+            @RequestParam(required = false, defaultValue = "false") boolean showAll,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false, defaultValue = "list") String view,
+            @PageableDefault(size = 50, sort = "id") Pageable pageable) {
+        HoKhauView shape = requireListOrEntity(view);
+        log.info("Getting ho khau page (showAll: {}, afterId: {}, pageable: {}, view: {})", showAll, afterId, pageable, shape);
+        return ResponseEntity.ok(shape == HoKhauView.ENTITY
+                ? hoKhauService.findPage(showAll, afterId, pageable)
+                : hoKhauService.findListItemPage(showAll, afterId, pageable));
+    }
+
+    // ?view=detail (default) | members | list | entity
     @GetMapping("/{id}")
-    public ResponseEntity<HoKhau> getHoKhauById(@PathVariable Long id) {
-        log.info("Getting ho khau with id: {}", id);
+    public ResponseEntity<?> getHoKhauById(
+            @PathVariable Long id,
+            @RequestParam(required = false, defaultValue = "detail") String view) {
+        HoKhauView shape = HoKhauView.from(view);
+        log.info("Getting ho khau with id: {} (view: {})", id, shape);
+        if (shape == HoKhauView.LIST) {
+            return ResponseEntity.ok(hoKhauService.getListItem(id));
+        }
+        if (shape != HoKhauView.ENTITY) {
+            return ResponseEntity.ok(hoKhauService.getDetail(id, shape == HoKhauView.MEMBERS));
+        }
         HoKhau hoKhau = hoKhauService.findById(id)
                 .orElseThrow(() -> new RuntimeException("Ho khau not found with id: " + id));
         log.info("Found ho khau: {}", hoKhau);
@@ -58,27 +87,29 @@ public class HoKhauController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<HoKhau>> searchHoKhau(
+    public ResponseEntity<List<?>> searchHoKhau(
             @RequestParam(required = false) String chuHo,
             @RequestParam(required = false) String address,
-            @RequestParam(required = false, defaultValue = "false") boolean showAll) {
-        log.info("Searching ho khau with chuHo: {}, address: {}, showAll: {}", chuHo, address, showAll);
-        List<HoKhau> hoKhauList;
+            @RequestParam(required = false, defaultValue = "false") boolean showAll,
+            @RequestParam(required = false, defaultValue = "list") String view) {
+        HoKhauView shape = requireListOrEntity(view);
+        log.info("Searching ho khau with chuHo: {}, address: {}, showAll: {}, view: {}", chuHo, address, showAll, shape);
+        boolean entity = shape == HoKhauView.ENTITY;
+        List<?> hoKhauList;
         
         if (chuHo != null && !chuHo.isEmpty()) {
-            hoKhauList = hoKhauService.searchByChuHo(chuHo);
+            hoKhauList = entity ? hoKhauService.searchByChuHo(chuHo, showAll) : hoKhauService.searchListItems(chuHo, null, showAll);
             log.info("Found {} ho khau by chu ho", hoKhauList.size());
         } else if (address != null && !address.isEmpty()) {
-            hoKhauList = hoKhauService.searchByAddress(address);
+            hoKhauList = entity ? hoKhauService.searchByAddress(address, showAll) : hoKhauService.searchListItems(null, address, showAll);
             log.info("Found {} ho khau by address", hoKhauList.size());
         } else {
-            if (showAll) {
-                hoKhauList = hoKhauService.findAll();
-                log.info("No search parameters, returning all {} ho khau", hoKhauList.size());
+            if (entity) {
+                hoKhauList = showAll ? hoKhauService.findAll() : hoKhauService.findAllActive();
             } else {
-                hoKhauList = hoKhauService.findAllActive();
-                log.info("No search parameters, returning all {} active ho khau", hoKhauList.size());
+                hoKhauList = hoKhauService.findListItems(showAll);
             }
+            log.info("No search parameters, returning {} ho khau (showAll: {})", hoKhauList.size(), showAll);
         }
         
         return ResponseEntity.ok(hoKhauList);
@@ -164,19 +195,19 @@ public class HoKhauController {
         log.info("Getting statistics for ho khau with id: {}", id);
         
         // Ensure the ho khau exists
-        hoKhauService.findById(id)
-                .orElseThrow(() -> new RuntimeException("Ho khau not found with id: " + id));
+        if (!hoKhauService.existsById(id)) {
+            throw new RuntimeException("Ho khau not found with id: " + id);
+        }
         
-        // Get payment statistics
-        double totalPaid = nopPhiService.calculateTotalPaymentsByHoKhau(id);
-        List<NopPhi> payments = nopPhiService.findByHoKhau(id);
-        long verifiedCount = payments.stream().filter(NopPhi::isDaXacNhan).count();
-        double verifiedPercentage = payments.isEmpty() ? 0 : (verifiedCount * 100.0) / payments.size();
+        // Get payment statistics in a single aggregate query
+        PaymentStatistics stats = nopPhiService.getStatisticsByHoKhau(id);
+        double verifiedPercentage = stats.getPaymentCount() == 0 ? 0
+                : (stats.getVerifiedCount() * 100.0) / stats.getPaymentCount();
         
         Map<String, Object> statistics = Map.of(
-            "totalPayments", payments.size(),
-            "totalPaid", totalPaid,
-            "verifiedCount", verifiedCount,
+            "totalPayments", stats.getPaymentCount(),
+            "totalPaid", stats.getVerifiedAmount(),
+            "verifiedCount", stats.getVerifiedCount(),
             "verifiedPercentage", verifiedPercentage
         );
         
@@ -230,4 +261,12 @@ public class HoKhauController {
         log.info("Nhan khau removed successfully. Total members: {}", updatedHoKhau.getSoThanhVien());
         return ResponseEntity.ok(updatedHoKhau);
     }
-}
\ No newline at end of file
+    
+    private static HoKhauView requireListOrEntity(String view) {
+        HoKhauView shape = HoKhauView.from(view);
+        if (shape != HoKhauView.LIST && shape != HoKhauView.ENTITY) {
+            throw new IllegalArgumentException("view=" + view + " is only available on /api/households and /api/households/{id}");
+        }
+        return shape;
+    }
+}
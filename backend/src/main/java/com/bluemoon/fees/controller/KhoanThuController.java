@@ -1,10 +1,20 @@
 package com.bluemoon.fees.controller;
 
+import com.bluemoon.fees.dto.LevyJobDTO;
+import com.bluemoon.fees.dto.OverdueHouseholdDTO;
+import com.bluemoon.fees.dto.PageResponse;
 import com.bluemoon.fees.entity.KhoanThu;
+import com.bluemoon.fees.repository.projection.PaymentStatistics;
+import com.bluemoon.fees.service.FeeLevyService;
 import com.bluemoon.fees.service.KhoanThuService;
 import com.bluemoon.fees.service.NopPhiService;
+import com.bluemoon.fees.service.OverdueFeeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +31,8 @@ public class KhoanThuController {
 
     private final KhoanThuService khoanThuService;
     private final NopPhiService nopPhiService;
+    private final FeeLevyService feeLevyService;
+    private final OverdueFeeService overdueFeeService;
 
     @GetMapping
     public ResponseEntity<List<KhoanThu>> getAllKhoanThu(
@@ -55,6 +67,23 @@ public class KhoanThuController {
         return ResponseEntity.ok(khoanThuService.findOverdueKhoanThu());
     }
 
+    // Households that have not paid an overdue mandatory fee, from the snapshot rebuilt by the overdue job;
+    // sortable by thoiHan, soTien, khoanThuId, hoKhauId
+    @GetMapping("/overdue/households")
+    public ResponseEntity<PageResponse<OverdueHouseholdDTO>> getOverdueHouseholds(
+            @RequestParam(required = false) Long khoanThuId,
+            @RequestParam(required = false) Long hoKhauId,
+            @PageableDefault(size = 50, sort = {"thoiHan", "khoanThuId", "hoKhauId"}, direction = Sort.Direction.ASC) Pageable pageable) {
+        return ResponseEntity.ok(overdueFeeService.findOverdueHouseholds(khoanThuId, hoKhauId, pageable));
+    }
+
+    // Rebuilds the snapshot now instead of waiting for the scheduled run
+    @PostMapping("/overdue/refresh")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('KE_TOAN')")
+    public ResponseEntity<Map<String, Object>> refreshOverdueHouseholds() {
+        return ResponseEntity.ok(Map.of("unpaidCount", overdueFeeService.refreshSnapshot()));
+    }
+
     @PostMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('KE_TOAN')")
     public ResponseEntity<KhoanThu> createKhoanThu(@RequestBody KhoanThu khoanThu) {
@@ -93,19 +122,31 @@ public class KhoanThuController {
         return ResponseEntity.ok().build();
     }
     
+    // Creates an unpaid NopPhi for every active household that has none for this fee; runs in the background
+    @PostMapping("/{id}/levy")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('KE_TOAN')")
+    public ResponseEntity<LevyJobDTO> levyKhoanThu(@PathVariable Long id) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(feeLevyService.startLevy(id));
+    }
+    
+    @GetMapping("/levy-jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('KE_TOAN')")
+    public ResponseEntity<LevyJobDTO> getLevyJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(feeLevyService.getJob(jobId));
+    }
+    
     @GetMapping("/{id}/statistics")
     public ResponseEntity<Map<String, Object>> getKhoanThuStatistics(@PathVariable Long id) {
         // Ensure the khoanThu exists
         KhoanThu khoanThu = khoanThuService.findById(id)
                 .orElseThrow(() -> new RuntimeException("Khoan thu not found with id: " + id));
         
-        // Get payment statistics
-        double totalCollected = nopPhiService.calculateTotalPaymentsByKhoanThu(id);
-        long totalPayments = nopPhiService.findByKhoanThu(id).size();
+        // Get payment statistics in a single aggregate query
+        PaymentStatistics stats = nopPhiService.getStatisticsByKhoanThu(id);
         
         Map<String, Object> statistics = Map.of(
-            "totalPayments", totalPayments,
-            "totalCollected", totalCollected,
+            "totalPayments", stats.getPaymentCount(),
+            "totalCollected", stats.getVerifiedAmount(),
             "soTien", khoanThu.getSoTien(),
             "tenKhoanThu", khoanThu.getTenKhoanThu()
         );
@@ -1,9 +1,12 @@
 package com.bluemoon.fees.controller;
 
+import com.bluemoon.fees.dto.PageResponse;
 import com.bluemoon.fees.entity.LichSuHoKhau;
 import com.bluemoon.fees.service.LichSuHoKhauService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -43,6 +46,22 @@ public class LichSuHoKhauController {
         }
     }
 
+    // Paged variant: ?page=&size= for offset pages, ?afterId=&size= for keyset pages
+    @GetMapping("/page")
+    public ResponseEntity<?> getLichSuHoKhauPage(
+            @RequestParam(required = false) Long afterId,
+            @PageableDefault(size = 50, sort = "id") Pageable pageable) {
+        log.info("Getting lich su ho khau page (afterId: {}, pageable: {})", afterId, pageable);
+        try {
+            PageResponse<Map<String, Object>> result = lichSuHoKhauService.findPage(afterId, pageable)
+                    .map(this::convertToMap);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            log.error("Error fetching household history page: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest().body("Error fetching records: " + e.getMessage());
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getLichSuHoKhauById(@PathVariable Long id) {
         log.info("Getting lich su ho khau with id: {}", id);
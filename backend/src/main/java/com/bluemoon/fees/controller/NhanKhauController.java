@@ -1,9 +1,12 @@
 package com.bluemoon.fees.controller;
 
+import com.bluemoon.fees.dto.PageResponse;
 import com.bluemoon.fees.entity.NhanKhau;
 import com.bluemoon.fees.service.NhanKhauService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -46,6 +49,22 @@ public class NhanKhauController {
         }
     }
 
+    // Paged variant: ?page=&size= for offset pages, ?afterId=&size= for keyset pages
+    @GetMapping("/page")
+    public ResponseEntity<?> getNhanKhauPage(
+            @RequestParam(required = false) Long afterId,
+            @PageableDefault(size = 50, sort = "id") Pageable pageable) {
+        log.info("Getting nhan khau page (afterId: {}, pageable: {})", afterId, pageable);
+        try {
+            PageResponse<Map<String, Object>> result = nhanKhauService.findPage(afterId, pageable)
+                    .map(this::convertNhanKhauToMap);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            log.error("Error fetching nhan khau page: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest().body("Error fetching records: " + e.getMessage());
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getNhanKhauById(@PathVariable Long id) {
         log.info("Getting nhan khau with id: {}", id);
@@ -1,18 +1,27 @@
 package com.bluemoon.fees.controller;
 
-import com.bluemoon.fees.entity.HoKhau;
-import com.bluemoon.fees.entity.KhoanThu;
+import com.bluemoon.fees.dto.KhoanThuSummary;
+import com.bluemoon.fees.dto.PageResponse;
+import com.bluemoon.fees.dto.PaymentVerificationRequest;
+import com.bluemoon.fees.dto.PaymentVerificationResult;
 import com.bluemoon.fees.entity.NopPhi;
-import com.bluemoon.fees.repository.HoKhauRepository;
-import com.bluemoon.fees.repository.KhoanThuRepository;
+import com.bluemoon.fees.service.HoKhauService;
+import com.bluemoon.fees.service.KhoanThuService;
 import com.bluemoon.fees.service.NopPhiService;
+import com.bluemoon.fees.service.PaymentExportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -24,8 +33,9 @@ import java.util.Map;
 public class NopPhiController {
 
     private final NopPhiService nopPhiService;
-    private final HoKhauRepository hoKhauRepository;
-    private final KhoanThuRepository khoanThuRepository;
+    private final HoKhauService hoKhauService;
+    private final KhoanThuService khoanThuService;
+    private final PaymentExportService paymentExportService;
 
     @GetMapping
     public ResponseEntity<List<NopPhi>> getAllNopPhi() {
@@ -35,6 +45,34 @@ public class NopPhiController {
         return ResponseEntity.ok(payments);
     }
 
+    // Paged variant: ?page=&size= for offset pages, ?afterId=&size= for keyset pages
+    @GetMapping("/page")
+    public ResponseEntity<PageResponse<NopPhi>> getNopPhiPage(
+            @RequestParam(required = false) Long afterId,
+            @PageableDefault(size = 50, sort = "id") Pageable pageable) {
+        log.info("Getting payments page (afterId: {}, pageable: {})", afterId, pageable);
+        return ResponseEntity.ok(nopPhiService.findPage(afterId, pageable));
+    }
+
+    // Streams every payment as NDJSON or CSV without loading the full list into memory
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('KE_TOAN')")
+    public ResponseEntity<StreamingResponseBody> exportNopPhi(
+            @RequestParam(required = false, defaultValue = "ndjson") String format) {
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            return ResponseEntity.badRequest().build();
+        }
+        log.info("Exporting payments as {}", csv ? "csv" : "ndjson");
+        StreamingResponseBody body = csv ? paymentExportService::exportCsv : paymentExportService::exportNdjson;
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"payments." + (csv ? "csv" : "ndjson") + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<NopPhi> getNopPhiById(@PathVariable Long id) {
         log.info("Getting payment with id: {}", id);
@@ -83,17 +121,13 @@ public class NopPhiController {
     public ResponseEntity<NopPhi> createNopPhi(@RequestBody NopPhi nopPhi) {
         log.info("Creating new payment: {}", nopPhi);
         
-        // Validate and load household and fee
+        // Validate household and fee against the cached headers; the service loads the entities once
         if (nopPhi.getHoKhau() != null && nopPhi.getHoKhau().getId() != null) {
-            HoKhau hoKhau = hoKhauRepository.findById(nopPhi.getHoKhau().getId())
-                .orElseThrow(() -> new RuntimeException("Household not found with id: " + nopPhi.getHoKhau().getId()));
-            nopPhi.setHoKhau(hoKhau);
+            hoKhauService.getSummary(nopPhi.getHoKhau().getId());
         }
         
         if (nopPhi.getKhoanThu() != null && nopPhi.getKhoanThu().getId() != null) {
-            KhoanThu khoanThu = khoanThuRepository.findById(nopPhi.getKhoanThu().getId())
-                .orElseThrow(() -> new RuntimeException("Fee not found with id: " + nopPhi.getKhoanThu().getId()));
-            nopPhi.setKhoanThu(khoanThu);
+            KhoanThuSummary khoanThu = khoanThuService.getSummary(nopPhi.getKhoanThu().getId());
             
             // Set default values from the fee if not provided
             if (nopPhi.getTongTien() == null || nopPhi.getTongTien() <= 0) {
@@ -165,6 +199,23 @@ public class NopPhiController {
         return ResponseEntity.ok().build();
     }
 
+    // Bulk variants: explicit ids or a filter, flipped with chunked set-based updates
+    @PostMapping("/verify-batch")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('KE_TOAN')")
+    public ResponseEntity<PaymentVerificationResult> verifyNopPhiBatch(@RequestBody PaymentVerificationRequest request) {
+        log.info("Batch verifying payments - ids: {}, khoanThuId: {}, startDate: {}, endDate: {}",
+                request.getIds() != null ? request.getIds().size() : 0, request.getKhoanThuId(), request.getStartDate(), request.getEndDate());
+        return ResponseEntity.ok(nopPhiService.setVerification(request, true));
+    }
+
+    @PostMapping("/unverify-batch")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('KE_TOAN')")
+    public ResponseEntity<PaymentVerificationResult> unverifyNopPhiBatch(@RequestBody PaymentVerificationRequest request) {
+        log.info("Batch unverifying payments - ids: {}, khoanThuId: {}, startDate: {}, endDate: {}",
+                request.getIds() != null ? request.getIds().size() : 0, request.getKhoanThuId(), request.getStartDate(), request.getEndDate());
+        return ResponseEntity.ok(nopPhiService.setVerification(request, false));
+    }
+
     @GetMapping("/statistics")
     public ResponseEntity<Map<String, Object>> getNopPhiStatistics(
             @RequestParam(required = false) Long hoKhauId,
@@ -188,8 +239,7 @@ public class NopPhiController {
             filterType = "dateRange";
         } else {
             // Default: total of all payments
-            List<NopPhi> allPayments = nopPhiService.findAll();
-            totalAmount = allPayments.stream().mapToDouble(NopPhi::getSoTien).sum();
+            totalAmount = nopPhiService.calculateTotalPayments();
             filterType = "all";
         }
         
@@ -1,14 +1,22 @@
 package com.bluemoon.fees.controller;
 
 import com.bluemoon.fees.dto.NotificationDTO;
-import com.bluemoon.fees.entity.Notification;
+import com.bluemoon.fees.exception.ResourceNotFoundException;
+import com.bluemoon.fees.notification.NotificationBroadcaster;
+import com.bluemoon.fees.security.StreamTicketStore;
 import com.bluemoon.fees.service.NotificationService;
+import com.bluemoon.fees.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -16,13 +24,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class NotificationController {
 
+    public static final String STREAM_PATH = "/api/notifications/stream";
+    // Set by JwtAuthenticationFilter when it redeems a stream ticket
+    public static final String STREAM_USER_ID_ATTRIBUTE = "com.bluemoon.fees.notifications.streamUserId";
+
     private final NotificationService notificationService;
+    private final NotificationBroadcaster notificationBroadcaster;
+    private final UserService userService;
+    private final StreamTicketStore streamTicketStore;
 
+    // Unread notifications addressed to the signed-in user or to everyone
     @GetMapping
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<NotificationDTO>> getNotifications() {
-        List<NotificationDTO> notifications = notificationService.getUnreadNotifications().stream()
-                .map(this::convertToDTO)
+    @PreAuthorize("hasAnyRole('ADMIN', 'TO_TRUONG', 'KE_TOAN')")
+    public ResponseEntity<List<NotificationDTO>> getNotifications(@AuthenticationPrincipal UserDetails principal) {
+        List<NotificationDTO> notifications = notificationService.getUnreadNotifications(currentUserId(principal)).stream()
+                .map(NotificationDTO::from)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(notifications);
     }
@@ -31,34 +47,42 @@ public class NotificationController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<NotificationDTO>> getUserNotifications(@PathVariable Long userId) {
         List<NotificationDTO> notifications = notificationService.getUserNotifications(userId).stream()
-                .map(this::convertToDTO)
+                .map(NotificationDTO::from)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(notifications);
     }
 
     @GetMapping("/unread/count")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Long> getUnreadCount() {
-        return ResponseEntity.ok(notificationService.getUnreadCount());
+    @PreAuthorize("hasAnyRole('ADMIN', 'TO_TRUONG', 'KE_TOAN')")
+    public ResponseEntity<Long> getUnreadCount(@AuthenticationPrincipal UserDetails principal) {
+        return ResponseEntity.ok(notificationService.getUnreadCount(currentUserId(principal)));
+    }
+
+    // Exchanged for the JWT (sent as a header) right before opening the stream; valid once and for a few seconds
+    @PostMapping("/stream-ticket")
+    @PreAuthorize("hasAnyRole('ADMIN', 'TO_TRUONG', 'KE_TOAN')")
+    public ResponseEntity<Map<String, String>> issueStreamTicket(@AuthenticationPrincipal UserDetails principal) {
+        return ResponseEntity.ok(Map.of("ticket", streamTicketStore.issue(principal, currentUserId(principal))));
+    }
+
+    // Push channel replacing polling, opened with ?ticket=. The request stays open for the stream's lifetime and is
+    // excluded from open-session-in-view (WebMvcConfig), so it holds no database connection while idle.
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'TO_TRUONG', 'KE_TOAN')")
+    public SseEmitter streamNotifications(@RequestAttribute(STREAM_USER_ID_ATTRIBUTE) Long userId) {
+        return notificationBroadcaster.subscribe(userId);
     }
 
     @PutMapping("/{id}/read")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Void> markAsRead(@PathVariable Long id) {
-        notificationService.markAsRead(id);
+    @PreAuthorize("hasAnyRole('ADMIN', 'TO_TRUONG', 'KE_TOAN')")
+    public ResponseEntity<Void> markAsRead(@PathVariable Long id, @AuthenticationPrincipal UserDetails principal) {
+        notificationService.markAsRead(id, currentUserId(principal));
         return ResponseEntity.ok().build();
     }
-    
-    private NotificationDTO convertToDTO(Notification notification) {
-        return NotificationDTO.builder()
-                .id(notification.getId())
-                .title(notification.getTitle())
-                .message(notification.getMessage())
-                .entityType(notification.getEntityType().toString())
-                .entityId(notification.getEntityId())
-                .createdAt(notification.getCreatedAt())
-                .read(notification.isRead())
-                .userId(notification.getUser() != null ? notification.getUser().getId() : null)
-                .build();
+
+    private Long currentUserId(UserDetails principal) {
+        return userService.findByUsername(principal.getUsername())
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", principal.getUsername()))
+                .getId();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.bluemoon.fees.controller;
+
+import com.bluemoon.fees.entity.ParkingTariff;
+import com.bluemoon.fees.service.ParkingTariffService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/parking-tariffs")
+@RequiredArgsConstructor
+public class ParkingTariffController {
+
+    private final ParkingTariffService parkingTariffService;
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'TO_TRUONG', 'KE_TOAN')")
+    public ResponseEntity<List<ParkingTariff>> getAllTariffs() {
+        return ResponseEntity.ok(parkingTariffService.findAll());
+    }
+
+    // Rates are never edited in place: a new rate takes over from its effective date, keeping past months' prices
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN') or hasRole('KE_TOAN')")
+    public ResponseEntity<ParkingTariff> createTariff(@RequestBody ParkingTariff tariff) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(parkingTariffService.createTariff(tariff));
+    }
+}
@@ -0,0 +1,38 @@
+package com.bluemoon.fees.controller;
+
+import com.bluemoon.fees.dto.SearchResultDTO;
+import com.bluemoon.fees.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Slf4j
+public class SearchController {
+
+    private final SearchService searchService;
+
+    // One box for households, residents and vehicles; accents optional ("nguyen van duc" finds "Nguyễn Văn Đức")
+    @GetMapping
+    public ResponseEntity<List<SearchResultDTO>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Set<String> type,
+            @RequestParam(required = false, defaultValue = "20") int limit) {
+        return ResponseEntity.ok(searchService.search(q, type, Math.min(Math.max(limit, 1), 100)));
+    }
+
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> rebuildIndex() {
+        log.info("Rebuilding search index");
+        return ResponseEntity.ok(Map.of("documents", searchService.rebuildIndex()));
+    }
+}
@@ -1,5 +1,7 @@
 package com.bluemoon.fees.controller;
 
+import com.bluemoon.fees.dto.PageResponse;
+import com.bluemoon.fees.dto.TamTruTamVangDTO;
 import com.bluemoon.fees.entity.TamTruTamVang;
 import com.bluemoon.fees.entity.NhanKhau;
 import com.bluemoon.fees.service.TamTruTamVangService;
@@ -16,8 +18,6 @@ import org.springframework.data.web.PageableDefault;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Map;
 
 @RestController
@@ -29,219 +29,51 @@ public class TamTruTamVangController {
     private final TamTruTamVangService tamTruTamVangService;
     private final NhanKhauService nhanKhauService;
 
-    // Modified to support pagination and avoid serialization issues
+    // Paged list, filterable by trangThai and a thoiGian range (inclusive); the person's name comes from a join,
+    // so a page is one query plus its count
     @GetMapping
-    public ResponseEntity<?> getAllTamTruTamVang(
-            @PageableDefault(size = 50) Pageable pageable) {
-        log.info("Getting all tam tru tam vang records with pagination: {}", pageable);
-        try {
-            List<TamTruTamVang> records = tamTruTamVangService.findAll(pageable).getContent();
-            log.info("Found {} tam tru tam vang records", records.size());
-            
-            List<Map<String, Object>> result = new ArrayList<>();
-            
-            // Convert to simple map structure to avoid serialization issues
-            for (TamTruTamVang record : records) {
-                Map<String, Object> item = new HashMap<>();
-                item.put("id", record.getId());
-                item.put("trangThai", record.getTrangThai() != null ? record.getTrangThai().toString() : null);
-                item.put("diaChiTamTruTamVang", record.getDiaChiTamTruTamVang());
-                item.put("thoiGian", record.getThoiGian());
-                item.put("noiDungDeNghi", record.getNoiDungDeNghi());
-                
-                // Add person information safely
-                if (record.getNhanKhau() != null) {
-                    try {
-                        item.put("nhanKhauId", record.getNhanKhau().getId());
-                        item.put("hoTen", record.getNhanKhau().getHoTen());
-                    } catch (Exception e) {
-                        log.warn("Error loading related entity data for record {}: {}", record.getId(), e.getMessage());
-                        item.put("nhanKhauId", null);
-                        item.put("hoTen", "Unknown");
-                    }
-                } else {
-                    item.put("nhanKhauId", null);
-                    item.put("hoTen", null);
-                }
-                
-                result.add(item);
-            }
-            
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            log.error("Error fetching temporary residence records: {}", e.getMessage(), e);
-            return ResponseEntity.badRequest().body("Error fetching records: " + e.getMessage());
-        }
+    public ResponseEntity<PageResponse<TamTruTamVangDTO>> getAllTamTruTamVang(
+            @RequestParam(required = false) TamTruTamVang.TrangThai trangThai,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @PageableDefault(size = 50, sort = "id") Pageable pageable) {
+        log.info("Getting tam tru tam vang records (trangThai={}, {} to {}) with pagination: {}", trangThai, startDate, endDate, pageable);
+        return ResponseEntity.ok(tamTruTamVangService.findRecords(trangThai, startDate, endDate, pageable));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getTamTruTamVangById(@PathVariable Long id) {
+    public ResponseEntity<TamTruTamVangDTO> getTamTruTamVangById(@PathVariable Long id) {
         log.info("Getting tam tru tam vang with id: {}", id);
-        try {
-            TamTruTamVang record = tamTruTamVangService.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Record not found with id: " + id));
-            
-            Map<String, Object> result = new HashMap<>();
-            result.put("id", record.getId());
-            result.put("trangThai", record.getTrangThai() != null ? record.getTrangThai().toString() : null);
-            result.put("diaChiTamTruTamVang", record.getDiaChiTamTruTamVang());
-            result.put("thoiGian", record.getThoiGian());
-            result.put("noiDungDeNghi", record.getNoiDungDeNghi());
-            
-            // Add person information safely
-            if (record.getNhanKhau() != null) {
-                try {
-                    result.put("nhanKhauId", record.getNhanKhau().getId());
-                    result.put("hoTen", record.getNhanKhau().getHoTen());
-                } catch (Exception e) {
-                    log.warn("Error loading related entity data for record {}: {}", record.getId(), e.getMessage());
-                    result.put("nhanKhauId", null);
-                    result.put("hoTen", "Unknown");
-                }
-            }
-            
-            return ResponseEntity.ok(result);
-        } catch (EntityNotFoundException e) {
-            return ResponseEntity.notFound().build();
-        } catch (Exception e) {
-            log.error("Error fetching record with id {}: {}", id, e.getMessage(), e);
-            return ResponseEntity.badRequest().body("Error fetching record: " + e.getMessage());
-        }
+        return tamTruTamVangService.findRecordById(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @GetMapping("/trang-thai/{trangThai}")
-    public ResponseEntity<?> getTamTruTamVangByTrangThai(
+    public ResponseEntity<List<TamTruTamVangDTO>> getTamTruTamVangByTrangThai(
             @PathVariable TamTruTamVang.TrangThai trangThai) {
         log.info("Getting tam tru tam vang with trang thai: {}", trangThai);
-        try {
-            List<TamTruTamVang> records = tamTruTamVangService.findByTrangThai(trangThai);
-            log.info("Found {} records", records.size());
-            
-            List<Map<String, Object>> result = new ArrayList<>();
-            
-            // Convert to simple map structure to avoid serialization issues
-            for (TamTruTamVang record : records) {
-                Map<String, Object> item = new HashMap<>();
-                item.put("id", record.getId());
-                item.put("trangThai", record.getTrangThai() != null ? record.getTrangThai().toString() : null);
-                item.put("diaChiTamTruTamVang", record.getDiaChiTamTruTamVang());
-                item.put("thoiGian", record.getThoiGian());
-                item.put("noiDungDeNghi", record.getNoiDungDeNghi());
-                
-                // Add person information safely
-                if (record.getNhanKhau() != null) {
-                    try {
-                        item.put("nhanKhauId", record.getNhanKhau().getId());
-                        item.put("hoTen", record.getNhanKhau().getHoTen());
-                    } catch (Exception e) {
-                        item.put("nhanKhauId", null);
-                        item.put("hoTen", "Unknown");
-                    }
-                } else {
-                    item.put("nhanKhauId", null);
-                    item.put("hoTen", null);
-                }
-                
-                result.add(item);
-            }
-            
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            log.error("Error fetching records by trang thai {}: {}", trangThai, e.getMessage(), e);
-            return ResponseEntity.badRequest().body("Error fetching records: " + e.getMessage());
-        }
+        return ResponseEntity.ok(tamTruTamVangService.findRecords(trangThai, null, null));
     }
 
     @GetMapping("/nhan-khau/{nhanKhauId}")
-    public ResponseEntity<?> getTamTruTamVangByNhanKhau(@PathVariable Long nhanKhauId) {
+    public ResponseEntity<List<TamTruTamVangDTO>> getTamTruTamVangByNhanKhau(@PathVariable Long nhanKhauId) {
         log.info("Getting tam tru tam vang for nhan khau with id: {}", nhanKhauId);
-        try {
-            List<TamTruTamVang> records = tamTruTamVangService.findByNhanKhauId(nhanKhauId);
-            log.info("Found {} records", records.size());
-            
-            List<Map<String, Object>> result = new ArrayList<>();
-            
-            // Convert to simple map structure to avoid serialization issues
-            for (TamTruTamVang record : records) {
-                Map<String, Object> item = new HashMap<>();
-                item.put("id", record.getId());
-                item.put("trangThai", record.getTrangThai() != null ? record.getTrangThai().toString() : null);
-                item.put("diaChiTamTruTamVang", record.getDiaChiTamTruTamVang());
-                item.put("thoiGian", record.getThoiGian());
-                item.put("noiDungDeNghi", record.getNoiDungDeNghi());
-                
-                // Add person information safely
-                if (record.getNhanKhau() != null) {
-                    try {
-                        item.put("nhanKhauId", record.getNhanKhau().getId());
-                        item.put("hoTen", record.getNhanKhau().getHoTen());
-                    } catch (Exception e) {
-                        item.put("nhanKhauId", nhanKhauId);
-                        item.put("hoTen", "Unknown");
-                    }
-                } else {
-                    item.put("nhanKhauId", nhanKhauId);
-                    item.put("hoTen", null);
-                }
-                
-                result.add(item);
-            }
-            
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            log.error("Error fetching records by nhan khau id {}: {}", nhanKhauId, e.getMessage(), e);
-            return ResponseEntity.badRequest().body("Error fetching records: " + e.getMessage());
-        }
+        return ResponseEntity.ok(tamTruTamVangService.findRecordsByNhanKhauId(nhanKhauId));
     }
 
     @GetMapping("/person/{personId}")
-    public ResponseEntity<?> getTamTruTamVangByPersonId(@PathVariable Long personId) {
+    public ResponseEntity<List<TamTruTamVangDTO>> getTamTruTamVangByPersonId(@PathVariable Long personId) {
         log.info("Getting tam tru tam vang for person with id: {}", personId);
         return getTamTruTamVangByNhanKhau(personId); // Reuse existing implementation
     }
 
     @GetMapping("/thoi-gian-range")
-    public ResponseEntity<?> getTamTruTamVangByThoiGianRange(
+    public ResponseEntity<List<TamTruTamVangDTO>> getTamTruTamVangByThoiGianRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         log.info("Getting tam tru tam vang with thoi gian between {} and {}", startDate, endDate);
-        try {
-            List<TamTruTamVang> records = tamTruTamVangService.findByThoiGianRange(startDate, endDate);
-            log.info("Found {} records", records.size());
-            
-            List<Map<String, Object>> result = new ArrayList<>();
-            
-            // Convert to simple map structure to avoid serialization issues
-            for (TamTruTamVang record : records) {
-                Map<String, Object> item = new HashMap<>();
-                item.put("id", record.getId());
-                item.put("trangThai", record.getTrangThai() != null ? record.getTrangThai().toString() : null);
-                item.put("diaChiTamTruTamVang", record.getDiaChiTamTruTamVang());
-                item.put("thoiGian", record.getThoiGian());
-                item.put("noiDungDeNghi", record.getNoiDungDeNghi());
-                
-                // Add person information safely
-                if (record.getNhanKhau() != null) {
-                    try {
-                        item.put("nhanKhauId", record.getNhanKhau().getId());
-                        item.put("hoTen", record.getNhanKhau().getHoTen());
-                    } catch (Exception e) {
-                        item.put("nhanKhauId", null);
-                        item.put("hoTen", "Unknown");
-                    }
-                } else {
-                    item.put("nhanKhauId", null);
-                    item.put("hoTen", null);
-                }
-                
-                result.add(item);
-            }
-            
-            return ResponseEntity.ok(result);
-        } catch (Exception e) {
-            log.error("Error fetching records by date range from {} to {}: {}", startDate, endDate, e.getMessage(), e);
-            return ResponseEntity.badRequest().body("Error fetching records: " + e.getMessage());
-        }
+        return ResponseEntity.ok(tamTruTamVangService.findRecords(null, startDate, endDate));
     }
 
     @PostMapping
@@ -282,23 +114,7 @@ public class TamTruTamVangController {
             TamTruTamVang created = tamTruTamVangService.createTamTruTamVang(tamTruTamVang);
             log.info("Created tam tru tam vang with id: {}", created.getId());
             
-            // Return simplified response
-            Map<String, Object> result = new HashMap<>();
-            result.put("id", created.getId());
-            result.put("trangThai", created.getTrangThai() != null ? created.getTrangThai().toString() : null);
-            result.put("diaChiTamTruTamVang", created.getDiaChiTamTruTamVang());
-            result.put("thoiGian", created.getThoiGian());
-            result.put("noiDungDeNghi", created.getNoiDungDeNghi());
-            
-            if (created.getNhanKhau() != null) {
-                result.put("nhanKhauId", created.getNhanKhau().getId());
-                result.put("hoTen", created.getNhanKhau().getHoTen());
-            } else {
-                result.put("nhanKhauId", null);
-                result.put("hoTen", null);
-            }
-            
-            return ResponseEntity.ok(result);
+            return ResponseEntity.ok(TamTruTamVangDTO.from(created));
         } catch (Exception e) {
             log.error("Error creating record: {}", e.getMessage(), e);
             return ResponseEntity.badRequest().body("Error creating record: " + e.getMessage());
@@ -350,23 +166,7 @@ public class TamTruTamVangController {
             TamTruTamVang updated = tamTruTamVangService.updateTamTruTamVang(id, tamTruTamVang);
             log.info("Updated tam tru tam vang: {}", updated);
             
-            // Return simplified response
-            Map<String, Object> result = new HashMap<>();
-            result.put("id", updated.getId());
-            result.put("trangThai", updated.getTrangThai() != null ? updated.getTrangThai().toString() : null);
-            result.put("diaChiTamTruTamVang", updated.getDiaChiTamTruTamVang());
-            result.put("thoiGian", updated.getThoiGian());
-            result.put("noiDungDeNghi", updated.getNoiDungDeNghi());
-            
-            if (updated.getNhanKhau() != null) {
-                result.put("nhanKhauId", updated.getNhanKhau().getId());
-                result.put("hoTen", updated.getNhanKhau().getHoTen());
-            } else {
-                result.put("nhanKhauId", null);
-                result.put("hoTen", null);
-            }
-            
-            return ResponseEntity.ok(result);
+            return ResponseEntity.ok(TamTruTamVangDTO.from(updated));
         } catch (EntityNotFoundException e) {
             return ResponseEntity.notFound().build();
         } catch (Exception e) {
@@ -1,9 +1,15 @@
 package com.bluemoon.fees.controller;
 
+import com.bluemoon.fees.dto.OutstandingBalanceDTO;
+import com.bluemoon.fees.dto.PageResponse;
 import com.bluemoon.fees.dto.UtilityPaymentDTO;
 import com.bluemoon.fees.dto.UtilityPaymentRequest;
+import com.bluemoon.fees.service.HouseholdBalanceService;
 import com.bluemoon.fees.service.UtilityPaymentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -20,6 +26,7 @@ import java.util.List;
 public class UtilityPaymentController {
 
     private final UtilityPaymentService utilityPaymentService;
+    private final HouseholdBalanceService householdBalanceService;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','TO_TRUONG', 'KE_TOAN')")
@@ -28,6 +35,27 @@ public class UtilityPaymentController {
         return ResponseEntity.ok(payments);
     }
 
+    // Paged variant: ?page=&size= for offset pages, ?afterId=&size= for keyset pages
+    @GetMapping("/page")
+    @PreAuthorize("hasAnyRole('ADMIN','TO_TRUONG', 'KE_TOAN')")
+    public ResponseEntity<PageResponse<UtilityPaymentDTO>> getUtilityPaymentsPage(
+            @RequestParam(required = false) Long afterId,
+            @PageableDefault(size = 50, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(utilityPaymentService.getUtilityPaymentsPage(afterId, pageable));
+    }
+
+    // Households with an outstanding balance, read from the household_balance ledger; sortable by
+    // outstanding, utilityCharged, utilityPaid, feeCharged, feePaid, unpaidBills, thang, nam, hoKhauId
+    @GetMapping("/outstanding")
+    @PreAuthorize("hasAnyRole('ADMIN','TO_TRUONG', 'KE_TOAN')")
+    public ResponseEntity<PageResponse<OutstandingBalanceDTO>> getOutstandingBalances(
+            @RequestParam(required = false) Integer thang,
+            @RequestParam(required = false) Integer nam,
+            @RequestParam(required = false) Long hoKhauId,
+            @PageableDefault(size = 50, sort = "outstanding", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(householdBalanceService.findOutstanding(thang, nam, hoKhauId, pageable));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN','TO_TRUONG', 'KE_TOAN')")
     public ResponseEntity<UtilityPaymentDTO> getUtilityPaymentById(@PathVariable Long id) {
@@ -1,20 +1,27 @@
 package com.bluemoon.fees.controller;
 
+import com.bluemoon.fees.dto.BulkUtilityServiceResult;
+import com.bluemoon.fees.dto.UtilityRepriceResult;
 import com.bluemoon.fees.dto.UtilityServiceDTO;
 import com.bluemoon.fees.dto.UtilityServiceRequest;
 import com.bluemoon.fees.service.UtilityServiceService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/utility-services")
 @RequiredArgsConstructor
 @CrossOrigin(origins = "*")
+@Slf4j
 public class UtilityServiceController {
 
     private final UtilityServiceService utilityServiceService;    @GetMapping
@@ -67,7 +74,7 @@ public class UtilityServiceController {
     }@PostMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'TO_TRUONG')")
     public ResponseEntity<UtilityServiceDTO> createUtilityService(@Valid @RequestBody UtilityServiceRequest request) {
-        System.out.println("Request received - tongTien: " + request.getTongTien());
+        log.debug("Request received - tongTien: {}", request.getTongTien());
         UtilityServiceDTO createdService = utilityServiceService.createUtilityService(request);
         return ResponseEntity.ok(createdService);
     }    @PutMapping("/{id}")
@@ -75,7 +82,7 @@ public class UtilityServiceController {
     public ResponseEntity<UtilityServiceDTO> updateUtilityService(
             @PathVariable Long id,
             @Valid @RequestBody UtilityServiceRequest request) {
-        System.out.println("Update request received for ID " + id + " - tongTien: " + request.getTongTien());
+        log.debug("Update request received for ID {} - tongTien: {}", id, request.getTongTien());
         UtilityServiceDTO updatedService = utilityServiceService.updateUtilityService(id, request);
         return ResponseEntity.ok(updatedService);
     }    @DeleteMapping("/{id}")
@@ -124,4 +131,28 @@ public class UtilityServiceController {
         UtilityServiceDTO service = utilityServiceService.createUtilityService(request);
         return ResponseEntity.ok(List.of(service));
     }
+
+    // Re-applies the current tariff versions to a month's unpaid metered DIEN/NUOC bills, e.g. after a tariff change
+    @PostMapping("/reprice")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('KE_TOAN')")
+    public ResponseEntity<UtilityRepriceResult> repriceMonth(@RequestParam Integer thang, @RequestParam Integer nam) {
+        return ResponseEntity.ok(utilityServiceService.repriceMonth(thang, nam));
+    }
+
+    // Month-end billing run: all readings in one request, validated in memory and inserted in JDBC batches
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('ADMIN', 'TO_TRUONG')")
+    public ResponseEntity<BulkUtilityServiceResult> createUtilityServicesBulk(
+            @RequestBody List<UtilityServiceRequest> requests) {
+        return ResponseEntity.ok(utilityServiceService.createUtilityServicesBulk(requests));
+    }
+
+    @PostMapping(value = "/bulk/csv", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'TO_TRUONG')")
+    public ResponseEntity<BulkUtilityServiceResult> importUtilityServicesCsv(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) Integer thang,
+            @RequestParam(required = false) Integer nam) throws IOException {
+        return ResponseEntity.ok(utilityServiceService.importUtilityServicesCsv(file.getInputStream(), thang, nam));
+    }
 }
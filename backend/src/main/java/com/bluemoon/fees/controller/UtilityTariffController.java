@@ -0,0 +1,34 @@
+package com.bluemoon.fees.controller;
+
+import com.bluemoon.fees.dto.UtilityTariffRequest;
+import com.bluemoon.fees.entity.UtilityTariffTier;
+import com.bluemoon.fees.service.UtilityTariffService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/utility-tariffs")
+@RequiredArgsConstructor
+public class UtilityTariffController {
+
+    private final UtilityTariffService utilityTariffService;
+
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'TO_TRUONG', 'KE_TOAN')")
+    public ResponseEntity<List<UtilityTariffTier>> getAllTiers() {
+        return ResponseEntity.ok(utilityTariffService.findAll());
+    }
+
+    // New readings use the version from its effective month on; existing bills change only when repriced
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN') or hasRole('KE_TOAN')")
+    public ResponseEntity<List<UtilityTariffTier>> createVersion(@Valid @RequestBody UtilityTariffRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(utilityTariffService.createVersion(request));
+    }
+}
@@ -1,17 +1,23 @@
 package com.bluemoon.fees.controller;
 
+import com.bluemoon.fees.dto.PageResponse;
 import com.bluemoon.fees.dto.VehicleDTO;
 import com.bluemoon.fees.dto.VehicleRequest;
 import com.bluemoon.fees.dto.HouseholdVehicleFeeDTO;
+import com.bluemoon.fees.dto.HouseholdParkingFeeDTO;
 import com.bluemoon.fees.service.VehicleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +48,15 @@ public class VehicleController {
         }
     }
     
+    // Paged variant: ?page=&size= for offset pages, ?afterId=&size= for keyset pages
+    @GetMapping("/page")
+    @PreAuthorize("hasAnyRole('ADMIN', 'TO_TRUONG', 'KE_TOAN')")
+    public ResponseEntity<PageResponse<VehicleDTO>> getVehiclesPage(
+            @RequestParam(required = false) Long afterId,
+            @PageableDefault(size = 50, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(vehicleService.getVehiclesPage(afterId, pageable));
+    }
+    
     @GetMapping("/household/{hoKhauId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'TO_TRUONG', 'KE_TOAN')")
     public ResponseEntity<List<VehicleDTO>> getVehiclesByHousehold(@PathVariable Long hoKhauId) {
@@ -152,12 +167,20 @@ public class VehicleController {
         }
     }
     
+    // Every household's monthly parking fee; ?date= prices at the rates effective on that day (default today)
+    @GetMapping("/parking-fees")
+    @PreAuthorize("hasAnyRole('ADMIN', 'TO_TRUONG', 'KE_TOAN')")
+    public ResponseEntity<List<HouseholdParkingFeeDTO>> calculateAllParkingFees(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(vehicleService.calculateAllMonthlyParkingFees(date != null ? date : LocalDate.now()));
+    }
+    
     @GetMapping("/statistics")
     @PreAuthorize("hasAnyRole('ADMIN', 'TO_TRUONG', 'KE_TOAN')")
     public ResponseEntity<Map<String, Object>> getVehicleStatistics() {
         try {
             Map<String, Object> statistics = new HashMap<>();
-            statistics.put("totalVehicles", vehicleService.getAllVehicles().size());
+            statistics.put("totalVehicles", vehicleService.countVehicles());
             statistics.put("motorcycles", vehicleService.countVehiclesByType("XE_MAY"));
             statistics.put("cars", vehicleService.countVehiclesByType("OTO"));
             
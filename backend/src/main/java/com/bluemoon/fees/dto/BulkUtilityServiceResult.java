@@ -0,0 +1,31 @@
+package com.bluemoon.fees.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUtilityServiceResult {
+    private int received;
+    private int created;
+    private int rejected;
+    private double totalAmount;
+    private List<RowError> errors;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        // 1-based position in the submitted list (or CSV data row)
+        private int row;
+        private Long hoKhauId;
+        private String loaiDichVu;
+        private String message;
+    }
+}
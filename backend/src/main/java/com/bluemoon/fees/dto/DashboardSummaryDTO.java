@@ -0,0 +1,129 @@
+package com.bluemoon.fees.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSummaryDTO {
+    private long totalHouseholds;
+    private long totalFees;
+    private long mandatoryFees;
+    private long voluntaryFees;
+    private long totalPayments;
+    private long verifiedPayments;
+    private long unverifiedPayments;
+    private double totalCollected;
+    private double totalVerifiedCollected;
+    private double totalMandatoryCollected;
+    private double totalVoluntaryCollected;
+    private int collectionRate;
+    private int verificationRate;
+    
+    // Household figures for the tổ trưởng dashboard; totalHouseholds above counts active ones only
+    private long inactiveHouseholds;
+    private long totalPeople;
+    private long householdsWithPhoneNumber;
+    private long householdsWithEmail;
+    
+    // Breakdown by mandatory (batBuoc = true) vs voluntary fees
+    private List<FeeTypeSummary> feeTypes;
+    
+    // Breakdown by household size bucket (1, 2-3, 4-5, 6+ members)
+    private List<HouseholdSizeSummary> householdSizes;
+    
+    // Collected amount per month, oldest first
+    private List<MonthlySummary> monthlyTotals;
+    
+    // Collected amount per fee, largest first
+    private List<FeeSummary> feeTotals;
+    
+    // Households that paid the most, largest first
+    private List<TopHouseholdSummary> topHouseholds;
+    
+    // Latest payments and latest households, newest first
+    private List<RecentPaymentSummary> recentPayments;
+    private List<HoKhauListItem> recentHouseholds;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FeeTypeSummary {
+        private boolean batBuoc;
+        private long feeCount;
+        private long paymentCount;
+        private long verifiedCount;
+        private double totalAmount;
+        private double verifiedAmount;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HouseholdSizeSummary {
+        private String name;
+        private long householdCount;
+        private long paymentCount;
+        private double totalAmount;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MonthlySummary {
+        private int thang;
+        private int nam;
+        private double mandatory;
+        private double voluntary;
+        private double amount;
+        private long paymentCount;
+        // Payments of the month against active households times active fees due that month
+        private int collectionRate;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FeeSummary {
+        private Long khoanThuId;
+        private String tenKhoanThu;
+        private double totalAmount;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TopHouseholdSummary {
+        private Long hoKhauId;
+        private String chuHo;
+        private double totalAmount;
+        private LocalDate lastPayment;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RecentPaymentSummary {
+        private Long id;
+        private Long hoKhauId;
+        private String chuHo;
+        private Long khoanThuId;
+        private String tenKhoanThu;
+        private LocalDate ngayNop;
+        private double soTien;
+        private boolean daXacNhan;
+    }
+}
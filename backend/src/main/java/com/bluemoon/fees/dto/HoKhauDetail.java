@@ -0,0 +1,64 @@
+package com.bluemoon.fees.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Household with the size of each child collection, counted by correlated subqueries in the same statement
+@Data
+@NoArgsConstructor
+public class HoKhauDetail {
+    private Long id;
+    private String soHoKhau;
+    private String chuHo;
+    private String address;
+    private String soNha;
+    private String duong;
+    private String phuong;
+    private String quan;
+    private Integer soThanhVien;
+    private String soDienThoai;
+    private String email;
+    private LocalDate ngayLamHoKhau;
+    private boolean hoatDong;
+
+    private long memberCount;
+    private long vehicleCount;
+    private long feePaymentCount;
+    private long utilityServiceCount;
+    private long utilityPaymentCount;
+    private long historyCount;
+
+    // Only filled for view=members
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<NhanKhauBrief> members;
+
+    // Used by the JPQL constructor expression in HoKhauRepository
+    public HoKhauDetail(Long id, String soHoKhau, String chuHo, String address, String soNha, String duong,
+                        String phuong, String quan, Integer soThanhVien, String soDienThoai, String email,
+                        LocalDate ngayLamHoKhau, boolean hoatDong, Long memberCount, Long vehicleCount,
+                        Long feePaymentCount, Long utilityServiceCount, Long utilityPaymentCount, Long historyCount) {
+        this.id = id;
+        this.soHoKhau = soHoKhau;
+        this.chuHo = chuHo;
+        this.address = address;
+        this.soNha = soNha;
+        this.duong = duong;
+        this.phuong = phuong;
+        this.quan = quan;
+        this.soThanhVien = soThanhVien;
+        this.soDienThoai = soDienThoai;
+        this.email = email;
+        this.ngayLamHoKhau = ngayLamHoKhau;
+        this.hoatDong = hoatDong;
+        this.memberCount = memberCount;
+        this.vehicleCount = vehicleCount;
+        this.feePaymentCount = feePaymentCount;
+        this.utilityServiceCount = utilityServiceCount;
+        this.utilityPaymentCount = utilityPaymentCount;
+        this.historyCount = historyCount;
+    }
+}
@@ -0,0 +1,27 @@
+package com.bluemoon.fees.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// One household row, built by a JPQL constructor query so no child collection is ever touched
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoKhauListItem {
+    private Long id;
+    private String soHoKhau;
+    private String chuHo;
+    private String address;
+    private String soNha;
+    private String duong;
+    private String phuong;
+    private String quan;
+    private Integer soThanhVien;
+    private String soDienThoai;
+    private String email;
+    private LocalDate ngayLamHoKhau;
+    private boolean hoatDong;
+}
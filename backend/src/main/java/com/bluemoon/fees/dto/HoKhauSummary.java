@@ -0,0 +1,19 @@
+package com.bluemoon.fees.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Household header kept in the "hoKhau" cache; safe to hold outside a persistence context
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoKhauSummary {
+    private Long id;
+    private String soHoKhau;
+    private String chuHo;
+    private String address;
+    private boolean hoatDong;
+}
@@ -0,0 +1,22 @@
+package com.bluemoon.fees.dto;
+
+import java.util.Locale;
+
+// Shape of a household response, selected with ?view= on the household endpoints
+public enum HoKhauView {
+    LIST,       // scalar columns only
+    DETAIL,     // scalar columns plus the size of every child collection
+    MEMBERS,    // DETAIL plus the members of the household
+    ENTITY;     // the full HoKhau entity, as returned before views existed
+
+    public static HoKhauView from(String value) {
+        if (value == null || value.isBlank()) {
+            return LIST;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown view '" + value + "', expected one of: list, detail, members, entity");
+        }
+    }
+}
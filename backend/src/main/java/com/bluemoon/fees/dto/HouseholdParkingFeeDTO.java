@@ -0,0 +1,18 @@
+package com.bluemoon.fees.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HouseholdParkingFeeDTO {
+    private Long hoKhauId;
+    private String soHoKhau;
+    private String chuHo;
+    private long totalVehicleCount;
+    private long motorcycleCount;
+    private long carCount;
+    private double monthlyParkingFee;
+}
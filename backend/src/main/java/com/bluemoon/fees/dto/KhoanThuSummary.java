@@ -0,0 +1,22 @@
+package com.bluemoon.fees.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// Fee catalog entry kept in the "khoanThu" cache
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KhoanThuSummary {
+    private Long id;
+    private String tenKhoanThu;
+    private Boolean batBuoc;
+    private Double soTien;
+    private LocalDate thoiHan;
+    private boolean hoatDong;
+}
@@ -0,0 +1,26 @@
+package com.bluemoon.fees.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class LevyJobDTO {
+    private String jobId;
+    private Long khoanThuId;
+    private String tenKhoanThu;
+    private String trangThai; // DANG_CHAY, HOAN_THANH, THAT_BAI
+    private int totalHouseholds;
+    private int processedHouseholds;
+    private int createdCount;
+    private int skippedCount;
+    private String error;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
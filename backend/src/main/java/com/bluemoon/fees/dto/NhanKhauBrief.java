@@ -0,0 +1,25 @@
+package com.bluemoon.fees.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// Member row for the household members view
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NhanKhauBrief {
+    private Long id;
+    @JsonIgnore
+    private Long hoKhauId;
+    private String hoTen;
+    private LocalDate ngaySinh;
+    private String gioiTinh;
+    private String cccd;
+    private String ngheNghiep;
+    private String quanHeVoiChuHo;
+    private LocalDate ngayThemNhanKhau;
+}
@@ -1,5 +1,6 @@
 package com.bluemoon.fees.dto;
 
+import com.bluemoon.fees.entity.Notification;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,4 +21,17 @@ public class NotificationDTO {
     private LocalDateTime createdAt;
     private boolean read;
     private Long userId;
+
+    public static NotificationDTO from(Notification notification) {
+        return NotificationDTO.builder()
+                .id(notification.getId())
+                .title(notification.getTitle())
+                .message(notification.getMessage())
+                .entityType(notification.getEntityType().toString())
+                .entityId(notification.getEntityId())
+                .createdAt(notification.getCreatedAt())
+                .read(notification.isRead())
+                .userId(notification.getUser() != null ? notification.getUser().getId() : null)
+                .build();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.bluemoon.fees.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutstandingBalanceDTO {
+    private Long hoKhauId;
+    private String soHoKhau;
+    private String chuHo;
+    private Integer thang;
+    private Integer nam;
+    private double utilityCharged;
+    private double utilityPaid;
+    private double feeCharged;
+    private double feePaid;
+    private int unpaidBills;
+    private double outstanding;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,22 @@
+package com.bluemoon.fees.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OverdueHouseholdDTO {
+    private Long hoKhauId;
+    private String soHoKhau;
+    private String chuHo;
+    private Long khoanThuId;
+    private String tenKhoanThu;
+    private double soTien;
+    private LocalDate thoiHan;
+    private LocalDateTime computedAt;
+}
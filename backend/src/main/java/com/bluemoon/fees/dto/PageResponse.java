@@ -0,0 +1,92 @@
+package com.bluemoon.fees.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Response envelope shared by all paged list endpoints.
+ * <p>
+ * Offset mode ({@code ?page=&size=}) fills {@code page}, {@code totalElements} and {@code totalPages}.
+ * Keyset mode ({@code ?afterId=&size=}) skips the count query and leaves them null; clients pass
+ * {@code nextCursor} back as {@code afterId} to fetch the following page.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponse<T> {
+    private List<T> content;
+    private Integer page;
+    private int size;
+    private Long totalElements;
+    private Integer totalPages;
+    private boolean hasNext;
+    private Long nextCursor;
+
+    public static <T> PageResponse<T> of(Page<T> page, Function<T, Long> idOf) {
+        List<T> content = page.getContent();
+        return PageResponse.<T>builder()
+                .content(content)
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .hasNext(page.hasNext())
+                .nextCursor(content.isEmpty() ? null : idOf.apply(content.get(content.size() - 1)))
+                .build();
+    }
+
+    /**
+     * Offset-only page, for endpoints whose rows have no id to continue from; {@code nextCursor} stays null.
+     */
+    public static <T> PageResponse<T> of(Page<T> page) {
+        return PageResponse.<T>builder()
+                .content(page.getContent())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .hasNext(page.hasNext())
+                .build();
+    }
+
+    public static <T> PageResponse<T> of(Slice<T> slice, Function<T, Long> idOf) {
+        List<T> content = slice.getContent();
+        return PageResponse.<T>builder()
+                .content(content)
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .nextCursor(content.isEmpty() ? null : idOf.apply(content.get(content.size() - 1)))
+                .build();
+    }
+
+    /**
+     * Keyset pages always read the first page of {@code id > afterId} ordered by id.
+     */
+    public static Pageable keysetRequest(Pageable pageable) {
+        return PageRequest.of(0, pageable.getPageSize(), Sort.by(Sort.Direction.ASC, "id"));
+    }
+
+    public <R> PageResponse<R> map(Function<T, R> mapper) {
+        return PageResponse.<R>builder()
+                .content(content.stream().map(mapper).collect(Collectors.toList()))
+                .page(page)
+                .size(size)
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.bluemoon.fees.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Selects the payments of a batch verify/unverify: either explicit ids, or a filter over payments
+// still in the opposite state (fee and/or ngayNop range)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentVerificationRequest {
+    private List<Long> ids;
+    private Long khoanThuId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+}
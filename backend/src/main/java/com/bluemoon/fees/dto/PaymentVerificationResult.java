@@ -0,0 +1,29 @@
+package com.bluemoon.fees.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentVerificationResult {
+    private boolean daXacNhan;
+    private int requested;
+    private int updated;
+    private int unchanged;
+    private int notFound;
+    private List<Item> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long id;
+        private String status; // UPDATED, UNCHANGED, NOT_FOUND
+    }
+}
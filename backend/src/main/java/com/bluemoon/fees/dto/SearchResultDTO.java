@@ -0,0 +1,19 @@
+package com.bluemoon.fees.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultDTO {
+    private String type; // HO_KHAU, NHAN_KHAU, XE
+    private Long id;
+    private Long hoKhauId;
+    private String title;
+    private String subtitle;
+    private int score;
+}
@@ -0,0 +1,28 @@
+package com.bluemoon.fees.dto;
+
+import com.bluemoon.fees.entity.TamTruTamVang;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// One temporary residence/absence record with its person's id and name, built by a JPQL constructor query
+// that joins nhanKhau, so listing never initializes a proxy per row
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TamTruTamVangDTO {
+    private Long id;
+    private TamTruTamVang.TrangThai trangThai;
+    private String diaChiTamTruTamVang;
+    private LocalDate thoiGian;
+    private String noiDungDeNghi;
+    private Long nhanKhauId;
+    private String hoTen;
+
+    public static TamTruTamVangDTO from(TamTruTamVang record) {
+        return new TamTruTamVangDTO(record.getId(), record.getTrangThai(), record.getDiaChiTamTruTamVang(),
+                record.getThoiGian(), record.getNoiDungDeNghi(), record.getNhanKhauId(), record.getHoTen());
+    }
+}
@@ -0,0 +1,20 @@
+package com.bluemoon.fees.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UtilityRepriceResult {
+    private int thang;
+    private int nam;
+    // Unpaid metered DIEN/NUOC bills of the month that have a tariff version
+    private int priced;
+    // Bills whose amount changed and were written back
+    private int updated;
+    private double totalAmount;
+}
@@ -0,0 +1,39 @@
+package com.bluemoon.fees.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// A new tariff version: tiers in ascending order, each with its cumulative upper bound (omitted on the last tier)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UtilityTariffRequest {
+
+    @NotBlank(message = "Loại dịch vụ không được để trống")
+    private String loaiDichVu;
+
+    @NotNull(message = "Ngày hiệu lực không được để trống")
+    private LocalDate hieuLucTu;
+
+    @NotEmpty(message = "Biểu giá phải có ít nhất một bậc")
+    @Valid
+    private List<Tier> tiers;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Tier {
+        private Double gioiHan;
+
+        @NotNull(message = "Đơn giá không được để trống")
+        private Double donGia;
+    }
+}
@@ -0,0 +1,42 @@
+package com.bluemoon.fees.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// Amount a household owes for a fee, created when the fee is levied on all households. Kept apart from nop_phi, which
+// holds only real payments; nopPhiId is set when a payment for the same household and fee settles it.
+@Entity
+@Table(name = "fee_obligation", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_fee_obligation_khoan_thu_ho_khau", columnNames = {"khoan_thu_id", "ho_khau_id"})
+}, indexes = {
+    @Index(name = "idx_fee_obligation_ho_khau", columnList = "ho_khau_id"),
+    @Index(name = "idx_fee_obligation_nop_phi", columnList = "nop_phi_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeeObligation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "ho_khau_id", nullable = false)
+    private Long hoKhauId;
+
+    @Column(name = "khoan_thu_id", nullable = false)
+    private Long khoanThuId;
+
+    // Fee amount (KhoanThu.soTien) when levied
+    @Column(name = "so_tien", nullable = false)
+    private double soTien;
+
+    @Column(name = "ngay_phat_sinh", nullable = false)
+    private LocalDate ngayPhatSinh;
+
+    @Column(name = "nop_phi_id")
+    private Long nopPhiId;
+}
@@ -0,0 +1,63 @@
+package com.bluemoon.fees.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Per-household monthly ledger, refreshed by HouseholdBalanceService whenever utility bills, utility payments or
+// fee payments of that household and month change. A fee and all of its payments are booked in the month the fee is
+// charged: when its levy obligation was raised, or else the date of its first payment.
+@Entity
+@Table(name = "household_balance", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_household_balance_ho_khau_thang_nam", columnNames = {"ho_khau_id", "thang", "nam"})
+}, indexes = {
+    @Index(name = "idx_household_balance_nam_thang_outstanding", columnList = "nam, thang, outstanding"),
+    @Index(name = "idx_household_balance_outstanding", columnList = "outstanding")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HouseholdBalance {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "ho_khau_id", nullable = false)
+    private Long hoKhauId;
+
+    @Column(name = "thang", nullable = false)
+    private Integer thang;
+
+    @Column(name = "nam", nullable = false)
+    private Integer nam;
+
+    // Sum of utility bills (tongTien) issued for the month
+    @Column(name = "utility_charged", nullable = false)
+    private double utilityCharged;
+
+    // Sum of successful utility payments (THANH_CONG) for the month
+    @Column(name = "utility_paid", nullable = false)
+    private double utilityPaid;
+
+    // Fees charged in the month, once per household and fee: the levy obligation, or else the first payment's tongTien
+    @Column(name = "fee_charged", nullable = false)
+    private double feeCharged;
+
+    // Verified payments (soTien) of the fees charged in the month, whatever their own date
+    @Column(name = "fee_paid", nullable = false)
+    private double feePaid;
+
+    // Utility bills still marked CHUA_THANH_TOAN
+    @Column(name = "unpaid_bills", nullable = false)
+    private int unpaidBills;
+
+    // (utilityCharged - utilityPaid) + (feeCharged - feePaid); negative when overpaid
+    @Column(name = "outstanding", nullable = false)
+    private double outstanding;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,24 @@
+package com.bluemoon.fees.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Cluster-wide guard for a background job: one row per job, held FOR UPDATE by the instance running it
+@Entity
+@Table(name = "job_lock")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobLock {
+    @Id
+    @Column(name = "job_name", length = 64)
+    private String jobName;
+
+    // When the last run took the lock
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+}
@@ -15,7 +15,9 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "lich_su_ho_khau")
+@Table(name = "lich_su_ho_khau", indexes = {
+    @Index(name = "idx_lich_su_ho_khau_thoi_gian", columnList = "thoi_gian")
+})
 @JsonIdentityInfo(
   generator = ObjectIdGenerators.PropertyGenerator.class, 
   property = "id",
@@ -13,7 +13,12 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "nop_phi")
+@Table(name = "nop_phi", indexes = {
+    @Index(name = "idx_nop_phi_ho_khau_khoan_thu", columnList = "ho_khau_id, khoan_thu_id"),
+    @Index(name = "idx_nop_phi_khoan_thu_xac_nhan", columnList = "khoan_thu_id, da_xac_nhan"),
+    @Index(name = "idx_nop_phi_ngay_nop", columnList = "ngay_nop"),
+    @Index(name = "idx_nop_phi_da_xac_nhan", columnList = "da_xac_nhan")
+})
 @ToString(exclude = {"hoKhau", "khoanThu"})
 @JsonIdentityInfo(
   generator = ObjectIdGenerators.PropertyGenerator.class, 
@@ -0,0 +1,42 @@
+package com.bluemoon.fees.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Snapshot of the unpaid matrix: one row per active household without a verified payment for an overdue mandatory
+// fee. Rebuilt fee by fee by OverdueFeeService on a schedule, so it lags payments until the next run.
+@Entity
+@Table(name = "overdue_fee", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_overdue_fee_khoan_thu_ho_khau", columnNames = {"khoan_thu_id", "ho_khau_id"})
+}, indexes = {
+    @Index(name = "idx_overdue_fee_ho_khau", columnList = "ho_khau_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OverdueFee {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "ho_khau_id", nullable = false)
+    private Long hoKhauId;
+
+    @Column(name = "khoan_thu_id", nullable = false)
+    private Long khoanThuId;
+
+    // Fee amount (KhoanThu.soTien) at the time of the run
+    @Column(name = "so_tien", nullable = false)
+    private double soTien;
+
+    @Column(name = "thoi_han", nullable = false)
+    private LocalDate thoiHan;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,42 @@
+package com.bluemoon.fees.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Monthly parking rate for a vehicle type, effective from hieuLucTu until the next rate of the same type
+@Entity
+@Table(name = "parking_tariff", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_parking_tariff_loai_xe_hieu_luc_tu", columnNames = {"loai_xe", "hieu_luc_tu"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParkingTariff {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "loai_xe", nullable = false, length = 20)
+    private VehicleType loaiXe;
+
+    // VND per vehicle per month
+    @Column(name = "muc_phi", nullable = false)
+    private Double mucPhi;
+
+    @Column(name = "hieu_luc_tu", nullable = false)
+    private LocalDate hieuLucTu;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -15,7 +15,9 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "tam_tru_tam_vang")
+@Table(name = "tam_tru_tam_vang", indexes = {
+    @Index(name = "idx_tam_tru_tam_vang_thoi_gian", columnList = "thoi_gian")
+})
 @JsonIdentityInfo(
   generator = ObjectIdGenerators.PropertyGenerator.class, 
   property = "id",
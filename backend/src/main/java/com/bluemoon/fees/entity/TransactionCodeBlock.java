@@ -0,0 +1,22 @@
+package com.bluemoon.fees.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Hi/lo state for transaction codes: one row per code prefix (e.g. UT20261017), next_val is the first
+// sequence number not yet reserved by any node
+@Entity
+@Table(name = "transaction_code_block")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionCodeBlock {
+    @Id
+    @Column(name = "code_prefix", length = 32)
+    private String codePrefix;
+
+    @Column(name = "next_val", nullable = false)
+    private Long nextVal;
+}
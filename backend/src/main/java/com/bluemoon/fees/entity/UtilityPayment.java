@@ -12,7 +12,11 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "utility_payment")
+@Table(name = "utility_payment", indexes = {
+    @Index(name = "idx_utility_payment_ho_khau_thang_nam", columnList = "ho_khau_id, thang, nam"),
+    @Index(name = "uk_utility_payment_ma_giao_dich", columnList = "ma_giao_dich", unique = true),
+    @Index(name = "idx_utility_payment_ngay_thanh_toan", columnList = "ngay_thanh_toan")
+})
 public class UtilityPayment {
     
     @Id
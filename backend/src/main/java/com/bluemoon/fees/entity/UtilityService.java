@@ -11,11 +11,17 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "utility_service")
+@Table(name = "utility_service", indexes = {
+    @Index(name = "idx_utility_service_ho_khau_loai_thang_nam", columnList = "ho_khau_id, loai_dich_vu, thang, nam"),
+    @Index(name = "idx_utility_service_ho_khau_nam_thang", columnList = "ho_khau_id, nam, thang"),
+    @Index(name = "idx_utility_service_nam_thang", columnList = "nam, thang")
+})
 public class UtilityService {
     
+    // Sequence ids (pooled in blocks of 50) so bulk billing runs can use JDBC insert batching
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "utility_service_seq")
+    @SequenceGenerator(name = "utility_service_seq", sequenceName = "utility_service_seq", allocationSize = 50)
     private Long id;
       @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ho_khau_id")
@@ -69,6 +75,10 @@ public class UtilityService {
     @Column(name = "don_vi_tinh")
     private String donViTinh; // Đơn vị tính cho phí dịch vụ
     
+    // tongTien was computed from the reading by the tiered tariff, so repricing may overwrite it
+    @Column(name = "theo_bieu_gia", nullable = false)
+    private boolean theoBieuGia;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
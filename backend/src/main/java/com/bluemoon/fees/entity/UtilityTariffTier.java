@@ -0,0 +1,40 @@
+package com.bluemoon.fees.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// One tier of a tiered utility tariff (DIEN/NUOC). The tiers sharing loaiDichVu and hieuLucTu form one tariff version,
+// which prices readings of billing months starting on or after hieuLucTu until the next version.
+@Entity
+@Table(name = "utility_tariff_tier", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_utility_tariff_tier_loai_hieu_luc_bac", columnNames = {"loai_dich_vu", "hieu_luc_tu", "bac"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UtilityTariffTier {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "loai_dich_vu", nullable = false, length = 20)
+    private String loaiDichVu;
+
+    @Column(name = "hieu_luc_tu", nullable = false)
+    private LocalDate hieuLucTu;
+
+    // 1-based tier number
+    @Column(name = "bac", nullable = false)
+    private Integer bac;
+
+    // Cumulative upper bound of the tier in units (kWh, m3); null for the last, unbounded tier
+    @Column(name = "gioi_han")
+    private Double gioiHan;
+
+    @Column(name = "don_gia", nullable = false)
+    private Double donGia;
+}
@@ -11,7 +11,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "vehicle")
+@Table(name = "vehicle", indexes = {
+    @Index(name = "idx_vehicle_loai_xe", columnList = "loai_xe")
+})
 public class Vehicle {
     
     @Id
@@ -0,0 +1,56 @@
+package com.bluemoon.fees.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Business event counters, exported next to the technical metrics.
+ */
+@Component
+public class DomainMetrics {
+
+    private final Counter paymentsCreated;
+    private final Counter paymentsVerified;
+    private final Counter feeObligationsLevied;
+    private final Counter utilityBillsIssued;
+    private final Counter utilityPaymentsCreated;
+
+    public DomainMetrics(MeterRegistry meterRegistry) {
+        this.paymentsCreated = Counter.builder("bluemoon.payments.created")
+                .description("Fee payments (NopPhi) recorded")
+                .register(meterRegistry);
+        this.paymentsVerified = Counter.builder("bluemoon.payments.verified")
+                .description("Fee payments moved to verified")
+                .register(meterRegistry);
+        this.feeObligationsLevied = Counter.builder("bluemoon.fees.obligations.levied")
+                .description("Unpaid fee rows created by levy jobs")
+                .register(meterRegistry);
+        this.utilityBillsIssued = Counter.builder("bluemoon.utility.bills.issued")
+                .description("Utility service charges issued, single and bulk")
+                .register(meterRegistry);
+        this.utilityPaymentsCreated = Counter.builder("bluemoon.utility.payments.created")
+                .description("Utility payments recorded")
+                .register(meterRegistry);
+    }
+
+    public void paymentCreated() {
+        paymentsCreated.increment();
+    }
+
+    public void paymentsVerified(int count) {
+        paymentsVerified.increment(count);
+    }
+
+    public void feeObligationsLevied(int count) {
+        feeObligationsLevied.increment(count);
+    }
+
+    public void utilityBillsIssued(int count) {
+        utilityBillsIssued.increment(count);
+    }
+
+    public void utilityPaymentCreated() {
+        utilityPaymentsCreated.increment();
+    }
+}
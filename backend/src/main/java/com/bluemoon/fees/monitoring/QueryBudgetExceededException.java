@@ -0,0 +1,8 @@
+package com.bluemoon.fees.monitoring;
+
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,137 @@
+package com.bluemoon.fees.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+
+/**
+ * Counts the SQL work done for each request, reports it as X-Query-Count / X-Entity-Load-Count /
+ * X-Collection-Load-Count headers and Micrometer summaries, and flags statements repeated often enough to look like N+1.
+ * Headers are written when the response commits, so loads triggered later during serialization only reach the metrics.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    // 0 disables the budget; with fail=true an over-budget request throws (meant for integration tests)
+    @Value("${app.query-budget.max-statements:0}")
+    private int maxStatements;
+
+    @Value("${app.query-budget.fail:false}")
+    private boolean failOnBudgetExceeded;
+
+    @Value("${app.query-budget.n-plus-one-threshold:10}")
+    private int nPlusOneThreshold;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        QueryCounter.Counts counts = QueryCounter.start();
+        CountHeadersResponse wrapped = new CountHeadersResponse(response, counts);
+        try {
+            filterChain.doFilter(request, wrapped);
+            wrapped.writeCountHeaders();
+        } finally {
+            QueryCounter.stop();
+        }
+        report(request, counts);
+    }
+
+    private void report(HttpServletRequest request, QueryCounter.Counts counts) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        summary("hibernate.request.statements", uri, method).record(counts.getStatements());
+        summary("hibernate.request.entity.loads", uri, method).record(counts.getEntityLoads());
+        summary("hibernate.request.collection.loads", uri, method).record(counts.getCollectionLoads());
+
+        for (Map.Entry<String, Integer> entry : counts.getStatementCounts().entrySet()) {
+            if (entry.getValue() >= nPlusOneThreshold) {
+                meterRegistry.counter("hibernate.request.n_plus_one", "uri", uri, "method", method).increment();
+                log.warn("Possible N+1 on {} {}: statement executed {} times: {}", method, uri, entry.getValue(), entry.getKey());
+            }
+        }
+
+        if (maxStatements > 0 && counts.getStatements() > maxStatements) {
+            String message = String.format("%s %s executed %d SQL statements, budget is %d",
+                    method, uri, counts.getStatements(), maxStatements);
+            if (failOnBudgetExceeded) {
+                throw new QueryBudgetExceededException(message);
+            }
+            log.warn(message);
+        }
+    }
+
+    private DistributionSummary summary(String name, String uri, String method) {
+        return DistributionSummary.builder(name)
+                .tag("uri", uri)
+                .tag("method", method)
+                .register(meterRegistry);
+    }
+
+    // Adds the count headers just before the body starts, while headers can still be set
+    private static class CountHeadersResponse extends HttpServletResponseWrapper {
+
+        private final QueryCounter.Counts counts;
+        private boolean headersWritten;
+
+        CountHeadersResponse(HttpServletResponse response, QueryCounter.Counts counts) {
+            super(response);
+            this.counts = counts;
+        }
+
+        void writeCountHeaders() {
+            if (headersWritten || isCommitted()) {
+                return;
+            }
+            headersWritten = true;
+            setHeader("X-Query-Count", String.valueOf(counts.getStatements()));
+            setHeader("X-Entity-Load-Count", String.valueOf(counts.getEntityLoads()));
+            setHeader("X-Collection-Load-Count", String.valueOf(counts.getCollectionLoads()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeCountHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeCountHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeCountHeaders();
+            super.flushBuffer();
+        }
+    }
+}
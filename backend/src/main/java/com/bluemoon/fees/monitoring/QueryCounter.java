@@ -0,0 +1,76 @@
+package com.bluemoon.fees.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-thread tally of the SQL statements, entity loads and lazy collection loads issued while serving one request.
+ * Counting only happens between {@link #start()} and {@link #stop()}; work on other threads is not attributed.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static Counts start() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    public static Counts current() {
+        return CURRENT.get();
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    static void recordStatement(String sql) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.statements++;
+            counts.statementCounts.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    static void recordEntityLoad() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.entityLoads++;
+        }
+    }
+
+    static void recordCollectionLoad() {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.collectionLoads++;
+        }
+    }
+
+    public static final class Counts {
+        private int statements;
+        private int entityLoads;
+        private int collectionLoads;
+        // Identical SQL text (parameters are still placeholders) executed repeatedly is the usual N+1 signature
+        private final Map<String, Integer> statementCounts = new HashMap<>();
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public int getEntityLoads() {
+            return entityLoads;
+        }
+
+        public int getCollectionLoads() {
+            return collectionLoads;
+        }
+
+        public Map<String, Integer> getStatementCounts() {
+            return statementCounts;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.bluemoon.fees.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Streams the JDK's jdk.VirtualThreadPinned JFR event: a virtual thread blocked inside synchronized (or a native
+// frame) and held its carrier. Each pinning site is logged once with its stack and counted in
+// bluemoon.virtualthreads.pinned{origin=application|driver|library, site=<first non-JDK frame>}.
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_SITES = 50;
+    private static final List<String> DRIVER_PACKAGES = List.of("com.mysql.", "com.zaxxer.hikari.", "org.h2.", "org.mariadb.");
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${app.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Reporting virtual thread pinning longer than {} ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String site = "unknown";
+        String caller = null;
+        for (RecordedFrame frame : frames) {
+            String className = frame.getMethod().getType().getName();
+            if (site.equals("unknown") && !isJdk(className)) {
+                site = className + "." + frame.getMethod().getName();
+            }
+            if (className.startsWith("com.bluemoon.")) {
+                caller = className + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+                break;
+            }
+        }
+        // Bounded tag cardinality: sites beyond the first MAX_SITES are folded together
+        boolean firstReport = reportedSites.size() < MAX_SITES && reportedSites.add(site);
+        String tagSite = reportedSites.contains(site) ? site : "other";
+
+        Timer.builder("bluemoon.virtualthreads.pinned")
+                .description("Time virtual threads spent pinned to their carrier")
+                .tag("origin", origin(site))
+                .tag("site", tagSite)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (firstReport) {
+            StringBuilder stack = new StringBuilder();
+            frames.stream().limit(40).forEach(frame -> stack.append("\n\tat ")
+                    .append(frame.getMethod().getType().getName()).append('.')
+                    .append(frame.getMethod().getName()).append(':').append(frame.getLineNumber()));
+            log.warn("Virtual thread pinned for {} ms at {} (origin: {}, reached from {}){}",
+                    event.getDuration().toMillis(), site, origin(site), caller != null ? caller : "outside application code", stack);
+        } else {
+            log.debug("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    private static boolean isJdk(String className) {
+        return className.startsWith("java.") || className.startsWith("jdk.") || className.startsWith("sun.");
+    }
+
+    private static String origin(String site) {
+        if (site.startsWith("com.bluemoon.")) {
+            return "application";
+        }
+        return DRIVER_PACKAGES.stream().anyMatch(site::startsWith) ? "driver" : "library";
+    }
+}
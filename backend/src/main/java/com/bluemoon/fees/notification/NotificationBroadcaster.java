@@ -0,0 +1,142 @@
+package com.bluemoon.fees.notification;
+
+import com.bluemoon.fees.dto.NotificationDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process fan-out of notifications to Server-Sent Events streams, one or more per signed-in user (one per tab).
+ * <p>
+ * Events: {@code notification} carries a {@link NotificationDTO}; {@code unread-count} carries the subscriber's
+ * unread count and is sent on connect and after every change. A comment line is sent every heartbeat interval
+ * so proxies keep the connection open and dead connections are noticed.
+ */
+@Component
+@Slf4j
+public class NotificationBroadcaster {
+
+    private final UnreadNotificationCounter unreadCounter;
+    private final Duration streamTimeout;
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    // Fan-out runs off the committing thread: one unread count query and a blocking write per subscriber.
+    // A single thread keeps each stream's events in commit order.
+    private final ExecutorService fanOut = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-fan-out");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public NotificationBroadcaster(UnreadNotificationCounter unreadCounter,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.notifications.stream-timeout:30m}") Duration streamTimeout) {
+        this.unreadCounter = unreadCounter;
+        this.streamTimeout = streamTimeout;
+        Gauge.builder("bluemoon.notifications.streams", subscribers,
+                        map -> map.values().stream().mapToInt(Set::size).sum())
+                .description("Open notification event streams")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long userId) {
+        // Clients reconnect on their own when the stream times out
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        // Added inside compute so a concurrent removal of the user's last stream cannot drop the new one
+        subscribers.compute(userId, (id, emitters) -> {
+            Set<SseEmitter> set = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            set.add(emitter);
+            return set;
+        });
+        Runnable remove = () -> remove(userId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+        send(userId, emitter, SseEmitter.event().name("unread-count").data(unreadCounter.countFor(userId)));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        unreadCounter.invalidate();
+        fanOut.execute(() -> sendCreated(event));
+    }
+
+    private void sendCreated(NotificationCreatedEvent event) {
+        // Addressed notifications go to their user only; the rest go to every subscriber
+        subscribers.forEach((userId, emitters) -> {
+            boolean any = false;
+            for (NotificationDTO notification : event.getNotifications()) {
+                if (notification.getUserId() == null || notification.getUserId().equals(userId)) {
+                    sendAll(userId, emitters, SseEmitter.event().name("notification").data(notification));
+                    any = true;
+                }
+            }
+            if (any) {
+                sendAll(userId, emitters, SseEmitter.event().name("unread-count").data(unreadCounter.countFor(userId)));
+            }
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationsRead(NotificationsReadEvent event) {
+        unreadCounter.invalidate();
+        fanOut.execute(() -> subscribers.forEach((userId, emitters) ->
+                sendAll(userId, emitters, SseEmitter.event().name("unread-count").data(unreadCounter.countFor(userId)))));
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.heartbeat-ms:25000}")
+    public void heartbeat() {
+        subscribers.forEach((userId, emitters) -> sendAll(userId, emitters, SseEmitter.event().comment("keep-alive")));
+    }
+
+    @PreDestroy
+    public void stop() {
+        fanOut.shutdownNow();
+    }
+
+    // Drops the user's entry with the last stream, atomically with respect to subscribe
+    private void remove(Long userId, SseEmitter emitter) {
+        subscribers.computeIfPresent(userId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private void sendAll(Long userId, Set<SseEmitter> emitters, SseEmitter.SseEventBuilder event) {
+        // build() is not repeatable, so the event is rendered once for all of the user's streams
+        Set<ResponseBodyEmitter.DataWithMediaType> data = event.build();
+        for (SseEmitter emitter : emitters) {
+            send(userId, emitter, data);
+        }
+    }
+
+    private void send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        send(userId, emitter, event.build());
+    }
+
+    private void send(Long userId, SseEmitter emitter, Set<ResponseBodyEmitter.DataWithMediaType> data) {
+        try {
+            emitter.send(data);
+        } catch (IOException | IllegalStateException e) {
+            // Client went away; completing triggers the removal callback
+            log.debug("Dropping notification stream of user {}: {}", userId, e.getMessage());
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+}
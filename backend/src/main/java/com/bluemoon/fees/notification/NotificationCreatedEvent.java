@@ -0,0 +1,17 @@
+package com.bluemoon.fees.notification;
+
+import com.bluemoon.fees.dto.NotificationDTO;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Published when notifications are saved, one event per save or dispatched outbox batch.
+ * Pushed to stream subscribers once the transaction commits.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationCreatedEvent {
+    private final List<NotificationDTO> notifications;
+}
@@ -0,0 +1,145 @@
+package com.bluemoon.fees.notification;
+
+import com.bluemoon.fees.dto.NotificationDTO;
+import com.bluemoon.fees.entity.Notification;
+import com.bluemoon.fees.entity.NotificationOutbox;
+import com.bluemoon.fees.repository.NotificationOutboxRepository;
+import com.bluemoon.fees.repository.NotificationRepository;
+import com.bluemoon.fees.repository.UserRepository;
+import com.bluemoon.fees.repository.projection.NotificationRecipient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers queued notifications off the request path. Each run takes the oldest outbox rows in batches, loads
+ * the recipients of all roles in the batch with one query, inserts the notifications in JDBC batches and deletes
+ * the rows, all in one transaction: a failed batch stays queued and is retried on the next run. Outbox rows locked
+ * by another instance are skipped, so several nodes can dispatch at once.
+ */
+@Component
+@Slf4j
+public class NotificationOutboxDispatcher {
+
+    private static final int INSERT_CHUNK_SIZE = 500;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Counter dispatched;
+
+    public NotificationOutboxDispatcher(NotificationOutboxRepository outboxRepository,
+                                        NotificationRepository notificationRepository,
+                                        UserRepository userRepository,
+                                        ApplicationEventPublisher eventPublisher,
+                                        EntityManager entityManager,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${app.notifications.outbox.batch-size:200}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.dispatched = Counter.builder("bluemoon.notifications.dispatched")
+                .description("Notifications created from the outbox, one per recipient")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.outbox.poll-ms:1000}")
+    public void dispatch() {
+        try {
+            Integer taken;
+            do {
+                taken = transactionTemplate.execute(status -> dispatchBatch());
+            } while (taken != null && taken == batchSize);
+        } catch (RuntimeException e) {
+            log.error("Notification outbox dispatch failed; pending rows are retried on the next run", e);
+        }
+    }
+
+    private int dispatchBatch() {
+        List<NotificationOutbox> batch = outboxRepository.lockPending(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> roles = batch.stream()
+                .flatMap(entry -> roles(entry).stream())
+                .collect(Collectors.toSet());
+        Map<String, List<Long>> usersByRole = roles.isEmpty() ? Map.of() : userRepository.findRecipientsByRoles(roles).stream()
+                .collect(Collectors.groupingBy(NotificationRecipient::getVaiTro,
+                        Collectors.mapping(NotificationRecipient::getId, Collectors.toList())));
+
+        List<Notification> notifications = new ArrayList<>();
+        for (NotificationOutbox entry : batch) {
+            List<String> entryRoles = roles(entry);
+            if (entryRoles.isEmpty()) {
+                notifications.add(toNotification(entry, null));
+                continue;
+            }
+            // A user is notified once even when several of the entry's roles match
+            Set<Long> userIds = new LinkedHashSet<>();
+            entryRoles.forEach(role -> userIds.addAll(usersByRole.getOrDefault(role, List.of())));
+            userIds.forEach(userId -> notifications.add(toNotification(entry, userId)));
+        }
+
+        List<NotificationDTO> created = new ArrayList<>(notifications.size());
+        for (int from = 0; from < notifications.size(); from += INSERT_CHUNK_SIZE) {
+            List<Notification> chunk = notifications.subList(from, Math.min(from + INSERT_CHUNK_SIZE, notifications.size()));
+            notificationRepository.saveAll(chunk).forEach(saved -> created.add(NotificationDTO.from(saved)));
+            entityManager.flush();
+            entityManager.clear();
+        }
+        outboxRepository.deleteAllByIdInBatch(batch.stream().map(NotificationOutbox::getId).collect(Collectors.toList()));
+
+        dispatched.increment(created.size());
+        if (!created.isEmpty()) {
+            eventPublisher.publishEvent(new NotificationCreatedEvent(created));
+        }
+        log.debug("Dispatched {} outbox entries as {} notifications", batch.size(), created.size());
+        return batch.size();
+    }
+
+    private Notification toNotification(NotificationOutbox entry, Long userId) {
+        return Notification.builder()
+                .title(entry.getTitle())
+                .message(entry.getMessage())
+                .entityType(entry.getEntityType())
+                .entityId(entry.getEntityId())
+                .user(userId != null ? userRepository.getReferenceById(userId) : null)
+                .build();
+    }
+
+    private static List<String> roles(NotificationOutbox entry) {
+        if (entry.getRecipientRoles() == null || entry.getRecipientRoles().isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(entry.getRecipientRoles().split(","))
+                .map(String::trim)
+                .filter(role -> !role.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,13 @@
+package com.bluemoon.fees.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when notifications are marked as read; subscribers receive their new unread count after commit.
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationsReadEvent {
+    private final Long notificationId;
+}
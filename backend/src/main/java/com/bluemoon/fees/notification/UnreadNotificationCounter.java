@@ -0,0 +1,55 @@
+package com.bluemoon.fees.notification;
+
+import com.bluemoon.fees.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unread counts per user (notifications addressed to the user or to everyone), plus the global count under key 0.
+ * Counts are computed on first use and dropped whenever a notification is created or read, so idle clients
+ * never reach the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    private static final Long ALL = 0L;
+
+    private final NotificationRepository notificationRepository;
+
+    private final Map<Long, Long> counts = new ConcurrentHashMap<>();
+    // Bumped on every invalidation; a count computed across an invalidation is returned but not kept
+    private final AtomicLong generation = new AtomicLong();
+
+    public long countAll() {
+        return count(ALL);
+    }
+
+    public long countFor(Long userId) {
+        return count(userId != null ? userId : ALL);
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        counts.clear();
+    }
+
+    private long count(Long key) {
+        Long cached = counts.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long seen = generation.get();
+        long count = ALL.equals(key)
+                ? notificationRepository.countByReadFalse()
+                : notificationRepository.countUnreadVisibleTo(key);
+        if (generation.get() == seen) {
+            counts.put(key, count);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,51 @@
+package com.bluemoon.fees.parking;
+
+import com.bluemoon.fees.entity.ParkingTariff;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable snapshot of the parking tariffs: for each vehicle type, its monthly rates keyed by effective date.
+ * A date before the first configured rate of a type, or with no rate at all, falls back to the type's default.
+ * Unknown vehicle types cost nothing.
+ */
+public final class ParkingTariffTable {
+
+    private final Map<String, NavigableMap<LocalDate, Double>> rates;
+    private final Map<String, Double> defaults;
+
+    public ParkingTariffTable(List<ParkingTariff> tariffs, Map<String, Double> defaults) {
+        Map<String, NavigableMap<LocalDate, Double>> byType = new HashMap<>();
+        for (ParkingTariff tariff : tariffs) {
+            byType.computeIfAbsent(tariff.getLoaiXe().name(), type -> new TreeMap<>())
+                    .put(tariff.getHieuLucTu(), tariff.getMucPhi());
+        }
+        byType.replaceAll((type, byDate) -> Collections.unmodifiableNavigableMap(byDate));
+        this.rates = Map.copyOf(byType);
+        this.defaults = Map.copyOf(defaults);
+    }
+
+    public double rate(String loaiXe, LocalDate date) {
+        if (loaiXe == null) {
+            return 0.0;
+        }
+        NavigableMap<LocalDate, Double> byDate = rates.get(loaiXe);
+        Map.Entry<LocalDate, Double> effective = byDate != null ? byDate.floorEntry(date) : null;
+        return effective != null ? effective.getValue() : defaults.getOrDefault(loaiXe, 0.0);
+    }
+
+    // Monthly fee for a household holding the given number of vehicles per type
+    public double fee(Map<String, Long> countsByType, LocalDate date) {
+        double total = 0.0;
+        for (Map.Entry<String, Long> count : countsByType.entrySet()) {
+            total += rate(count.getKey(), date) * count.getValue();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,7 @@
+package com.bluemoon.fees.parking;
+
+/**
+ * Published when a parking tariff is added; the in-memory tariff table is reloaded after commit.
+ */
+public class ParkingTariffsChangedEvent {
+}
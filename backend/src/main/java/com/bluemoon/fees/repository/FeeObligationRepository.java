@@ -0,0 +1,41 @@
+package com.bluemoon.fees.repository;
+
+import com.bluemoon.fees.entity.FeeObligation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+@Repository
+public interface FeeObligationRepository extends JpaRepository<FeeObligation, Long> {
+
+    // Fee levy: one obligation per household in :hoKhauIds that has neither an obligation nor a payment for this fee
+    @Modifying
+    @Query(value = "INSERT INTO fee_obligation (ho_khau_id, khoan_thu_id, so_tien, ngay_phat_sinh) " +
+           "SELECT h.id, k.id, k.so_tien, :ngayPhatSinh FROM ho_khau h JOIN khoan_thu k ON k.id = :khoanThuId " +
+           "WHERE h.id IN (:hoKhauIds) " +
+           "AND NOT EXISTS (SELECT 1 FROM fee_obligation o WHERE o.ho_khau_id = h.id AND o.khoan_thu_id = k.id) " +
+           "AND NOT EXISTS (SELECT 1 FROM nop_phi p WHERE p.ho_khau_id = h.id AND p.khoan_thu_id = k.id)",
+           nativeQuery = true)
+    int insertMissing(@Param("khoanThuId") Long khoanThuId,
+                      @Param("hoKhauIds") Collection<Long> hoKhauIds,
+                      @Param("ngayPhatSinh") LocalDate ngayPhatSinh);
+
+    // A new payment settles the open obligation of its household and fee
+    @Modifying
+    @Query("UPDATE FeeObligation o SET o.nopPhiId = :nopPhiId " +
+           "WHERE o.hoKhauId = :hoKhauId AND o.khoanThuId = :khoanThuId AND o.nopPhiId IS NULL")
+    int settle(@Param("hoKhauId") Long hoKhauId, @Param("khoanThuId") Long khoanThuId, @Param("nopPhiId") Long nopPhiId);
+
+    // After a payment is deleted: fall back to another payment for the same household and fee, else reopen
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE fee_obligation SET nop_phi_id = (SELECT MIN(p.id) FROM nop_phi p " +
+           "WHERE p.ho_khau_id = fee_obligation.ho_khau_id AND p.khoan_thu_id = fee_obligation.khoan_thu_id) " +
+           "WHERE nop_phi_id = :nopPhiId",
+           nativeQuery = true)
+    int release(@Param("nopPhiId") Long nopPhiId);
+}
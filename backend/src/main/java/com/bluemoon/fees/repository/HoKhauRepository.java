@@ -1,21 +1,105 @@
 package com.bluemoon.fees.repository;
 
+import com.bluemoon.fees.dto.HoKhauDetail;
+import com.bluemoon.fees.dto.HoKhauListItem;
 import com.bluemoon.fees.entity.HoKhau;
+import com.bluemoon.fees.repository.projection.HouseholdContactCounts;
+import com.bluemoon.fees.repository.projection.HouseholdSizeCount;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface HoKhauRepository extends JpaRepository<HoKhau, Long> {
+    
+    // Projection queries for the household views: one statement each, no child collection is loaded
+    String LIST_ITEM = "SELECT new com.bluemoon.fees.dto.HoKhauListItem(h.id, h.soHoKhau, h.chuHo, h.address, " +
+            "h.soNha, h.duong, h.phuong, h.quan, h.soThanhVien, h.soDienThoai, h.email, h.ngayLamHoKhau, h.hoatDong) " +
+            "FROM HoKhau h ";
+    String DETAIL = "SELECT new com.bluemoon.fees.dto.HoKhauDetail(h.id, h.soHoKhau, h.chuHo, h.address, " +
+            "h.soNha, h.duong, h.phuong, h.quan, h.soThanhVien, h.soDienThoai, h.email, h.ngayLamHoKhau, h.hoatDong, " +
+            "(SELECT COUNT(n) FROM NhanKhau n WHERE n.hoKhau = h), " +
+            "(SELECT COUNT(v) FROM Vehicle v WHERE v.hoKhau = h), " +
+            "(SELECT COUNT(p) FROM NopPhi p WHERE p.hoKhau = h), " +
+            "(SELECT COUNT(s) FROM UtilityService s WHERE s.hoKhau = h), " +
+            "(SELECT COUNT(u) FROM UtilityPayment u WHERE u.hoKhau = h), " +
+            "(SELECT COUNT(l) FROM LichSuHoKhau l WHERE l.hoKhau = h)) " +
+            "FROM HoKhau h ";
+    String ACTIVE_FILTER = "(:activeOnly = false OR h.hoatDong = true)";
+    
+    @Query(LIST_ITEM + "WHERE " + ACTIVE_FILTER + " ORDER BY h.id")
+    List<HoKhauListItem> findListItems(@Param("activeOnly") boolean activeOnly);
+    
+    @Query(value = LIST_ITEM + "WHERE " + ACTIVE_FILTER,
+           countQuery = "SELECT COUNT(h) FROM HoKhau h WHERE " + ACTIVE_FILTER)
+    Page<HoKhauListItem> findListItemPage(@Param("activeOnly") boolean activeOnly, Pageable pageable);
+    
+    @Query(LIST_ITEM + "WHERE " + ACTIVE_FILTER + " AND h.id > :afterId")
+    Slice<HoKhauListItem> findListItemsAfter(@Param("activeOnly") boolean activeOnly,
+                                             @Param("afterId") Long afterId, Pageable pageable);
+    
+    @Query(LIST_ITEM + "WHERE " + ACTIVE_FILTER + " AND LOWER(h.chuHo) LIKE LOWER(CONCAT('%', :chuHo, '%')) ORDER BY h.id")
+    List<HoKhauListItem> searchListItemsByChuHo(@Param("activeOnly") boolean activeOnly, @Param("chuHo") String chuHo);
+    
+    @Query(LIST_ITEM + "WHERE " + ACTIVE_FILTER + " AND LOWER(h.address) LIKE LOWER(CONCAT('%', :address, '%')) ORDER BY h.id")
+    List<HoKhauListItem> searchListItemsByAddress(@Param("activeOnly") boolean activeOnly, @Param("address") String address);
+    
+    @Query(LIST_ITEM + "WHERE h.id = :id")
+    Optional<HoKhauListItem> findListItemById(@Param("id") Long id);
+    
+    @Query(DETAIL + "WHERE " + ACTIVE_FILTER + " ORDER BY h.id")
+    List<HoKhauDetail> findDetails(@Param("activeOnly") boolean activeOnly);
+    
+    @Query(DETAIL + "WHERE h.id = :id")
+    Optional<HoKhauDetail> findDetailById(@Param("id") Long id);
+    
     List<HoKhau> findByHoatDongTrue();
     Optional<HoKhau> findByIdAndHoatDongTrue(Long id);
     List<HoKhau> findByChuHoContainingIgnoreCase(String chuHo);
     List<HoKhau> findByAddressContainingIgnoreCase(String address);
+    List<HoKhau> findByChuHoContainingIgnoreCaseAndHoatDongTrue(String chuHo);
+    List<HoKhau> findByAddressContainingIgnoreCaseAndHoatDongTrue(String address);
     Optional<HoKhau> findBySoHoKhau(String soHoKhau);
     
     // Check if soHoKhau exists, excluding specific household ID for updates
     boolean existsBySoHoKhau(String soHoKhau);
     boolean existsBySoHoKhauAndIdNot(String soHoKhau, Long id);
+    
+    // Paged listing: offset pages and keyset (id > afterId) slices
+    Page<HoKhau> findByHoatDongTrue(Pageable pageable);
+    Slice<HoKhau> findByIdGreaterThan(Long afterId, Pageable pageable);
+    Slice<HoKhau> findByHoatDongTrueAndIdGreaterThan(Long afterId, Pageable pageable);
+    
+    // Ids of the active households, without loading them (fee levy)
+    @Query("SELECT h.id FROM HoKhau h WHERE h.hoatDong = true ORDER BY h.id")
+    List<Long> findActiveIds();
+    
+    // Which of the given ids exist, without loading the households
+    @Query("SELECT h.id FROM HoKhau h WHERE h.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+    
+    // Dashboard aggregates
+    long countByHoatDongTrue();
+    
+    @Query("SELECT h.soThanhVien AS soThanhVien, COUNT(h) AS householdCount FROM HoKhau h " +
+           "WHERE h.hoatDong = true GROUP BY h.soThanhVien")
+    List<HouseholdSizeCount> countActiveBySoThanhVien();
+    
+    @Query("SELECT COALESCE(SUM(CASE WHEN h.hoatDong = false THEN 1 ELSE 0 END), 0) AS inactiveCount, " +
+           "COALESCE(SUM(CASE WHEN h.soDienThoai IS NOT NULL AND h.soDienThoai <> '' THEN 1 ELSE 0 END), 0) AS withPhoneNumber, " +
+           "COALESCE(SUM(CASE WHEN h.email IS NOT NULL AND h.email <> '' THEN 1 ELSE 0 END), 0) AS withEmail " +
+           "FROM HoKhau h")
+    HouseholdContactCounts countContacts();
+    
+    // Newest households first; the page only sets the limit
+    @Query(LIST_ITEM + "ORDER BY h.id DESC")
+    List<HoKhauListItem> findRecentListItems(Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.bluemoon.fees.repository;
+
+import com.bluemoon.fees.dto.OutstandingBalanceDTO;
+import com.bluemoon.fees.entity.HouseholdBalance;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+@Repository
+public interface HouseholdBalanceRepository extends JpaRepository<HouseholdBalance, Long> {
+
+    // Recomputes the ledger rows of :hoKhauIds for one month from the indexed per-household rows of that month only.
+    // Driven from ho_khau so a household whose rows were all deleted is reset to zero rather than left stale.
+    // Each household/fee pair is one row in the month it is charged (its levy obligation, or else its first payment),
+    // carrying the charge and every verified payment of the pair, so a fee paid in a later month still nets to zero.
+    @Modifying
+    @Query(value = "INSERT INTO household_balance (ho_khau_id, thang, nam, utility_charged, utility_paid, fee_charged, fee_paid, " +
+           "unpaid_bills, outstanding, updated_at) " +
+           "SELECT h.id, :thang, :nam, COALESCE(SUM(k.utility_charged), 0), COALESCE(SUM(k.utility_paid), 0), " +
+           "COALESCE(SUM(k.fee_charged), 0), COALESCE(SUM(k.fee_paid), 0), COALESCE(SUM(k.unpaid_bills), 0), " +
+           "COALESCE(SUM(k.utility_charged - k.utility_paid + k.fee_charged - k.fee_paid), 0), CURRENT_TIMESTAMP " +
+           "FROM ho_khau h LEFT JOIN (" +
+           "  SELECT s.ho_khau_id, s.tong_tien AS utility_charged, 0.0 AS utility_paid, 0.0 AS fee_charged, 0.0 AS fee_paid, " +
+           "         CASE WHEN s.trang_thai = 'CHUA_THANH_TOAN' THEN 1 ELSE 0 END AS unpaid_bills " +
+           "  FROM utility_service s WHERE s.ho_khau_id IN (:hoKhauIds) AND s.thang = :thang AND s.nam = :nam " +
+           "  UNION ALL " +
+           "  SELECT p.ho_khau_id, 0.0, COALESCE(p.so_tien_thanh_toan, 0), 0.0, 0.0, 0 " +
+           "  FROM utility_payment p WHERE p.ho_khau_id IN (:hoKhauIds) AND p.thang = :thang AND p.nam = :nam " +
+           "  AND p.trang_thai = 'THANH_CONG' " +
+           "  UNION ALL " +
+           "  SELECT o.ho_khau_id, 0.0, 0.0, o.so_tien, " +
+           "         COALESCE((SELECT SUM(p.so_tien) FROM nop_phi p WHERE p.ho_khau_id = o.ho_khau_id " +
+           "                   AND p.khoan_thu_id = o.khoan_thu_id AND p.da_xac_nhan = true), 0), 0 " +
+           "  FROM fee_obligation o WHERE o.ho_khau_id IN (:hoKhauIds) AND o.ngay_phat_sinh >= :fromDate AND o.ngay_phat_sinh < :toDate " +
+           "  UNION ALL " +
+           "  SELECT n.ho_khau_id, 0.0, 0.0, COALESCE(n.tong_tien, 0), " +
+           "         COALESCE((SELECT SUM(p.so_tien) FROM nop_phi p WHERE p.ho_khau_id = n.ho_khau_id " +
+           "                   AND p.khoan_thu_id = n.khoan_thu_id AND p.da_xac_nhan = true), 0), 0 " +
+           "  FROM nop_phi n WHERE n.ho_khau_id IN (:hoKhauIds) AND n.ngay_nop >= :fromDate AND n.ngay_nop < :toDate " +
+           "  AND n.id = (SELECT MIN(f.id) FROM nop_phi f WHERE f.ho_khau_id = n.ho_khau_id AND f.khoan_thu_id = n.khoan_thu_id) " +
+           "  AND NOT EXISTS (SELECT 1 FROM fee_obligation o WHERE o.ho_khau_id = n.ho_khau_id AND o.khoan_thu_id = n.khoan_thu_id)" +
+           ") k ON k.ho_khau_id = h.id " +
+           "WHERE h.id IN (:hoKhauIds) " +
+           "GROUP BY h.id " +
+           "ON DUPLICATE KEY UPDATE utility_charged = VALUES(utility_charged), utility_paid = VALUES(utility_paid), " +
+           "fee_charged = VALUES(fee_charged), fee_paid = VALUES(fee_paid), unpaid_bills = VALUES(unpaid_bills), " +
+           "outstanding = VALUES(outstanding), updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int refresh(@Param("hoKhauIds") Collection<Long> hoKhauIds,
+                @Param("thang") int thang,
+                @Param("nam") int nam,
+                @Param("fromDate") LocalDate fromDate,
+                @Param("toDate") LocalDate toDate);
+
+    @Query(value = "SELECT new com.bluemoon.fees.dto.OutstandingBalanceDTO(b.hoKhauId, h.soHoKhau, h.chuHo, b.thang, b.nam, " +
+           "b.utilityCharged, b.utilityPaid, b.feeCharged, b.feePaid, b.unpaidBills, b.outstanding, b.updatedAt) " +
+           "FROM HouseholdBalance b JOIN HoKhau h ON h.id = b.hoKhauId " +
+           "WHERE b.outstanding > 0 AND (:thang IS NULL OR b.thang = :thang) AND (:nam IS NULL OR b.nam = :nam) " +
+           "AND (:hoKhauId IS NULL OR b.hoKhauId = :hoKhauId)",
+           countQuery = "SELECT COUNT(b) FROM HouseholdBalance b JOIN HoKhau h ON h.id = b.hoKhauId " +
+           "WHERE b.outstanding > 0 AND (:thang IS NULL OR b.thang = :thang) AND (:nam IS NULL OR b.nam = :nam) " +
+           "AND (:hoKhauId IS NULL OR b.hoKhauId = :hoKhauId)")
+    Page<OutstandingBalanceDTO> findOutstanding(@Param("thang") Integer thang,
+                                                @Param("nam") Integer nam,
+                                                @Param("hoKhauId") Long hoKhauId,
+                                                Pageable pageable);
+}
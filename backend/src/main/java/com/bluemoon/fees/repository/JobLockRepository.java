@@ -0,0 +1,29 @@
+package com.bluemoon.fees.repository;
+
+import com.bluemoon.fees.entity.JobLock;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    // The job's row, locked until the transaction ends; empty while another instance holds it (lock timeout -2 = SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM JobLock j WHERE j.jobName = :jobName")
+    Optional<JobLock> tryLock(@Param("jobName") String jobName);
+
+    // Creates the job's row on schemas built without the migration; a no-op once it exists
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO job_lock (job_name) VALUES (:jobName)", nativeQuery = true)
+    int insertIfMissing(@Param("jobName") String jobName);
+}
@@ -1,7 +1,11 @@
 package com.bluemoon.fees.repository;
 
 import com.bluemoon.fees.entity.KhoanThu;
+import com.bluemoon.fees.repository.projection.FeeTypeCount;
+import com.bluemoon.fees.repository.projection.MonthlyFeeCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -15,4 +19,14 @@ public interface KhoanThuRepository extends JpaRepository<KhoanThu, Long> {
     List<KhoanThu> findByBatBuocAndHoatDongTrue(Boolean batBuoc);
     List<KhoanThu> findByThoiHanBetweenAndHoatDongTrue(LocalDate startDate, LocalDate endDate);
     List<KhoanThu> findByThoiHanBeforeAndHoatDongTrue(LocalDate date);
+    List<KhoanThu> findByThoiHanBeforeAndBatBuocTrueAndHoatDongTrue(LocalDate date);
+    
+    // Dashboard aggregates
+    @Query("SELECT k.batBuoc AS batBuoc, COUNT(k) AS feeCount FROM KhoanThu k " +
+           "WHERE k.hoatDong = true GROUP BY k.batBuoc")
+    List<FeeTypeCount> countActiveByBatBuoc();
+    
+    @Query("SELECT YEAR(k.thoiHan) AS nam, MONTH(k.thoiHan) AS thang, COUNT(k) AS feeCount FROM KhoanThu k " +
+           "WHERE k.hoatDong = true AND k.thoiHan >= :fromDate GROUP BY YEAR(k.thoiHan), MONTH(k.thoiHan)")
+    List<MonthlyFeeCount> countActiveDueMonthly(@Param("fromDate") LocalDate fromDate);
 }
\ No newline at end of file
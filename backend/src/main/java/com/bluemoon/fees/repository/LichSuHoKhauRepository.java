@@ -3,7 +3,12 @@ package com.bluemoon.fees.repository;
 import com.bluemoon.fees.entity.LichSuHoKhau;
 import com.bluemoon.fees.entity.HoKhau;
 import com.bluemoon.fees.entity.NhanKhau;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -17,4 +22,12 @@ public interface LichSuHoKhauRepository extends JpaRepository<LichSuHoKhau, Long
     List<LichSuHoKhau> findByNhanKhauId(Long nhanKhauId);
     List<LichSuHoKhau> findByLoaiThayDoi(LichSuHoKhau.LoaiThayDoi loaiThayDoi);
     List<LichSuHoKhau> findByThoiGianBetween(LocalDate startDate, LocalDate endDate);
+    
+    // Paged listing with household and person information: offset pages and keyset (id > afterId) slices
+    @EntityGraph(attributePaths = {"hoKhau", "nhanKhau"})
+    @Query("SELECT l FROM LichSuHoKhau l")
+    Page<LichSuHoKhau> findPageWithHoKhauAndNhanKhau(Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"hoKhau", "nhanKhau"})
+    Slice<LichSuHoKhau> findByIdGreaterThan(Long afterId, Pageable pageable);
 }
\ No newline at end of file
@@ -1,8 +1,15 @@
 package com.bluemoon.fees.repository;
 
+import com.bluemoon.fees.dto.NhanKhauBrief;
 import com.bluemoon.fees.entity.HoKhau;
 import com.bluemoon.fees.entity.NhanKhau;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -17,4 +24,22 @@ public interface NhanKhauRepository extends JpaRepository<NhanKhau, Long> {
     List<NhanKhau> findByQuanHeVoiChuHo(String quanHeVoiChuHo);
     List<NhanKhau> findByHoKhau(HoKhau hoKhau);
     List<NhanKhau> findByHoKhauId(Long hoKhauId);
-}
\ No newline at end of file
+    
+    // Paged listing with household information: offset pages and keyset (id > afterId) slices
+    @EntityGraph(attributePaths = "hoKhau")
+    @Query("SELECT n FROM NhanKhau n")
+    Page<NhanKhau> findPageWithHoKhau(Pageable pageable);
+    
+    @EntityGraph(attributePaths = "hoKhau")
+    Slice<NhanKhau> findByIdGreaterThan(Long afterId, Pageable pageable);
+    
+    // Member rows for the household members view
+    String BRIEF = "SELECT new com.bluemoon.fees.dto.NhanKhauBrief(n.id, n.hoKhau.id, n.hoTen, n.ngaySinh, n.gioiTinh, " +
+            "n.cccd, n.ngheNghiep, n.quanHeVoiChuHo, n.ngayThemNhanKhau) FROM NhanKhau n ";
+    
+    @Query(BRIEF + "WHERE n.hoKhau.id = :hoKhauId ORDER BY n.id")
+    List<NhanKhauBrief> findBriefsByHoKhauId(@Param("hoKhauId") Long hoKhauId);
+    
+    @Query(BRIEF + "WHERE n.hoKhau IS NOT NULL AND (:activeOnly = false OR n.hoKhau.hoatDong = true) ORDER BY n.id")
+    List<NhanKhauBrief> findBriefsOfHouseholds(@Param("activeOnly") boolean activeOnly);
+}
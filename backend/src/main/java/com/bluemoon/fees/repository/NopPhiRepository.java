@@ -1,26 +1,163 @@
 package com.bluemoon.fees.repository;
 
 import com.bluemoon.fees.entity.NopPhi;
+import com.bluemoon.fees.repository.projection.FeePaymentTotals;
+import com.bluemoon.fees.repository.projection.FeeTypePaymentTotals;
+import com.bluemoon.fees.repository.projection.HouseholdPaymentTotals;
+import com.bluemoon.fees.repository.projection.HouseholdSizePaymentTotals;
+import com.bluemoon.fees.repository.projection.MonthlyPaymentTotals;
+import com.bluemoon.fees.repository.projection.PaymentFeeMonth;
+import com.bluemoon.fees.repository.projection.PaymentStatistics;
+import com.bluemoon.fees.repository.projection.PaymentVerificationState;
+import com.bluemoon.fees.repository.projection.RecentPayment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface NopPhiRepository extends JpaRepository<NopPhi, Long> {
-    List<NopPhi> findByHoKhauId(Long hoKhauId);
-    List<NopPhi> findByKhoanThuId(Long khoanThuId);
     List<NopPhi> findByNgayNopBetween(LocalDate startDate, LocalDate endDate);
     List<NopPhi> findByDaXacNhanFalse();
-    Optional<NopPhi> findByHoKhauIdAndKhoanThuId(Long hoKhauId, Long khoanThuId);
-    List<NopPhi> findByHoKhauIdAndNgayNopBetween(Long hoKhauId, LocalDate startDate, LocalDate endDate);
+    
+    // Lookups by household / fee compare the foreign key columns directly; the derived forms outer-join ho_khau and
+    // khoan_thu and filter on their ids, which keeps them off the nop_phi indexes
+    @Query("SELECT p FROM NopPhi p WHERE p.hoKhau.id = :hoKhauId")
+    List<NopPhi> findByHoKhauId(@Param("hoKhauId") Long hoKhauId);
+    
+    @Query("SELECT p FROM NopPhi p WHERE p.khoanThu.id = :khoanThuId")
+    List<NopPhi> findByKhoanThuId(@Param("khoanThuId") Long khoanThuId);
+    
+    @Query("SELECT p FROM NopPhi p WHERE p.hoKhau.id = :hoKhauId AND p.khoanThu.id = :khoanThuId ORDER BY p.id DESC LIMIT 1")
+    Optional<NopPhi> findFirstByHoKhauIdAndKhoanThuIdOrderByIdDesc(@Param("hoKhauId") Long hoKhauId, @Param("khoanThuId") Long khoanThuId);
+    
+    @Query("SELECT p FROM NopPhi p WHERE p.hoKhau.id = :hoKhauId AND p.khoanThu.id = :khoanThuId ORDER BY p.id ASC LIMIT 1")
+    Optional<NopPhi> findFirstByHoKhauIdAndKhoanThuIdOrderByIdAsc(@Param("hoKhauId") Long hoKhauId, @Param("khoanThuId") Long khoanThuId);
+    
+    @Query("SELECT p FROM NopPhi p WHERE p.hoKhau.id = :hoKhauId AND p.ngayNop BETWEEN :startDate AND :endDate")
+    List<NopPhi> findByHoKhauIdAndNgayNopBetween(@Param("hoKhauId") Long hoKhauId,
+                                                 @Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate);
     
     @Query("SELECT p FROM NopPhi p JOIN FETCH p.hoKhau JOIN FETCH p.khoanThu")
     List<NopPhi> findAllWithHoKhauAndKhoanThu();
     
     @Query("SELECT p FROM NopPhi p JOIN FETCH p.hoKhau JOIN FETCH p.khoanThu WHERE p.id = :id")
     Optional<NopPhi> findByIdWithHoKhauAndKhoanThu(Long id);
+    
+    // Streaming export: Integer.MIN_VALUE fetch size makes MySQL Connector/J stream rows instead of buffering the result set.
+    // Callers must consume the stream inside a transaction and close it.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT p FROM NopPhi p JOIN FETCH p.hoKhau JOIN FETCH p.khoanThu ORDER BY p.id")
+    Stream<NopPhi> streamAllWithHoKhauAndKhoanThu();
+    
+    // Ledger months of the fees the given payments belong to (see HouseholdBalance)
+    @Query("SELECT n.hoKhau.id AS hoKhauId, COALESCE(o.ngayPhatSinh, f.ngayNop) AS ngay FROM NopPhi n " +
+           "JOIN NopPhi f ON f.hoKhau = n.hoKhau AND f.khoanThu = n.khoanThu " +
+           "LEFT JOIN FeeObligation o ON o.hoKhauId = n.hoKhau.id AND o.khoanThuId = n.khoanThu.id " +
+           "WHERE n.id IN :ids " +
+           "AND f.id = (SELECT MIN(x.id) FROM NopPhi x WHERE x.hoKhau = n.hoKhau AND x.khoanThu = n.khoanThu)")
+    List<PaymentFeeMonth> findFeeMonths(@Param("ids") Collection<Long> ids);
+    
+    // Batch verification: current state of the requested ids, the filter form of the selection, and the set-based flip
+    @Query("SELECT p.id AS id, p.daXacNhan AS daXacNhan, p.hoKhau.id AS hoKhauId, p.ngayNop AS ngayNop FROM NopPhi p WHERE p.id IN :ids")
+    List<PaymentVerificationState> findVerificationStates(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT p.id FROM NopPhi p WHERE p.daXacNhan <> :daXacNhan " +
+           "AND (:khoanThuId IS NULL OR p.khoanThu.id = :khoanThuId) " +
+           "AND (:startDate IS NULL OR p.ngayNop >= :startDate) " +
+           "AND (:endDate IS NULL OR p.ngayNop <= :endDate) ORDER BY p.id")
+    List<Long> findIdsToVerify(@Param("daXacNhan") boolean daXacNhan,
+                               @Param("khoanThuId") Long khoanThuId,
+                               @Param("startDate") LocalDate startDate,
+                               @Param("endDate") LocalDate endDate);
+    
+    @Modifying
+    @Query("UPDATE NopPhi p SET p.daXacNhan = :daXacNhan WHERE p.id IN :ids AND p.daXacNhan <> :daXacNhan")
+    int updateVerification(@Param("ids") Collection<Long> ids, @Param("daXacNhan") boolean daXacNhan);
+    
+    // Paged listing: offset pages and keyset (id > afterId) slices
+    @EntityGraph(attributePaths = {"hoKhau", "khoanThu"})
+    @Query("SELECT p FROM NopPhi p")
+    Page<NopPhi> findPageWithHoKhauAndKhoanThu(Pageable pageable);
+    
+    @EntityGraph(attributePaths = {"hoKhau", "khoanThu"})
+    Slice<NopPhi> findByIdGreaterThan(Long afterId, Pageable pageable);
+    
+    // Payment totals and counts, computed in the database
+    @Query("SELECT COALESCE(SUM(p.soTien), 0) FROM NopPhi p WHERE p.hoKhau.id = :hoKhauId AND p.daXacNhan = true")
+    Double sumVerifiedByHoKhauId(@Param("hoKhauId") Long hoKhauId);
+    
+    @Query("SELECT COALESCE(SUM(p.soTien), 0) FROM NopPhi p WHERE p.khoanThu.id = :khoanThuId AND p.daXacNhan = true")
+    Double sumVerifiedByKhoanThuId(@Param("khoanThuId") Long khoanThuId);
+    
+    @Query("SELECT COALESCE(SUM(p.soTien), 0) FROM NopPhi p " +
+           "WHERE p.ngayNop BETWEEN :startDate AND :endDate AND p.daXacNhan = true")
+    Double sumVerifiedByNgayNopBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    
+    @Query("SELECT COALESCE(SUM(p.soTien), 0) FROM NopPhi p")
+    Double sumAll();
+    
+    @Query("SELECT COUNT(p) AS paymentCount, " +
+           "COALESCE(SUM(CASE WHEN p.daXacNhan = true THEN 1 ELSE 0 END), 0) AS verifiedCount, " +
+           "COALESCE(SUM(CASE WHEN p.daXacNhan = true THEN p.soTien ELSE 0.0 END), 0) AS verifiedAmount " +
+           "FROM NopPhi p WHERE p.hoKhau.id = :hoKhauId")
+    PaymentStatistics statisticsByHoKhauId(@Param("hoKhauId") Long hoKhauId);
+    
+    @Query("SELECT COUNT(p) AS paymentCount, " +
+           "COALESCE(SUM(CASE WHEN p.daXacNhan = true THEN 1 ELSE 0 END), 0) AS verifiedCount, " +
+           "COALESCE(SUM(CASE WHEN p.daXacNhan = true THEN p.soTien ELSE 0.0 END), 0) AS verifiedAmount " +
+           "FROM NopPhi p WHERE p.khoanThu.id = :khoanThuId")
+    PaymentStatistics statisticsByKhoanThuId(@Param("khoanThuId") Long khoanThuId);
+    
+    // Dashboard aggregates
+    @Query("SELECT k.batBuoc AS batBuoc, COUNT(p) AS paymentCount, " +
+           "COALESCE(SUM(CASE WHEN p.daXacNhan = true THEN 1 ELSE 0 END), 0) AS verifiedCount, " +
+           "COALESCE(SUM(p.soTien), 0) AS totalAmount, " +
+           "COALESCE(SUM(CASE WHEN p.daXacNhan = true THEN p.soTien ELSE 0.0 END), 0) AS verifiedAmount " +
+           "FROM NopPhi p JOIN p.khoanThu k GROUP BY k.batBuoc")
+    List<FeeTypePaymentTotals> sumByFeeType();
+    
+    @Query("SELECT h.soThanhVien AS soThanhVien, COUNT(p) AS paymentCount, COALESCE(SUM(p.soTien), 0) AS totalAmount " +
+           "FROM NopPhi p JOIN p.hoKhau h GROUP BY h.soThanhVien")
+    List<HouseholdSizePaymentTotals> sumByHouseholdSize();
+    
+    @Query("SELECT YEAR(p.ngayNop) AS nam, MONTH(p.ngayNop) AS thang, k.batBuoc AS batBuoc, " +
+           "COUNT(p) AS paymentCount, COALESCE(SUM(p.soTien), 0) AS totalAmount " +
+           "FROM NopPhi p JOIN p.khoanThu k WHERE p.ngayNop >= :fromDate " +
+           "GROUP BY YEAR(p.ngayNop), MONTH(p.ngayNop), k.batBuoc")
+    List<MonthlyPaymentTotals> sumMonthlyByFeeType(@Param("fromDate") LocalDate fromDate);
+    
+    @Query("SELECT k.id AS khoanThuId, k.tenKhoanThu AS tenKhoanThu, COALESCE(SUM(p.soTien), 0) AS totalAmount " +
+           "FROM NopPhi p JOIN p.khoanThu k GROUP BY k.id, k.tenKhoanThu ORDER BY SUM(p.soTien) DESC")
+    List<FeePaymentTotals> sumByFee();
+    
+    // The page only sets the limit
+    @Query("SELECT h.id AS hoKhauId, h.chuHo AS chuHo, COALESCE(SUM(p.soTien), 0) AS totalAmount, " +
+           "MAX(p.ngayNop) AS lastPayment " +
+           "FROM NopPhi p JOIN p.hoKhau h GROUP BY h.id, h.chuHo ORDER BY SUM(p.soTien) DESC")
+    List<HouseholdPaymentTotals> findTopPayingHouseholds(Pageable pageable);
+    
+    @Query("SELECT p.id AS id, h.id AS hoKhauId, h.chuHo AS chuHo, k.id AS khoanThuId, " +
+           "k.tenKhoanThu AS tenKhoanThu, p.ngayNop AS ngayNop, p.soTien AS soTien, p.daXacNhan AS daXacNhan " +
+           "FROM NopPhi p JOIN p.hoKhau h JOIN p.khoanThu k ORDER BY p.ngayNop DESC, p.id DESC")
+    List<RecentPayment> findRecent(Pageable pageable);
 }
\ No newline at end of file
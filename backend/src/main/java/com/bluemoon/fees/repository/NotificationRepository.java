@@ -1,22 +1,33 @@
 package com.bluemoon.fees.repository;
 
 import com.bluemoon.fees.entity.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
-    List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
+    // Compares user_id directly; the derived form outer-joins users and misses idx_notifications_user_created
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId ORDER BY n.createdAt DESC")
+    List<Notification> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId);
     
-    List<Notification> findByReadFalseOrderByCreatedAtDesc();
+    // Newest unread first, addressed to the user or to everyone; callers cap the page, the menu takes the total
+    // from the unread count
+    @Query("SELECT n FROM Notification n WHERE n.read = false AND (n.user IS NULL OR n.user.id = :userId) ORDER BY n.createdAt DESC")
+    List<Notification> findUnreadVisibleTo(@Param("userId") Long userId, Pageable pageable);
     
     @Modifying
-    @Query("UPDATE Notification n SET n.read = true WHERE n.id = :notificationId")
-    void markAsRead(Long notificationId);
+    @Query("UPDATE Notification n SET n.read = true WHERE n.id = :notificationId AND (n.user IS NULL OR n.user.id = :userId)")
+    int markAsRead(@Param("notificationId") Long notificationId, @Param("userId") Long userId);
     
     long countByReadFalse();
+    
+    // Unread notifications a user sees: addressed to them or to everyone
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.read = false AND (n.user IS NULL OR n.user.id = :userId)")
+    long countUnreadVisibleTo(@Param("userId") Long userId);
 } 
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.bluemoon.fees.repository;
+
+import com.bluemoon.fees.dto.OverdueHouseholdDTO;
+import com.bluemoon.fees.entity.OverdueFee;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface OverdueFeeRepository extends JpaRepository<OverdueFee, Long> {
+
+    // Rows of the fee whose household has since paid (verified) or been deactivated
+    @Modifying
+    @Query("DELETE FROM OverdueFee o WHERE o.khoanThuId = :khoanThuId AND (" +
+           "EXISTS (SELECT 1 FROM NopPhi p WHERE p.hoKhau.id = o.hoKhauId AND p.khoanThu.id = o.khoanThuId AND p.daXacNhan = true) " +
+           "OR NOT EXISTS (SELECT 1 FROM HoKhau h WHERE h.id = o.hoKhauId AND h.hoatDong = true))")
+    int deleteSettled(@Param("khoanThuId") Long khoanThuId);
+
+    // Rows kept from an earlier run take the fee's current amount and due date
+    @Modifying
+    @Query("UPDATE OverdueFee o SET o.soTien = :soTien, o.thoiHan = :thoiHan, o.computedAt = :computedAt " +
+           "WHERE o.khoanThuId = :khoanThuId")
+    int updateFee(@Param("khoanThuId") Long khoanThuId, @Param("soTien") double soTien,
+                  @Param("thoiHan") LocalDate thoiHan, @Param("computedAt") LocalDateTime computedAt);
+
+    // Drops fees that are no longer overdue, mandatory or active
+    @Modifying
+    @Query("DELETE FROM OverdueFee o WHERE o.khoanThuId NOT IN :khoanThuIds")
+    int deleteByKhoanThuNotIn(@Param("khoanThuIds") Collection<Long> khoanThuIds);
+
+    // Anti-join: every active household with no verified payment for the fee that is not in the snapshot yet,
+    // in one statement; the row count is the number of households that became overdue since the last run
+    @Modifying
+    @Query(value = "INSERT INTO overdue_fee (ho_khau_id, khoan_thu_id, so_tien, thoi_han, computed_at) " +
+           "SELECT h.id, k.id, k.so_tien, k.thoi_han, :computedAt FROM ho_khau h JOIN khoan_thu k ON k.id = :khoanThuId " +
+           "WHERE h.hoat_dong = true " +
+           "AND NOT EXISTS (SELECT 1 FROM nop_phi p WHERE p.ho_khau_id = h.id AND p.khoan_thu_id = k.id AND p.da_xac_nhan = true) " +
+           "AND NOT EXISTS (SELECT 1 FROM overdue_fee o WHERE o.khoan_thu_id = k.id AND o.ho_khau_id = h.id)",
+           nativeQuery = true)
+    int insertNewlyUnpaid(@Param("khoanThuId") Long khoanThuId, @Param("computedAt") LocalDateTime computedAt);
+
+    long countByKhoanThuId(Long khoanThuId);
+
+    @Query(value = "SELECT new com.bluemoon.fees.dto.OverdueHouseholdDTO(o.hoKhauId, h.soHoKhau, h.chuHo, o.khoanThuId, " +
+           "k.tenKhoanThu, o.soTien, o.thoiHan, o.computedAt) " +
+           "FROM OverdueFee o JOIN HoKhau h ON h.id = o.hoKhauId JOIN KhoanThu k ON k.id = o.khoanThuId " +
+           "WHERE (:khoanThuId IS NULL OR o.khoanThuId = :khoanThuId) AND (:hoKhauId IS NULL OR o.hoKhauId = :hoKhauId)",
+           countQuery = "SELECT COUNT(o) FROM OverdueFee o " +
+           "WHERE (:khoanThuId IS NULL OR o.khoanThuId = :khoanThuId) AND (:hoKhauId IS NULL OR o.hoKhauId = :hoKhauId)")
+    Page<OverdueHouseholdDTO> findOverdueHouseholds(@Param("khoanThuId") Long khoanThuId,
+                                                    @Param("hoKhauId") Long hoKhauId,
+                                                    Pageable pageable);
+}
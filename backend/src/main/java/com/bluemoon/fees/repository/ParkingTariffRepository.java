@@ -0,0 +1,17 @@
+package com.bluemoon.fees.repository;
+
+import com.bluemoon.fees.entity.ParkingTariff;
+import com.bluemoon.fees.entity.VehicleType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ParkingTariffRepository extends JpaRepository<ParkingTariff, Long> {
+
+    List<ParkingTariff> findAllByOrderByLoaiXeAscHieuLucTuAsc();
+
+    boolean existsByLoaiXeAndHieuLucTu(VehicleType loaiXe, LocalDate hieuLucTu);
+}
@@ -1,7 +1,10 @@
 package com.bluemoon.fees.repository;
 
+import com.bluemoon.fees.dto.TamTruTamVangDTO;
 import com.bluemoon.fees.entity.TamTruTamVang;
 import com.bluemoon.fees.entity.NhanKhau;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,9 +12,19 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TamTruTamVangRepository extends JpaRepository<TamTruTamVang, Long> {
+    
+    // Record views: the person's id and name come from the join, one statement per list
+    String RECORD = "SELECT new com.bluemoon.fees.dto.TamTruTamVangDTO(t.id, t.trangThai, t.diaChiTamTruTamVang, " +
+            "t.thoiGian, t.noiDungDeNghi, n.id, n.hoTen) " +
+            "FROM TamTruTamVang t LEFT JOIN t.nhanKhau n ";
+    // Every filter is optional; the date bounds are inclusive
+    String FILTER = "(:trangThai IS NULL OR t.trangThai = :trangThai) " +
+            "AND (:startDate IS NULL OR t.thoiGian >= :startDate) AND (:endDate IS NULL OR t.thoiGian <= :endDate)";
+    
     List<TamTruTamVang> findByTrangThai(TamTruTamVang.TrangThai trangThai);
     List<TamTruTamVang> findByNhanKhau(NhanKhau nhanKhau);
     
@@ -20,4 +33,22 @@ public interface TamTruTamVangRepository extends JpaRepository<TamTruTamVang, Lo
     List<TamTruTamVang> findByNhanKhauId(@Param("nhanKhauId") Long nhanKhauId);
     
     List<TamTruTamVang> findByThoiGianBetween(LocalDate startDate, LocalDate endDate);
-}
\ No newline at end of file
+    
+    @Query(value = RECORD + "WHERE " + FILTER,
+           countQuery = "SELECT COUNT(t) FROM TamTruTamVang t WHERE " + FILTER)
+    Page<TamTruTamVangDTO> findRecordPage(@Param("trangThai") TamTruTamVang.TrangThai trangThai,
+                                          @Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate,
+                                          Pageable pageable);
+    
+    @Query(RECORD + "WHERE " + FILTER + " ORDER BY t.id")
+    List<TamTruTamVangDTO> findRecords(@Param("trangThai") TamTruTamVang.TrangThai trangThai,
+                                       @Param("startDate") LocalDate startDate,
+                                       @Param("endDate") LocalDate endDate);
+    
+    @Query(RECORD + "WHERE n.id = :nhanKhauId ORDER BY t.id")
+    List<TamTruTamVangDTO> findRecordsByNhanKhauId(@Param("nhanKhauId") Long nhanKhauId);
+    
+    @Query(RECORD + "WHERE t.id = :id")
+    Optional<TamTruTamVangDTO> findRecordById(@Param("id") Long id);
+}
@@ -0,0 +1,22 @@
+package com.bluemoon.fees.repository;
+
+import com.bluemoon.fees.entity.TransactionCodeBlock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TransactionCodeBlockRepository extends JpaRepository<TransactionCodeBlock, String> {
+
+    // Reserves the next :size numbers in one statement; the first block of the day creates the row, numbering from 1.
+    // The row lock is held only until the reserving transaction commits.
+    @Modifying
+    @Query(value = "INSERT INTO transaction_code_block (code_prefix, next_val) VALUES (:prefix, 1 + :size) " +
+           "ON DUPLICATE KEY UPDATE next_val = next_val + :size", nativeQuery = true)
+    int reserve(@Param("prefix") String prefix, @Param("size") long size);
+
+    @Query("SELECT b.nextVal FROM TransactionCodeBlock b WHERE b.codePrefix = :prefix")
+    Long findNextVal(@Param("prefix") String prefix);
+}
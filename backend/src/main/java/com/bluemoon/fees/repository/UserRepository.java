@@ -1,9 +1,14 @@
 package com.bluemoon.fees.repository;
 
 import com.bluemoon.fees.entity.User;
+import com.bluemoon.fees.repository.projection.NotificationRecipient;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +17,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByVaiTro(String vaiTro);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    @Query("SELECT u.id AS id, u.vaiTro AS vaiTro FROM User u WHERE u.enabled = true AND u.vaiTro IN :roles")
+    List<NotificationRecipient> findRecipientsByRoles(@Param("roles") Collection<String> roles);
 }
\ No newline at end of file
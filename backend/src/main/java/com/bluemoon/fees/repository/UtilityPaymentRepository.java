@@ -1,6 +1,10 @@
 package com.bluemoon.fees.repository;
 
 import com.bluemoon.fees.entity.UtilityPayment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -32,6 +36,14 @@ public interface UtilityPaymentRepository extends JpaRepository<UtilityPayment,
     
     // Find utility payments with household and utility service information
 
+    // Paged listing with household information: offset pages and keyset (id > afterId) slices
+    @EntityGraph(attributePaths = "hoKhau")
+    @Query("SELECT up FROM UtilityPayment up")
+    Page<UtilityPayment> findPageWithHoKhau(Pageable pageable);
+    
+    @EntityGraph(attributePaths = "hoKhau")
+    Slice<UtilityPayment> findByIdGreaterThan(Long afterId, Pageable pageable);
+    
     // Search utility payments
     @Query("SELECT up FROM UtilityPayment up LEFT JOIN FETCH up.hoKhau h " +
            "WHERE (:search IS NULL OR :search = '' OR " +
@@ -1,6 +1,7 @@
 package com.bluemoon.fees.repository;
 
 import com.bluemoon.fees.entity.UtilityService;
+import com.bluemoon.fees.repository.projection.UtilityServiceKey;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -35,6 +36,17 @@ public interface UtilityServiceRepository extends JpaRepository<UtilityService,
         @Param("utilityId") Long utilityId
     );
     
+    // Existing (household, service type, month, year) keys, for validating a billing run in memory
+    @Query("SELECT u.hoKhau.id AS hoKhauId, u.loaiDichVu AS loaiDichVu, u.thang AS thang, u.nam AS nam " +
+           "FROM UtilityService u WHERE u.thang = :thang AND u.nam = :nam")
+    List<UtilityServiceKey> findKeysByThangAndNam(@Param("thang") Integer thang, @Param("nam") Integer nam);
+    
+    // Scalar rows (id, soLuongSuDung, tongTien, hoKhauId) of a month's unpaid bills priced by the tiered tariff
+    @Query("SELECT u.id, u.soLuongSuDung, u.tongTien, u.hoKhau.id FROM UtilityService u " +
+           "WHERE u.loaiDichVu = :loaiDichVu AND u.thang = :thang AND u.nam = :nam AND u.theoBieuGia = true " +
+           "AND (u.trangThai IS NULL OR u.trangThai <> 'DA_THANH_TOAN')")
+    List<Object[]> findMeteredReadings(@Param("loaiDichVu") String loaiDichVu, @Param("thang") Integer thang, @Param("nam") Integer nam);
+    
     // Find utility services with household information
     @Query("SELECT u FROM UtilityService u LEFT JOIN FETCH u.hoKhau WHERE u.id = :id")
     Optional<UtilityService> findByIdWithHoKhau(@Param("id") Long id);
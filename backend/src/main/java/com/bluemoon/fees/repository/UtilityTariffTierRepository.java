@@ -0,0 +1,16 @@
+package com.bluemoon.fees.repository;
+
+import com.bluemoon.fees.entity.UtilityTariffTier;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface UtilityTariffTierRepository extends JpaRepository<UtilityTariffTier, Long> {
+
+    List<UtilityTariffTier> findAllByOrderByLoaiDichVuAscHieuLucTuAscBacAsc();
+
+    boolean existsByLoaiDichVuAndHieuLucTu(String loaiDichVu, LocalDate hieuLucTu);
+}
@@ -1,6 +1,12 @@
 package com.bluemoon.fees.repository;
 
 import com.bluemoon.fees.entity.Vehicle;
+import com.bluemoon.fees.repository.projection.HouseholdVehicleCount;
+import com.bluemoon.fees.repository.projection.VehicleTypeCount;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,8 +28,17 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
     @Query("SELECT COUNT(v) > 0 FROM Vehicle v WHERE v.bienSoXe = :bienSoXe AND (:vehicleId IS NULL OR v.id != :vehicleId)")
     boolean existsByBienSoXeAndIdNot(@Param("bienSoXe") String bienSoXe, @Param("vehicleId") Long vehicleId);
     
-    // Find vehicles by type
-    List<Vehicle> findByLoaiXe(String loaiXe);
+    // Count vehicles by type
+    long countByLoaiXe(String loaiXe);
+    
+    // Vehicle counts per type for one household / for every active household (parking fee billing)
+    @Query("SELECT v.loaiXe AS loaiXe, COUNT(v) AS soLuong FROM Vehicle v WHERE v.hoKhauId = :hoKhauId GROUP BY v.loaiXe")
+    List<VehicleTypeCount> countByTypeForHoKhau(@Param("hoKhauId") Long hoKhauId);
+    
+    @Query("SELECT h.id AS hoKhauId, h.soHoKhau AS soHoKhau, h.chuHo AS chuHo, v.loaiXe AS loaiXe, COUNT(v.id) AS soLuong " +
+           "FROM HoKhau h LEFT JOIN Vehicle v ON v.hoKhauId = h.id WHERE h.hoatDong = true " +
+           "GROUP BY h.id, h.soHoKhau, h.chuHo, v.loaiXe ORDER BY h.id")
+    List<HouseholdVehicleCount> countByTypeForAllHoKhau();
     
     // Count vehicles by household
     long countByHoKhauId(Long hoKhauId);
@@ -36,6 +51,14 @@ public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
     @Query("SELECT v FROM Vehicle v LEFT JOIN FETCH v.hoKhau")
     List<Vehicle> findAllWithHoKhau();
     
+    // Paged listing with household information: offset pages and keyset (id > afterId) slices
+    @EntityGraph(attributePaths = "hoKhau")
+    @Query("SELECT v FROM Vehicle v")
+    Page<Vehicle> findPageWithHoKhau(Pageable pageable);
+    
+    @EntityGraph(attributePaths = "hoKhau")
+    Slice<Vehicle> findByIdGreaterThan(Long afterId, Pageable pageable);
+    
     // Search vehicles by license plate or household number
     @Query("SELECT v FROM Vehicle v LEFT JOIN FETCH v.hoKhau h " +
            "WHERE (:search IS NULL OR :search = '' OR " +
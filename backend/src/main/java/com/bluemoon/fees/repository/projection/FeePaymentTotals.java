@@ -0,0 +1,7 @@
+package com.bluemoon.fees.repository.projection;
+
+public interface FeePaymentTotals {
+    Long getKhoanThuId();
+    String getTenKhoanThu();
+    double getTotalAmount();
+}
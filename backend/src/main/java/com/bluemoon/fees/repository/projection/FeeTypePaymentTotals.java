@@ -0,0 +1,9 @@
+package com.bluemoon.fees.repository.projection;
+
+public interface FeeTypePaymentTotals {
+    Boolean getBatBuoc();
+    long getPaymentCount();
+    long getVerifiedCount();
+    double getTotalAmount();
+    double getVerifiedAmount();
+}
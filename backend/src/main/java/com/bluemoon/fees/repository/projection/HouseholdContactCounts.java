@@ -0,0 +1,7 @@
+package com.bluemoon.fees.repository.projection;
+
+public interface HouseholdContactCounts {
+    long getInactiveCount();
+    long getWithPhoneNumber();
+    long getWithEmail();
+}
@@ -0,0 +1,10 @@
+package com.bluemoon.fees.repository.projection;
+
+import java.time.LocalDate;
+
+public interface HouseholdPaymentTotals {
+    Long getHoKhauId();
+    String getChuHo();
+    double getTotalAmount();
+    LocalDate getLastPayment();
+}
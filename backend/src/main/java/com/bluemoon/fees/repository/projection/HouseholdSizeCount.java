@@ -0,0 +1,6 @@
+package com.bluemoon.fees.repository.projection;
+
+public interface HouseholdSizeCount {
+    Integer getSoThanhVien();
+    long getHouseholdCount();
+}
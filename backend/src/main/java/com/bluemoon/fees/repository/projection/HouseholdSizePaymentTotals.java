@@ -0,0 +1,7 @@
+package com.bluemoon.fees.repository.projection;
+
+public interface HouseholdSizePaymentTotals {
+    Integer getSoThanhVien();
+    long getPaymentCount();
+    double getTotalAmount();
+}
@@ -0,0 +1,10 @@
+package com.bluemoon.fees.repository.projection;
+
+// One row per (household, vehicle type); households without vehicles have a single row with a null type and 0
+public interface HouseholdVehicleCount {
+    Long getHoKhauId();
+    String getSoHoKhau();
+    String getChuHo();
+    String getLoaiXe();
+    long getSoLuong();
+}
@@ -0,0 +1,7 @@
+package com.bluemoon.fees.repository.projection;
+
+public interface MonthlyFeeCount {
+    int getNam();
+    int getThang();
+    long getFeeCount();
+}
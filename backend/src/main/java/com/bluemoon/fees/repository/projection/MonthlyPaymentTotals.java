@@ -0,0 +1,9 @@
+package com.bluemoon.fees.repository.projection;
+
+public interface MonthlyPaymentTotals {
+    int getNam();
+    int getThang();
+    Boolean getBatBuoc();
+    long getPaymentCount();
+    double getTotalAmount();
+}
@@ -0,0 +1,6 @@
+package com.bluemoon.fees.repository.projection;
+
+public interface NotificationRecipient {
+    Long getId();
+    String getVaiTro();
+}
@@ -0,0 +1,9 @@
+package com.bluemoon.fees.repository.projection;
+
+import java.time.LocalDate;
+
+// Ledger month of a payment's fee: the levy obligation's date, or else the fee's first payment date
+public interface PaymentFeeMonth {
+    Long getHoKhauId();
+    LocalDate getNgay();
+}
@@ -0,0 +1,7 @@
+package com.bluemoon.fees.repository.projection;
+
+public interface PaymentStatistics {
+    long getPaymentCount();
+    long getVerifiedCount();
+    double getVerifiedAmount();
+}
@@ -0,0 +1,10 @@
+package com.bluemoon.fees.repository.projection;
+
+import java.time.LocalDate;
+
+public interface PaymentVerificationState {
+    Long getId();
+    boolean isDaXacNhan();
+    Long getHoKhauId();
+    LocalDate getNgayNop();
+}
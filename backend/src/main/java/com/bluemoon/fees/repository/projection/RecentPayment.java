@@ -0,0 +1,14 @@
+package com.bluemoon.fees.repository.projection;
+
+import java.time.LocalDate;
+
+public interface RecentPayment {
+    Long getId();
+    Long getHoKhauId();
+    String getChuHo();
+    Long getKhoanThuId();
+    String getTenKhoanThu();
+    LocalDate getNgayNop();
+    Double getSoTien();
+    Boolean getDaXacNhan();
+}
@@ -0,0 +1,8 @@
+package com.bluemoon.fees.repository.projection;
+
+public interface UtilityServiceKey {
+    Long getHoKhauId();
+    String getLoaiDichVu();
+    Integer getThang();
+    Integer getNam();
+}
@@ -0,0 +1,34 @@
+package com.bluemoon.fees.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchDocument {
+    private String type; // HO_KHAU, NHAN_KHAU, XE
+    private Long id;
+    private Long hoKhauId;
+    private String title;
+    private String subtitle;
+    private List<Field> fields;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Field {
+        private String value;
+        private int weight;
+        private boolean identifier;
+    }
+
+    public String key() {
+        return type + ":" + id;
+    }
+}
@@ -0,0 +1,283 @@
+package com.bluemoon.fees.search;
+
+import com.bluemoon.fees.dto.SearchResultDTO;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index of folded terms. A query term matches an indexed term exactly, as a prefix, or (3+ characters)
+ * anywhere inside it via a trigram index; every query term must match for a document to be returned.
+ */
+public class SearchIndex {
+
+    private static final int EXACT = 3;
+    private static final int PREFIX = 2;
+    private static final int SUBSTRING = 1;
+
+    private final Map<String, SearchDocument> documents = new HashMap<>();
+    // document key -> its terms with weights, used to check the remaining query terms against a candidate
+    private final Map<String, Map<String, Integer>> documentTerms = new HashMap<>();
+    // term -> document key -> highest field weight the term appears in
+    private final NavigableMap<String, Map<String, Integer>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> trigrams = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(SearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.key());
+            Map<String, Integer> terms = new HashMap<>();
+            for (SearchDocument.Field field : document.getFields()) {
+                Collection<String> fieldTerms = field.isIdentifier()
+                        ? List.of(TextFolding.compact(field.getValue()))
+                        : TextFolding.words(field.getValue());
+                for (String term : fieldTerms) {
+                    if (!term.isEmpty()) {
+                        terms.merge(term, field.getWeight(), Math::max);
+                    }
+                }
+            }
+            terms.forEach((term, weight) -> {
+                Map<String, Integer> posting = postings.computeIfAbsent(term, t -> {
+                    for (String trigram : trigramsOf(t)) {
+                        trigrams.computeIfAbsent(trigram, g -> new HashSet<>()).add(t);
+                    }
+                    return new HashMap<>();
+                });
+                posting.put(document.key(), weight);
+            });
+            documents.put(document.key(), document);
+            documentTerms.put(document.key(), terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String type, Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(type + ":" + id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            documentTerms.clear();
+            postings.clear();
+            trigrams.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<SearchResultDTO> search(String query, Set<String> types, int limit) {
+        List<String> queryTerms = new ArrayList<>();
+        for (String part : TextFolding.fold(query).split("\\s+")) {
+            String term = TextFolding.compact(part);
+            if (!term.isEmpty()) {
+                queryTerms.add(term);
+            }
+        }
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            // Candidates come from the most selective term; the other terms are checked per candidate
+            String driver = queryTerms.get(0);
+            long driverSize = Long.MAX_VALUE;
+            for (String term : queryTerms) {
+                long size = estimateMatches(term, driverSize);
+                if (size < driverSize) {
+                    driver = term;
+                    driverSize = size;
+                }
+            }
+
+            // Min-heap of the best `limit` candidates: weakest (lowest score, then last title) on top
+            PriorityQueue<Candidate> top = new PriorityQueue<>(SearchIndex::compareRank);
+            for (Map.Entry<String, Integer> entry : scoreTerm(driver).entrySet()) {
+                SearchDocument document = documents.get(entry.getKey());
+                if (types != null && !types.isEmpty() && !types.contains(document.getType())) {
+                    continue;
+                }
+                int score = entry.getValue();
+                for (String term : queryTerms) {
+                    if (term != driver) {
+                        int termScore = scoreDocument(documentTerms.get(entry.getKey()), term);
+                        if (termScore == 0) {
+                            score = 0;
+                            break;
+                        }
+                        score += termScore;
+                    }
+                }
+                if (score > 0) {
+                    Candidate candidate = new Candidate(document, score);
+                    if (top.size() < limit) {
+                        top.add(candidate);
+                    } else if (compareRank(candidate, top.peek()) > 0) {
+                        top.poll();
+                        top.add(candidate);
+                    }
+                }
+            }
+
+            List<SearchResultDTO> results = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                Candidate candidate = top.poll();
+                SearchDocument document = candidate.document();
+                results.add(SearchResultDTO.builder()
+                        .type(document.getType())
+                        .id(document.getId())
+                        .hoKhauId(document.getHoKhauId())
+                        .title(document.getTitle())
+                        .subtitle(document.getSubtitle())
+                        .score(candidate.score())
+                        .build());
+            }
+            Collections.reverse(results);
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record Candidate(SearchDocument document, int score) {
+    }
+
+    // Higher score ranks higher; ties go to the alphabetically earlier title
+    private static int compareRank(Candidate a, Candidate b) {
+        if (a.score() != b.score()) {
+            return Integer.compare(a.score(), b.score());
+        }
+        String titleA = a.document().getTitle();
+        String titleB = b.document().getTitle();
+        if (titleA == null || titleB == null) {
+            return titleA == null ? (titleB == null ? 0 : -1) : 1;
+        }
+        return titleB.compareTo(titleA);
+    }
+
+    // Documents reachable through exact/prefix terms, counted only up to the current best
+    private long estimateMatches(String term, long bound) {
+        long total = 0;
+        for (Map<String, Integer> posting : postings.subMap(term, true, term + Character.MAX_VALUE, true).values()) {
+            total += posting.size();
+            if (total >= bound) {
+                return total;
+            }
+        }
+        // Substring-only matches are not counted; a term with no prefix hits is still a good driver
+        return total;
+    }
+
+    private static int scoreDocument(Map<String, Integer> terms, String queryTerm) {
+        int best = 0;
+        for (Map.Entry<String, Integer> entry : terms.entrySet()) {
+            String term = entry.getKey();
+            int match = term.equals(queryTerm) ? EXACT
+                    : term.startsWith(queryTerm) ? PREFIX
+                    : queryTerm.length() >= 3 && term.contains(queryTerm) ? SUBSTRING : 0;
+            best = Math.max(best, match * entry.getValue());
+        }
+        return best;
+    }
+
+    // Best score per document for one query term
+    private Map<String, Integer> scoreTerm(String term) {
+        Map<String, Integer> scores = new HashMap<>();
+        for (Map.Entry<String, Map<String, Integer>> entry
+                : postings.subMap(term, true, term + Character.MAX_VALUE, true).entrySet()) {
+            int match = entry.getKey().equals(term) ? EXACT : PREFIX;
+            entry.getValue().forEach((key, weight) -> scores.merge(key, match * weight, Math::max));
+        }
+        if (term.length() >= 3) {
+            for (String candidate : substringCandidates(term)) {
+                if (!candidate.startsWith(term) && candidate.contains(term)) {
+                    postings.get(candidate).forEach((key, weight) -> scores.merge(key, SUBSTRING * weight, Math::max));
+                }
+            }
+        }
+        return scores;
+    }
+
+    private Set<String> substringCandidates(String term) {
+        Set<String> candidates = null;
+        for (String trigram : trigramsOf(term)) {
+            Set<String> terms = trigrams.get(trigram);
+            if (terms == null) {
+                return Set.of();
+            }
+            if (candidates == null) {
+                candidates = new HashSet<>(terms);
+            } else {
+                candidates.retainAll(terms);
+            }
+            if (candidates.isEmpty()) {
+                return candidates;
+            }
+        }
+        return candidates != null ? candidates : Set.of();
+    }
+
+    private void removeLocked(String key) {
+        Map<String, Integer> terms = documentTerms.remove(key);
+        documents.remove(key);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<String, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                    for (String trigram : trigramsOf(term)) {
+                        Set<String> trigramTerms = trigrams.get(trigram);
+                        if (trigramTerms != null) {
+                            trigramTerms.remove(term);
+                            if (trigramTerms.isEmpty()) {
+                                trigrams.remove(trigram);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static Set<String> trigramsOf(String term) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + 3 <= term.length(); i++) {
+            result.add(term.substring(i, i + 3));
+        }
+        return result;
+    }
+}
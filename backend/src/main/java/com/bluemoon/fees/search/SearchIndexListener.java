@@ -0,0 +1,63 @@
+package com.bluemoon.fees.search;
+
+import com.bluemoon.fees.entity.HoKhau;
+import com.bluemoon.fees.entity.NhanKhau;
+import com.bluemoon.fees.entity.Vehicle;
+import com.bluemoon.fees.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Applies committed inserts, updates and deletes of indexed entities to the search index.
+ * Rolled-back changes never reach the index.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private final SearchService searchService;
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        searchService.indexEntity(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        searchService.indexEntity(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        searchService.removeEntity(event.getEntity());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        log.debug("Insert of {} not committed, search index unchanged", event.getEntity().getClass().getSimpleName());
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        log.debug("Update of {} not committed, search index unchanged", event.getEntity().getClass().getSimpleName());
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        log.debug("Delete of {} not committed, search index unchanged", event.getEntity().getClass().getSimpleName());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> type = persister.getMappedClass();
+        return type == HoKhau.class || type == NhanKhau.class || type == Vehicle.class;
+    }
+}
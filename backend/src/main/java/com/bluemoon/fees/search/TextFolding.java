@@ -0,0 +1,44 @@
+package com.bluemoon.fees.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Vietnamese accent folding: "Nguyễn Văn Đức" and "nguyen van duc" fold to the same terms.
+ */
+public final class TextFolding {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+
+    private TextFolding() {
+    }
+
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        // đ/Đ are letters of their own, not d plus a mark, so NFD leaves them alone
+        String decomposed = Normalizer.normalize(text.replace('đ', 'd').replace('Đ', 'D'), Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    // Free text (names, addresses): one term per word
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : NON_ALPHANUMERIC.split(fold(text))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    // Identifiers (plates, CCCD, household numbers): punctuation dropped so "29A-123.45" matches "29a12345"
+    public static String compact(String text) {
+        return NON_ALPHANUMERIC.matcher(fold(text)).replaceAll("");
+    }
+}
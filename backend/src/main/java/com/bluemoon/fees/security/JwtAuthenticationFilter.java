@@ -1,6 +1,8 @@
 package com.bluemoon.fees.security;
 
+import com.bluemoon.fees.controller.NotificationController;
 import com.bluemoon.fees.service.UserService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,6 +22,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserService userService;
+    private final JwtTokenCache tokenCache;
+    private final StreamTicketStore streamTicketStore;
 
     @Override
     protected void doFilterInternal(
@@ -29,29 +33,61 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String username;
 
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            jwt = authHeader.substring(7);
+        } else if (isStreamRequest(request) && request.getParameter("ticket") != null) {
+            // EventSource cannot set headers; the notification stream authenticates with a single-use ticket
+            authenticateWithTicket(request, request.getParameter("ticket"));
+            filterChain.doFilter(request, response);
+            return;
+        } else {
             filterChain.doFilter(request, response);
             return;
         }
 
-        jwt = authHeader.substring(7);
-        username = jwtService.extractUsername(jwt);
-
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userService.loadUserByUsername(username);
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = tokenCache.get(jwt);
             
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                    userDetails,
-                    null,
-                    userDetails.getAuthorities()
-                );
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+            if (userDetails == null) {
+                // Parse once: signature and expiry are verified here
+                Claims claims = jwtService.extractAllClaims(jwt);
+                if (claims.getSubject() != null) {
+                    UserDetails loaded = userService.loadUserByUsername(claims.getSubject());
+                    if (loaded.isEnabled()) {
+                        tokenCache.put(jwt, loaded, claims.getExpiration().toInstant());
+                        userDetails = loaded;
+                    }
+                }
+            }
+            
+            if (userDetails != null) {
+                authenticate(request, userDetails);
             }
         }
         filterChain.doFilter(request, response);
     }
-} 
\ No newline at end of file
+
+    private void authenticateWithTicket(HttpServletRequest request, String ticket) {
+        StreamTicketStore.Ticket redeemed = streamTicketStore.redeem(ticket);
+        if (redeemed != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            authenticate(request, redeemed.userDetails());
+            // The stream handler reads the id from here, so the long-lived request runs no user query
+            request.setAttribute(NotificationController.STREAM_USER_ID_ATTRIBUTE, redeemed.userId());
+        }
+    }
+
+    private void authenticate(HttpServletRequest request, UserDetails userDetails) {
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+            userDetails,
+            null,
+            userDetails.getAuthorities()
+        );
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
+
+    private boolean isStreamRequest(HttpServletRequest request) {
+        return request.getRequestURI().equals(request.getContextPath() + NotificationController.STREAM_PATH);
+    }
+}
@@ -0,0 +1,72 @@
+package com.bluemoon.fees.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Verified tokens mapped to the principal loaded for them, so repeat requests skip signature checks and the user lookup.
+ * An entry lives for the configured TTL but never past the token's own expiry.
+ */
+@Component
+@Slf4j
+public class JwtTokenCache {
+
+    private final Cache<String, Entry> cache;
+
+    public JwtTokenCache(@Value("${app.jwt.cache.max-size:10000}") long maxSize,
+                         @Value("${app.jwt.cache.ttl-seconds:300}") long ttlSeconds) {
+        long ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String token, Entry entry, long currentTime) {
+                        long untilTokenExpiry = Duration.between(Instant.now(), entry.expiresAt()).toNanos();
+                        return Math.max(0, Math.min(ttlNanos, untilTokenExpiry));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(token, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public UserDetails get(String token) {
+        Entry entry = cache.getIfPresent(token);
+        return entry != null ? entry.userDetails() : null;
+    }
+
+    public void put(String token, UserDetails userDetails, Instant expiresAt) {
+        cache.put(token, new Entry(userDetails, expiresAt));
+    }
+
+    public void invalidateUser(String username) {
+        cache.asMap().values().removeIf(entry -> entry.userDetails().getUsername().equals(username));
+    }
+
+    // After commit, so a request racing the change cannot re-cache the old principal from uncommitted state
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        log.debug("Evicting cached tokens for user {}", event.getUsername());
+        invalidateUser(event.getUsername());
+    }
+
+    private record Entry(UserDetails userDetails, Instant expiresAt) {
+    }
+}
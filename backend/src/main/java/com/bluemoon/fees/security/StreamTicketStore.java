@@ -0,0 +1,53 @@
+package com.bluemoon.fees.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Single-use tickets for opening the notification stream. EventSource cannot send an Authorization header, and a JWT
+ * in the query string ends up in access and proxy logs; instead an authenticated request exchanges its token for a
+ * random ticket that is valid for a few seconds and consumed by the first stream request presenting it.
+ * Tickets live in memory, so the stream must be opened on the instance that issued the ticket.
+ */
+@Component
+public class StreamTicketStore {
+
+    private final SecureRandom random = new SecureRandom();
+    private final Cache<String, Ticket> tickets;
+
+    public StreamTicketStore(@Value("${app.notifications.stream-ticket-ttl:30s}") Duration ttl) {
+        this.tickets = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public String issue(UserDetails userDetails, Long userId) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        tickets.put(ticket, new Ticket(userDetails, userId));
+        return ticket;
+    }
+
+    // Returns the ticket's principal and removes it, or null when it is unknown, used or expired
+    public Ticket redeem(String ticket) {
+        return tickets.asMap().remove(ticket);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        tickets.asMap().values().removeIf(ticket -> ticket.userDetails().getUsername().equals(event.getUsername()));
+    }
+
+    public record Ticket(UserDetails userDetails, Long userId) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.bluemoon.fees.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when a user's credentials, role or enabled flag change, or the user is deleted.
+ * Tokens already verified for that username must be checked against the database again.
+ */
+@Getter
+@AllArgsConstructor
+public class UserAccountChangedEvent {
+    private final String username;
+}
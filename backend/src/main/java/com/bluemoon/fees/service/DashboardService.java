@@ -0,0 +1,7 @@
+package com.bluemoon.fees.service;
+
+import com.bluemoon.fees.dto.DashboardSummaryDTO;
+
+public interface DashboardService {
+    DashboardSummaryDTO getSummary(int months);
+}
@@ -0,0 +1,8 @@
+package com.bluemoon.fees.service;
+
+import com.bluemoon.fees.dto.LevyJobDTO;
+
+public interface FeeLevyService {
+    LevyJobDTO startLevy(Long khoanThuId);
+    LevyJobDTO getJob(String jobId);
+}
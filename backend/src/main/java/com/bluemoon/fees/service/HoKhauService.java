@@ -1,14 +1,30 @@
 package com.bluemoon.fees.service;
 
+import com.bluemoon.fees.dto.HoKhauDetail;
+import com.bluemoon.fees.dto.HoKhauListItem;
+import com.bluemoon.fees.dto.HoKhauSummary;
+import com.bluemoon.fees.dto.PageResponse;
 import com.bluemoon.fees.entity.HoKhau;
 import com.bluemoon.fees.entity.NhanKhau;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 
 public interface HoKhauService extends BaseService<HoKhau, Long> {
     List<HoKhau> findAllActive();
+    PageResponse<HoKhau> findPage(boolean showAll, Long afterId, Pageable pageable);
     HoKhau findActiveById(Long id);
-    List<HoKhau> searchByChuHo(String chuHo);
-    List<HoKhau> searchByAddress(String address);
+    HoKhauSummary getSummary(Long id);
+    
+    // Projection views (?view=list|detail|members)
+    List<HoKhauListItem> findListItems(boolean showAll);
+    PageResponse<HoKhauListItem> findListItemPage(boolean showAll, Long afterId, Pageable pageable);
+    List<HoKhauListItem> searchListItems(String chuHo, String address, boolean showAll);
+    HoKhauListItem getListItem(Long id);
+    List<HoKhauDetail> findDetails(boolean showAll, boolean withMembers);
+    HoKhauDetail getDetail(Long id, boolean withMembers);
+    List<HoKhau> searchByChuHo(String chuHo, boolean showAll);
+    List<HoKhau> searchByAddress(String address, boolean showAll);
     HoKhau findBySoHoKhau(String soHoKhau);
     HoKhau createHoKhau(HoKhau hoKhau);
     HoKhau updateHoKhau(Long id, HoKhau hoKhau);
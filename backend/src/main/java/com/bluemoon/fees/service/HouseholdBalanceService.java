@@ -0,0 +1,16 @@
+package com.bluemoon.fees.service;
+
+import com.bluemoon.fees.dto.OutstandingBalanceDTO;
+import com.bluemoon.fees.dto.PageResponse;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+public interface HouseholdBalanceService {
+    // Recompute the ledger row of each household for the given month, in the caller's transaction
+    void refresh(Long hoKhauId, Integer thang, Integer nam);
+    void refresh(Collection<Long> hoKhauIds, Integer thang, Integer nam);
+    void refreshMonthOf(Long hoKhauId, LocalDate date);
+    PageResponse<OutstandingBalanceDTO> findOutstanding(Integer thang, Integer nam, Long hoKhauId, Pageable pageable);
+}
@@ -1,5 +1,6 @@
 package com.bluemoon.fees.service;
 
+import com.bluemoon.fees.dto.KhoanThuSummary;
 import com.bluemoon.fees.entity.KhoanThu;
 import java.time.LocalDate;
 import java.util.List;
@@ -7,6 +8,7 @@ import java.util.List;
 public interface KhoanThuService extends BaseService<KhoanThu, Long> {
     List<KhoanThu> findAllActive();
     KhoanThu findActiveById(Long id);
+    KhoanThuSummary getSummary(Long id);
     List<KhoanThu> findByBatBuoc(Boolean batBuoc);
     List<KhoanThu> findByThoiHanRange(LocalDate startDate, LocalDate endDate);
     List<KhoanThu> findOverdueKhoanThu();
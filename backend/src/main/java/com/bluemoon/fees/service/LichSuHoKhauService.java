@@ -1,14 +1,17 @@
 package com.bluemoon.fees.service;
 
+import com.bluemoon.fees.dto.PageResponse;
 import com.bluemoon.fees.entity.LichSuHoKhau;
 import com.bluemoon.fees.entity.HoKhau;
 import com.bluemoon.fees.entity.NhanKhau;
+import org.springframework.data.domain.Pageable;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 public interface LichSuHoKhauService extends BaseService<LichSuHoKhau, Long> {
     List<LichSuHoKhau> findAll();
+    PageResponse<LichSuHoKhau> findPage(Long afterId, Pageable pageable);
     Optional<LichSuHoKhau> findById(Long id);
     List<LichSuHoKhau> findByHoKhau(HoKhau hoKhau);
     List<LichSuHoKhau> findByHoKhauId(Long hoKhauId);
@@ -1,12 +1,15 @@
 package com.bluemoon.fees.service;
 
+import com.bluemoon.fees.dto.PageResponse;
 import com.bluemoon.fees.entity.NhanKhau;
+import org.springframework.data.domain.Pageable;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 public interface NhanKhauService extends BaseService<NhanKhau, Long> {
     List<NhanKhau> findAll();
+    PageResponse<NhanKhau> findPage(Long afterId, Pageable pageable);
     Optional<NhanKhau> findById(Long id);
     List<NhanKhau> searchByHoTen(String hoTen);
     NhanKhau findByCccd(String cccd);
@@ -1,11 +1,17 @@
 package com.bluemoon.fees.service;
 
+import com.bluemoon.fees.dto.PageResponse;
+import com.bluemoon.fees.dto.PaymentVerificationRequest;
+import com.bluemoon.fees.dto.PaymentVerificationResult;
 import com.bluemoon.fees.entity.NopPhi;
+import com.bluemoon.fees.repository.projection.PaymentStatistics;
+import org.springframework.data.domain.Pageable;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
 public interface NopPhiService extends BaseService<NopPhi, Long> {
+    PageResponse<NopPhi> findPage(Long afterId, Pageable pageable);
     List<NopPhi> findByHoKhau(Long hoKhauId);
     List<NopPhi> findByKhoanThu(Long khoanThuId);
     List<NopPhi> findByDateRange(LocalDate startDate, LocalDate endDate);
@@ -16,8 +22,12 @@ public interface NopPhiService extends BaseService<NopPhi, Long> {
     NopPhi updateNopPhi(Long id, NopPhi nopPhi);
     void verifyNopPhi(Long id);
     void unverifyNopPhi(Long id);
+    PaymentVerificationResult setVerification(PaymentVerificationRequest request, boolean daXacNhan);
     Double calculateTotalPaymentsByHoKhau(Long hoKhauId);
     Double calculateTotalPaymentsByKhoanThu(Long khoanThuId);
     Double calculateTotalPaymentsByDateRange(LocalDate startDate, LocalDate endDate);
+    Double calculateTotalPayments();
+    PaymentStatistics getStatisticsByHoKhau(Long hoKhauId);
+    PaymentStatistics getStatisticsByKhoanThu(Long khoanThuId);
     List<Map<String, Object>> getHouseholdsPaidForFee(Long khoanThuId);
 }
\ No newline at end of file
@@ -1,18 +1,21 @@
 package com.bluemoon.fees.service;
 
 import com.bluemoon.fees.entity.Notification;
-import com.bluemoon.fees.entity.User;
 
 import java.util.List;
 
 public interface NotificationService {
-    void createNotification(String title, String message, Notification.EntityType entityType, Long entityId, User user);
+    // Queues a notification in the outbox within the caller's transaction; it is delivered after commit to every
+    // enabled user holding one of the roles (vaiTro), or to everyone when no role is given
+    void publish(String title, String message, Notification.EntityType entityType, Long entityId, String... recipientRoles);
     
-    List<Notification> getUnreadNotifications();
+    List<Notification> getUnreadNotifications(Long userId);
     
     List<Notification> getUserNotifications(Long userId);
     
-    void markAsRead(Long notificationId);
+    void markAsRead(Long notificationId, Long userId);
     
     long getUnreadCount();
+    
+    long getUnreadCount(Long userId);
 } 
\ No newline at end of file
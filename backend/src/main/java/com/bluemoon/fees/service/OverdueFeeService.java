@@ -0,0 +1,12 @@
+package com.bluemoon.fees.service;
+
+import com.bluemoon.fees.dto.OverdueHouseholdDTO;
+import com.bluemoon.fees.dto.PageResponse;
+import org.springframework.data.domain.Pageable;
+
+public interface OverdueFeeService {
+    // Rebuild the overdue snapshot and remind about households newly overdue; returns the unpaid (household, fee)
+    // pairs, or 0 when another instance is already rebuilding
+    int refreshSnapshot();
+    PageResponse<OverdueHouseholdDTO> findOverdueHouseholds(Long khoanThuId, Long hoKhauId, Pageable pageable);
+}
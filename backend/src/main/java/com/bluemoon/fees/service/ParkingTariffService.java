@@ -0,0 +1,15 @@
+package com.bluemoon.fees.service;
+
+import com.bluemoon.fees.entity.ParkingTariff;
+import com.bluemoon.fees.parking.ParkingTariffTable;
+
+import java.util.List;
+
+public interface ParkingTariffService {
+    // Current snapshot of all rates; loaded on first use and replaced whenever a tariff is added
+    ParkingTariffTable getTariffTable();
+
+    List<ParkingTariff> findAll();
+
+    ParkingTariff createTariff(ParkingTariff tariff);
+}
@@ -0,0 +1,9 @@
+package com.bluemoon.fees.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface PaymentExportService {
+    long exportNdjson(OutputStream out) throws IOException;
+    long exportCsv(OutputStream out) throws IOException;
+}
@@ -0,0 +1,13 @@
+package com.bluemoon.fees.service;
+
+import com.bluemoon.fees.dto.SearchResultDTO;
+
+import java.util.List;
+import java.util.Set;
+
+public interface SearchService {
+    List<SearchResultDTO> search(String query, Set<String> types, int limit);
+    int rebuildIndex();
+    void indexEntity(Object entity);
+    void removeEntity(Object entity);
+}
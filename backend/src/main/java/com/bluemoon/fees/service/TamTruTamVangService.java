@@ -1,5 +1,7 @@
 package com.bluemoon.fees.service;
 
+import com.bluemoon.fees.dto.PageResponse;
+import com.bluemoon.fees.dto.TamTruTamVangDTO;
 import com.bluemoon.fees.entity.TamTruTamVang;
 import com.bluemoon.fees.entity.NhanKhau;
 import org.springframework.data.domain.Page;
@@ -22,4 +24,10 @@ public interface TamTruTamVangService extends BaseService<TamTruTamVang, Long> {
     TamTruTamVang createTamTruTamVang(TamTruTamVang tamTruTamVang);
     TamTruTamVang updateTamTruTamVang(Long id, TamTruTamVang tamTruTamVang);
     void deleteTamTruTamVang(Long id);
+    
+    // Read views as DTOs, one query each; null filters are ignored
+    PageResponse<TamTruTamVangDTO> findRecords(TamTruTamVang.TrangThai trangThai, LocalDate startDate, LocalDate endDate, Pageable pageable);
+    List<TamTruTamVangDTO> findRecords(TamTruTamVang.TrangThai trangThai, LocalDate startDate, LocalDate endDate);
+    List<TamTruTamVangDTO> findRecordsByNhanKhauId(Long nhanKhauId);
+    Optional<TamTruTamVangDTO> findRecordById(Long id);
 }
\ No newline at end of file
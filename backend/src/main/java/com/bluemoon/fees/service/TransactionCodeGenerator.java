@@ -0,0 +1,6 @@
+package com.bluemoon.fees.service;
+
+public interface TransactionCodeGenerator {
+    // Unique utility payment transaction code: "UT" + yyyyMMdd + sequence number of the day
+    String nextUtilityPaymentCode();
+}
@@ -1,7 +1,9 @@
 package com.bluemoon.fees.service;
 
+import com.bluemoon.fees.dto.PageResponse;
 import com.bluemoon.fees.dto.UtilityPaymentDTO;
 import com.bluemoon.fees.dto.UtilityPaymentRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -10,6 +12,8 @@ public interface UtilityPaymentService {
     
     List<UtilityPaymentDTO> getAllUtilityPayments();
     
+    PageResponse<UtilityPaymentDTO> getUtilityPaymentsPage(Long afterId, Pageable pageable);
+    
     List<UtilityPaymentDTO> getUtilityPaymentsByHoKhauId(Long hoKhauId);
     
 
@@ -1,8 +1,12 @@
 package com.bluemoon.fees.service;
 
+import com.bluemoon.fees.dto.BulkUtilityServiceResult;
+import com.bluemoon.fees.dto.UtilityRepriceResult;
 import com.bluemoon.fees.dto.UtilityServiceDTO;
 import com.bluemoon.fees.dto.UtilityServiceRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 public interface UtilityServiceService {
@@ -21,6 +25,13 @@ public interface UtilityServiceService {
     
     UtilityServiceDTO updateUtilityService(Long id, UtilityServiceRequest request);
     
+    BulkUtilityServiceResult createUtilityServicesBulk(List<UtilityServiceRequest> requests);
+    
+    BulkUtilityServiceResult importUtilityServicesCsv(InputStream csv, Integer thang, Integer nam) throws IOException;
+    
+    // Recompute the month's unpaid metered DIEN/NUOC bills with the tariff versions now in effect
+    UtilityRepriceResult repriceMonth(Integer thang, Integer nam);
+    
     void deleteUtilityService(Long id);
     
     boolean checkUtilityServiceExists(Long hoKhauId, String loaiDichVu, Integer thang, Integer nam, Long utilityId);
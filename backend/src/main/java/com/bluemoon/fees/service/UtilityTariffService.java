@@ -0,0 +1,19 @@
+package com.bluemoon.fees.service;
+
+import com.bluemoon.fees.dto.UtilityTariffRequest;
+import com.bluemoon.fees.entity.UtilityTariffTier;
+import com.bluemoon.fees.utility.UtilityTariffTable;
+
+import java.util.List;
+
+public interface UtilityTariffService {
+    // Service types priced by tiers; other types keep the flat donGia of the reading
+    List<String> TIERED_TYPES = List.of("DIEN", "NUOC");
+
+    // Current snapshot of all versions; loaded on first use and replaced whenever a version is added
+    UtilityTariffTable getTariffTable();
+
+    List<UtilityTariffTier> findAll();
+
+    List<UtilityTariffTier> createVersion(UtilityTariffRequest request);
+}
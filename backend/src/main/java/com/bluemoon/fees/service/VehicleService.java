@@ -1,16 +1,22 @@
 package com.bluemoon.fees.service;
 
+import com.bluemoon.fees.dto.PageResponse;
 import com.bluemoon.fees.dto.VehicleDTO;
 import com.bluemoon.fees.dto.VehicleRequest;
 import com.bluemoon.fees.dto.HouseholdVehicleFeeDTO;
+import com.bluemoon.fees.dto.HouseholdParkingFeeDTO;
 import com.bluemoon.fees.entity.Vehicle;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface VehicleService {
     
     List<VehicleDTO> getAllVehicles();
     
+    PageResponse<VehicleDTO> getVehiclesPage(Long afterId, Pageable pageable);
+    
     List<VehicleDTO> getVehiclesByHoKhauId(Long hoKhauId);
     
     VehicleDTO getVehicleById(Long id);
@@ -27,6 +33,11 @@ public interface VehicleService {
     
     double calculateMonthlyParkingFee(Long hoKhauId);
     
+    // Monthly parking fee of every household at the rates effective on the given date, from one count query
+    List<HouseholdParkingFeeDTO> calculateAllMonthlyParkingFees(LocalDate date);
+    
+    long countVehicles();
+    
     long countVehiclesByType(String loaiXe);
     
     HouseholdVehicleFeeDTO getHouseholdVehicleFeeDetails(Long hoKhauId);
@@ -0,0 +1,222 @@
+package com.bluemoon.fees.service.impl;
+
+import com.bluemoon.fees.dto.DashboardSummaryDTO;
+import com.bluemoon.fees.dto.DashboardSummaryDTO.FeeSummary;
+import com.bluemoon.fees.dto.DashboardSummaryDTO.FeeTypeSummary;
+import com.bluemoon.fees.dto.DashboardSummaryDTO.HouseholdSizeSummary;
+import com.bluemoon.fees.dto.DashboardSummaryDTO.MonthlySummary;
+import com.bluemoon.fees.dto.DashboardSummaryDTO.RecentPaymentSummary;
+import com.bluemoon.fees.dto.DashboardSummaryDTO.TopHouseholdSummary;
+import com.bluemoon.fees.repository.HoKhauRepository;
+import com.bluemoon.fees.repository.KhoanThuRepository;
+import com.bluemoon.fees.repository.NhanKhauRepository;
+import com.bluemoon.fees.repository.NopPhiRepository;
+import com.bluemoon.fees.repository.projection.FeeTypeCount;
+import com.bluemoon.fees.repository.projection.FeeTypePaymentTotals;
+import com.bluemoon.fees.repository.projection.HouseholdContactCounts;
+import com.bluemoon.fees.repository.projection.HouseholdSizeCount;
+import com.bluemoon.fees.repository.projection.HouseholdSizePaymentTotals;
+import com.bluemoon.fees.repository.projection.MonthlyFeeCount;
+import com.bluemoon.fees.repository.projection.MonthlyPaymentTotals;
+import com.bluemoon.fees.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DashboardServiceImpl implements DashboardService {
+
+    // Same buckets the frontend charts use for household size
+    private static final String[] SIZE_BUCKETS = {"1 người", "2-3 người", "4-5 người", "6+ người"};
+    
+    // Rows in each of the dashboard's short lists (recent payments, recent and top households)
+    private static final Pageable LIST_LIMIT = PageRequest.of(0, 5);
+
+    private final HoKhauRepository hoKhauRepository;
+    private final KhoanThuRepository khoanThuRepository;
+    private final NhanKhauRepository nhanKhauRepository;
+    private final NopPhiRepository nopPhiRepository;
+
+    @Override
+    public DashboardSummaryDTO getSummary(int months) {
+        long totalHouseholds = hoKhauRepository.countByHoatDongTrue();
+
+        // Fee counts by type
+        long mandatoryFees = 0;
+        long voluntaryFees = 0;
+        for (FeeTypeCount row : khoanThuRepository.countActiveByBatBuoc()) {
+            if (Boolean.TRUE.equals(row.getBatBuoc())) {
+                mandatoryFees += row.getFeeCount();
+            } else {
+                voluntaryFees += row.getFeeCount();
+            }
+        }
+
+        // Payment totals by fee type
+        FeeTypeSummary mandatory = FeeTypeSummary.builder().batBuoc(true).feeCount(mandatoryFees).build();
+        FeeTypeSummary voluntary = FeeTypeSummary.builder().batBuoc(false).feeCount(voluntaryFees).build();
+        for (FeeTypePaymentTotals row : nopPhiRepository.sumByFeeType()) {
+            FeeTypeSummary target = Boolean.TRUE.equals(row.getBatBuoc()) ? mandatory : voluntary;
+            target.setPaymentCount(target.getPaymentCount() + row.getPaymentCount());
+            target.setVerifiedCount(target.getVerifiedCount() + row.getVerifiedCount());
+            target.setTotalAmount(target.getTotalAmount() + row.getTotalAmount());
+            target.setVerifiedAmount(target.getVerifiedAmount() + row.getVerifiedAmount());
+        }
+
+        long totalPayments = mandatory.getPaymentCount() + voluntary.getPaymentCount();
+        long verifiedPayments = mandatory.getVerifiedCount() + voluntary.getVerifiedCount();
+        long totalFees = mandatoryFees + voluntaryFees;
+        long potentialPayments = totalHouseholds * totalFees;
+        HouseholdContactCounts contacts = hoKhauRepository.countContacts();
+
+        return DashboardSummaryDTO.builder()
+                .totalHouseholds(totalHouseholds)
+                .totalFees(totalFees)
+                .mandatoryFees(mandatoryFees)
+                .voluntaryFees(voluntaryFees)
+                .totalPayments(totalPayments)
+                .verifiedPayments(verifiedPayments)
+                .unverifiedPayments(totalPayments - verifiedPayments)
+                .totalCollected(mandatory.getTotalAmount() + voluntary.getTotalAmount())
+                .totalVerifiedCollected(mandatory.getVerifiedAmount() + voluntary.getVerifiedAmount())
+                .totalMandatoryCollected(mandatory.getTotalAmount())
+                .totalVoluntaryCollected(voluntary.getTotalAmount())
+                .collectionRate(percentage(totalPayments, potentialPayments))
+                .verificationRate(percentage(verifiedPayments, totalPayments))
+                .inactiveHouseholds(contacts.getInactiveCount())
+                .totalPeople(nhanKhauRepository.count())
+                .householdsWithPhoneNumber(contacts.getWithPhoneNumber())
+                .householdsWithEmail(contacts.getWithEmail())
+                .feeTypes(List.of(mandatory, voluntary))
+                .householdSizes(getHouseholdSizeSummaries())
+                .monthlyTotals(getMonthlySummaries(months, totalHouseholds))
+                .feeTotals(getFeeSummaries())
+                .topHouseholds(getTopHouseholdSummaries())
+                .recentPayments(getRecentPaymentSummaries())
+                .recentHouseholds(hoKhauRepository.findRecentListItems(LIST_LIMIT))
+                .build();
+    }
+
+    private List<HouseholdSizeSummary> getHouseholdSizeSummaries() {
+        List<HouseholdSizeSummary> buckets = new ArrayList<>();
+        for (String name : SIZE_BUCKETS) {
+            buckets.add(HouseholdSizeSummary.builder().name(name).build());
+        }
+
+        for (HouseholdSizeCount row : hoKhauRepository.countActiveBySoThanhVien()) {
+            HouseholdSizeSummary bucket = buckets.get(bucketIndex(row.getSoThanhVien()));
+            bucket.setHouseholdCount(bucket.getHouseholdCount() + row.getHouseholdCount());
+        }
+
+        for (HouseholdSizePaymentTotals row : nopPhiRepository.sumByHouseholdSize()) {
+            HouseholdSizeSummary bucket = buckets.get(bucketIndex(row.getSoThanhVien()));
+            bucket.setPaymentCount(bucket.getPaymentCount() + row.getPaymentCount());
+            bucket.setTotalAmount(bucket.getTotalAmount() + row.getTotalAmount());
+        }
+
+        return buckets;
+    }
+
+    private List<MonthlySummary> getMonthlySummaries(int months, long activeHouseholds) {
+        YearMonth current = YearMonth.now();
+        YearMonth first = current.minusMonths(Math.max(months, 1) - 1L);
+
+        // Pre-fill every month in the window so months without payments show as zero
+        Map<YearMonth, MonthlySummary> byMonth = new LinkedHashMap<>();
+        for (YearMonth month = first; !month.isAfter(current); month = month.plusMonths(1)) {
+            byMonth.put(month, MonthlySummary.builder()
+                    .thang(month.getMonthValue())
+                    .nam(month.getYear())
+                    .build());
+        }
+
+        LocalDate fromDate = first.atDay(1);
+        for (MonthlyPaymentTotals row : nopPhiRepository.sumMonthlyByFeeType(fromDate)) {
+            MonthlySummary summary = byMonth.get(YearMonth.of(row.getNam(), row.getThang()));
+            if (summary == null) {
+                // Payments dated in the future are not part of the window
+                continue;
+            }
+            if (Boolean.TRUE.equals(row.getBatBuoc())) {
+                summary.setMandatory(summary.getMandatory() + row.getTotalAmount());
+            } else {
+                summary.setVoluntary(summary.getVoluntary() + row.getTotalAmount());
+            }
+            summary.setAmount(summary.getAmount() + row.getTotalAmount());
+            summary.setPaymentCount(summary.getPaymentCount() + row.getPaymentCount());
+        }
+
+        for (MonthlyFeeCount row : khoanThuRepository.countActiveDueMonthly(fromDate)) {
+            MonthlySummary summary = byMonth.get(YearMonth.of(row.getNam(), row.getThang()));
+            if (summary != null) {
+                summary.setCollectionRate(percentage(summary.getPaymentCount(), activeHouseholds * row.getFeeCount()));
+            }
+        }
+
+        return new ArrayList<>(byMonth.values());
+    }
+
+    private List<FeeSummary> getFeeSummaries() {
+        return nopPhiRepository.sumByFee().stream()
+                .map(row -> FeeSummary.builder()
+                        .khoanThuId(row.getKhoanThuId())
+                        .tenKhoanThu(row.getTenKhoanThu())
+                        .totalAmount(row.getTotalAmount())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private List<TopHouseholdSummary> getTopHouseholdSummaries() {
+        return nopPhiRepository.findTopPayingHouseholds(LIST_LIMIT).stream()
+                .map(row -> TopHouseholdSummary.builder()
+                        .hoKhauId(row.getHoKhauId())
+                        .chuHo(row.getChuHo())
+                        .totalAmount(row.getTotalAmount())
+                        .lastPayment(row.getLastPayment())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private List<RecentPaymentSummary> getRecentPaymentSummaries() {
+        return nopPhiRepository.findRecent(LIST_LIMIT).stream()
+                .map(row -> RecentPaymentSummary.builder()
+                        .id(row.getId())
+                        .hoKhauId(row.getHoKhauId())
+                        .chuHo(row.getChuHo())
+                        .khoanThuId(row.getKhoanThuId())
+                        .tenKhoanThu(row.getTenKhoanThu())
+                        .ngayNop(row.getNgayNop())
+                        .soTien(row.getSoTien() != null ? row.getSoTien() : 0)
+                        .daXacNhan(Boolean.TRUE.equals(row.getDaXacNhan()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private int bucketIndex(Integer soThanhVien) {
+        int members = soThanhVien != null ? soThanhVien : 0;
+        if (members <= 1) {
+            return 0;
+        } else if (members <= 3) {
+            return 1;
+        } else if (members <= 5) {
+            return 2;
+        }
+        return 3;
+    }
+
+    private int percentage(long part, long whole) {
+        return whole > 0 ? (int) Math.round(part * 100.0 / whole) : 0;
+    }
+}
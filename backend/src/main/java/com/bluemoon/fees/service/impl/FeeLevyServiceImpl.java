@@ -0,0 +1,141 @@
+package com.bluemoon.fees.service.impl;
+
+import com.bluemoon.fees.dto.LevyJobDTO;
+import com.bluemoon.fees.entity.KhoanThu;
+import com.bluemoon.fees.entity.Notification;
+import com.bluemoon.fees.exception.ResourceNotFoundException;
+import com.bluemoon.fees.monitoring.DomainMetrics;
+import com.bluemoon.fees.repository.FeeObligationRepository;
+import com.bluemoon.fees.repository.HoKhauRepository;
+import com.bluemoon.fees.repository.KhoanThuRepository;
+import com.bluemoon.fees.service.FeeLevyService;
+import com.bluemoon.fees.service.HouseholdBalanceService;
+import com.bluemoon.fees.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FeeLevyServiceImpl implements FeeLevyService {
+
+    // Households per INSERT ... SELECT statement; each chunk commits in its own transaction
+    private static final int CHUNK_SIZE = 500;
+
+    private final KhoanThuRepository khoanThuRepository;
+    private final HoKhauRepository hoKhauRepository;
+    private final FeeObligationRepository feeObligationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final DomainMetrics domainMetrics;
+    private final HouseholdBalanceService householdBalanceService;
+    private final NotificationService notificationService;
+
+    private final Map<String, LevyJobDTO> jobs = new ConcurrentHashMap<>();
+    // Makes the running-job check and the registration of a new job atomic, so one fee never has two levies running
+    private final Lock jobsLock = new ReentrantLock();
+
+    @Override
+    @Transactional(readOnly = true)
+    public LevyJobDTO startLevy(Long khoanThuId) {
+        KhoanThu khoanThu = khoanThuRepository.findById(khoanThuId)
+                .orElseThrow(() -> new ResourceNotFoundException("KhoanThu", "id", khoanThuId));
+        if (!khoanThu.isHoatDong()) {
+            throw new RuntimeException("Khoản thu đã ngừng hoạt động, không thể áp dụng cho các hộ khẩu");
+        }
+
+        jobsLock.lock();
+        try {
+            // A levy already running for this fee is returned instead of starting a second one
+            for (LevyJobDTO job : jobs.values()) {
+                if (khoanThuId.equals(job.getKhoanThuId()) && "DANG_CHAY".equals(job.getTrangThai())) {
+                    return job;
+                }
+            }
+            // Keep finished jobs around for an hour so clients can read the final progress
+            LocalDateTime cutoff = LocalDateTime.now().minusHours(1);
+            jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(cutoff));
+
+            List<Long> householdIds = hoKhauRepository.findActiveIds();
+            LevyJobDTO job = LevyJobDTO.builder()
+                    .jobId(UUID.randomUUID().toString())
+                    .khoanThuId(khoanThuId)
+                    .tenKhoanThu(khoanThu.getTenKhoanThu())
+                    .trangThai("DANG_CHAY")
+                    .totalHouseholds(householdIds.size())
+                    .startedAt(LocalDateTime.now())
+                    .build();
+            jobs.put(job.getJobId(), job);
+            taskExecutor.execute(() -> runLevy(job.getJobId(), khoanThuId, householdIds));
+            return job;
+        } finally {
+            jobsLock.unlock();
+        }
+    }
+
+    @Override
+    public LevyJobDTO getJob(String jobId) {
+        LevyJobDTO job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("LevyJob", "id", jobId);
+        }
+        return job;
+    }
+
+    private void runLevy(String jobId, Long khoanThuId, List<Long> householdIds) {
+        LocalDate today = LocalDate.now();
+        int processed = 0;
+        int created = 0;
+        try {
+            for (int from = 0; from < householdIds.size(); from += CHUNK_SIZE) {
+                List<Long> chunk = householdIds.subList(from, Math.min(from + CHUNK_SIZE, householdIds.size()));
+                Integer inserted = transactionTemplate.execute(status -> {
+                    int rows = feeObligationRepository.insertMissing(khoanThuId, chunk, today);
+                    if (rows > 0) {
+                        householdBalanceService.refresh(chunk, today.getMonthValue(), today.getYear());
+                    }
+                    return rows;
+                });
+                int chunkCreated = inserted != null ? inserted : 0;
+                domainMetrics.feeObligationsLevied(chunkCreated);
+                processed += chunk.size();
+                created += chunkCreated;
+                jobs.put(jobId, jobs.get(jobId).toBuilder()
+                        .processedHouseholds(processed)
+                        .createdCount(created)
+                        .skippedCount(processed - created)
+                        .build());
+            }
+            jobs.put(jobId, jobs.get(jobId).toBuilder()
+                    .trangThai("HOAN_THANH")
+                    .finishedAt(LocalDateTime.now())
+                    .build());
+            log.info("Levy {} for fee {} finished: {} obligations created, {} households skipped",
+                    jobId, khoanThuId, created, processed - created);
+            notificationService.publish("Áp dụng khoản thu hoàn thành",
+                    "Khoản thu " + jobs.get(jobId).getTenKhoanThu() + ": " + created + " khoản phải nộp mới, "
+                            + (processed - created) + " hộ đã có",
+                    Notification.EntityType.FEE, khoanThuId, "ADMIN", "KE_TOAN");
+        } catch (Exception e) {
+            log.error("Levy {} for fee {} failed after {} households", jobId, khoanThuId, processed, e);
+            jobs.put(jobId, jobs.get(jobId).toBuilder()
+                    .trangThai("THAT_BAI")
+                    .error(e.getMessage())
+                    .finishedAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+}
@@ -1,22 +1,35 @@
 package com.bluemoon.fees.service.impl;
 
+import com.bluemoon.fees.config.CacheConfig;
+import com.bluemoon.fees.dto.HoKhauDetail;
+import com.bluemoon.fees.dto.HoKhauListItem;
+import com.bluemoon.fees.dto.HoKhauSummary;
+import com.bluemoon.fees.dto.NhanKhauBrief;
+import com.bluemoon.fees.dto.PageResponse;
 import com.bluemoon.fees.entity.HoKhau;
 import com.bluemoon.fees.entity.LichSuHoKhau;
 import com.bluemoon.fees.entity.NhanKhau;
+import com.bluemoon.fees.entity.Notification;
 import com.bluemoon.fees.exception.DuplicateHouseholdException;
 import com.bluemoon.fees.exception.ResourceNotFoundException;
 import com.bluemoon.fees.repository.HoKhauRepository;
 import com.bluemoon.fees.repository.LichSuHoKhauRepository;
 import com.bluemoon.fees.repository.NhanKhauRepository;
 import com.bluemoon.fees.service.HoKhauService;
+import com.bluemoon.fees.service.NotificationService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +39,7 @@ public class HoKhauServiceImpl implements HoKhauService {
     private final HoKhauRepository hoKhauRepository;
     private final NhanKhauRepository nhanKhauRepository;
     private final LichSuHoKhauRepository lichSuHoKhauRepository;
+    private final NotificationService notificationService;
 
     @Override
     public List<HoKhau> findAll() {
@@ -37,6 +51,19 @@ public class HoKhauServiceImpl implements HoKhauService {
         return hoKhauRepository.findByHoatDongTrue();
     }
 
+    @Override
+    public PageResponse<HoKhau> findPage(boolean showAll, Long afterId, Pageable pageable) {
+        if (afterId != null) {
+            Pageable keyset = PageResponse.keysetRequest(pageable);
+            return PageResponse.of(showAll
+                    ? hoKhauRepository.findByIdGreaterThan(afterId, keyset)
+                    : hoKhauRepository.findByHoatDongTrueAndIdGreaterThan(afterId, keyset), HoKhau::getId);
+        }
+        return PageResponse.of(showAll
+                ? hoKhauRepository.findAll(pageable)
+                : hoKhauRepository.findByHoatDongTrue(pageable), HoKhau::getId);
+    }
+
     @Override
     public Optional<HoKhau> findById(Long id) {
         return hoKhauRepository.findById(id);
@@ -48,6 +75,70 @@ public class HoKhauServiceImpl implements HoKhauService {
                 .orElseThrow(() -> new ResourceNotFoundException("Không tìm thấy hộ khẩu với ID: " + id));
     }
 
+    @Override
+    @Cacheable(cacheNames = CacheConfig.HO_KHAU, key = "#id")
+    public HoKhauSummary getSummary(Long id) {
+        HoKhau hoKhau = hoKhauRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Không tìm thấy hộ khẩu với ID: " + id));
+        return HoKhauSummary.builder()
+                .id(hoKhau.getId())
+                .soHoKhau(hoKhau.getSoHoKhau())
+                .chuHo(hoKhau.getChuHo())
+                .address(hoKhau.getAddress())
+                .hoatDong(hoKhau.isHoatDong())
+                .build();
+    }
+
+    @Override
+    public List<HoKhauListItem> findListItems(boolean showAll) {
+        return hoKhauRepository.findListItems(!showAll);
+    }
+
+    @Override
+    public PageResponse<HoKhauListItem> findListItemPage(boolean showAll, Long afterId, Pageable pageable) {
+        if (afterId != null) {
+            return PageResponse.of(hoKhauRepository.findListItemsAfter(!showAll, afterId,
+                    PageResponse.keysetRequest(pageable)), HoKhauListItem::getId);
+        }
+        return PageResponse.of(hoKhauRepository.findListItemPage(!showAll, pageable), HoKhauListItem::getId);
+    }
+
+    @Override
+    public List<HoKhauListItem> searchListItems(String chuHo, String address, boolean showAll) {
+        if (chuHo != null && !chuHo.isEmpty()) {
+            return hoKhauRepository.searchListItemsByChuHo(!showAll, chuHo);
+        }
+        return hoKhauRepository.searchListItemsByAddress(!showAll, address);
+    }
+
+    @Override
+    public HoKhauListItem getListItem(Long id) {
+        return hoKhauRepository.findListItemById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Không tìm thấy hộ khẩu với ID: " + id));
+    }
+
+    @Override
+    public List<HoKhauDetail> findDetails(boolean showAll, boolean withMembers) {
+        List<HoKhauDetail> details = hoKhauRepository.findDetails(!showAll);
+        if (withMembers) {
+            // One query for every member of the listed households, grouped in memory
+            Map<Long, List<NhanKhauBrief>> membersByHoKhau = nhanKhauRepository.findBriefsOfHouseholds(!showAll).stream()
+                    .collect(Collectors.groupingBy(NhanKhauBrief::getHoKhauId));
+            details.forEach(detail -> detail.setMembers(membersByHoKhau.getOrDefault(detail.getId(), List.of())));
+        }
+        return details;
+    }
+
+    @Override
+    public HoKhauDetail getDetail(Long id, boolean withMembers) {
+        HoKhauDetail detail = hoKhauRepository.findDetailById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Không tìm thấy hộ khẩu với ID: " + id));
+        if (withMembers) {
+            detail.setMembers(nhanKhauRepository.findBriefsByHoKhauId(id));
+        }
+        return detail;
+    }
+
     @Override
     public HoKhau findBySoHoKhau(String soHoKhau) {
         return hoKhauRepository.findBySoHoKhau(soHoKhau)
@@ -55,16 +146,19 @@ public class HoKhauServiceImpl implements HoKhauService {
     }
 
     @Override
-    public List<HoKhau> searchByChuHo(String chuHo) {
-        return hoKhauRepository.findByChuHoContainingIgnoreCase(chuHo);
+    public List<HoKhau> searchByChuHo(String chuHo, boolean showAll) {
+        return showAll ? hoKhauRepository.findByChuHoContainingIgnoreCase(chuHo)
+                : hoKhauRepository.findByChuHoContainingIgnoreCaseAndHoatDongTrue(chuHo);
     }
 
     @Override
-    public List<HoKhau> searchByAddress(String address) {
-        return hoKhauRepository.findByAddressContainingIgnoreCase(address);
+    public List<HoKhau> searchByAddress(String address, boolean showAll) {
+        return showAll ? hoKhauRepository.findByAddressContainingIgnoreCase(address)
+                : hoKhauRepository.findByAddressContainingIgnoreCaseAndHoatDongTrue(address);
     }
 
     @Override
+    @Transactional
     public HoKhau createHoKhau(HoKhau hoKhau) {
         // Check for duplicate soHoKhau
         if (isDuplicateSoHoKhau(hoKhau.getSoHoKhau())) {
@@ -73,10 +167,14 @@ public class HoKhauServiceImpl implements HoKhauService {
         
         hoKhau.setSoThanhVien(0); // Start with 0 members
         hoKhau.setHoatDong(true);
-        return hoKhauRepository.save(hoKhau);
+        HoKhau saved = hoKhauRepository.save(hoKhau);
+        notificationService.publish("Hộ khẩu mới", "Đã thêm hộ khẩu " + saved.getSoHoKhau() + " - chủ hộ " + saved.getChuHo(),
+                Notification.EntityType.HOUSEHOLD, saved.getId(), "ADMIN", "TO_TRUONG");
+        return saved;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.HO_KHAU, key = "#id")
     public HoKhau updateHoKhau(Long id, HoKhau hoKhau) {
         HoKhau existingHoKhau = findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Không tìm thấy hộ khẩu với ID: " + id));
@@ -105,11 +203,13 @@ public class HoKhauServiceImpl implements HoKhauService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.HO_KHAU, key = "#id")
     public void deleteById(Long id) {
         hoKhauRepository.deleteById(id);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.HO_KHAU, key = "#id")
     public void deactivateHoKhau(Long id) {
         HoKhau hoKhau = findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Không tìm thấy hộ khẩu với ID: " + id));
@@ -118,6 +218,7 @@ public class HoKhauServiceImpl implements HoKhauService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.HO_KHAU, key = "#id")
     public void activateHoKhau(Long id) {
         HoKhau hoKhau = findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Không tìm thấy hộ khẩu với ID: " + id));
@@ -218,8 +319,7 @@ public class HoKhauServiceImpl implements HoKhauService {
 
     @Override
     public boolean existsById(Long id) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'existsById'");
+        return hoKhauRepository.existsById(id);
     }
 
     @Override
@@ -0,0 +1,61 @@
+package com.bluemoon.fees.service.impl;
+
+import com.bluemoon.fees.dto.OutstandingBalanceDTO;
+import com.bluemoon.fees.dto.PageResponse;
+import com.bluemoon.fees.repository.HouseholdBalanceRepository;
+import com.bluemoon.fees.service.HouseholdBalanceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class HouseholdBalanceServiceImpl implements HouseholdBalanceService {
+
+    // Households per ledger upsert statement
+    private static final int REFRESH_CHUNK_SIZE = 500;
+
+    private final HouseholdBalanceRepository householdBalanceRepository;
+
+    @Override
+    public void refresh(Long hoKhauId, Integer thang, Integer nam) {
+        if (hoKhauId != null) {
+            refresh(List.of(hoKhauId), thang, nam);
+        }
+    }
+
+    @Override
+    public void refresh(Collection<Long> hoKhauIds, Integer thang, Integer nam) {
+        if (thang == null || nam == null || thang < 1 || thang > 12) {
+            return;
+        }
+        List<Long> ids = hoKhauIds.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        LocalDate fromDate = LocalDate.of(nam, thang, 1);
+        LocalDate toDate = fromDate.plusMonths(1);
+        for (int from = 0; from < ids.size(); from += REFRESH_CHUNK_SIZE) {
+            householdBalanceRepository.refresh(ids.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, ids.size())),
+                    thang, nam, fromDate, toDate);
+        }
+    }
+
+    @Override
+    public void refreshMonthOf(Long hoKhauId, LocalDate date) {
+        if (date != null) {
+            refresh(hoKhauId, date.getMonthValue(), date.getYear());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<OutstandingBalanceDTO> findOutstanding(Integer thang, Integer nam, Long hoKhauId, Pageable pageable) {
+        return PageResponse.of(householdBalanceRepository.findOutstanding(thang, nam, hoKhauId, pageable));
+    }
+}
@@ -1,10 +1,16 @@
 package com.bluemoon.fees.service.impl;
 
+import com.bluemoon.fees.config.CacheConfig;
+import com.bluemoon.fees.dto.KhoanThuSummary;
 import com.bluemoon.fees.entity.KhoanThu;
+import com.bluemoon.fees.entity.Notification;
 import com.bluemoon.fees.exception.ResourceNotFoundException;
 import com.bluemoon.fees.repository.KhoanThuRepository;
 import com.bluemoon.fees.service.KhoanThuService;
+import com.bluemoon.fees.service.NotificationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,13 +24,16 @@ import java.util.Optional;
 public class KhoanThuServiceImpl implements KhoanThuService {
 
     private final KhoanThuRepository khoanThuRepository;
+    private final NotificationService notificationService;
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.KHOAN_THU, key = "#entity.id", condition = "#entity.id != null")
     public KhoanThu save(KhoanThu entity) {
         return khoanThuRepository.save(entity);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.KHOAN_THU, allEntries = true)
     public List<KhoanThu> saveAll(List<KhoanThu> entities) {
         return khoanThuRepository.saveAll(entities);
     }
@@ -40,11 +49,13 @@ public class KhoanThuServiceImpl implements KhoanThuService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.KHOAN_THU, key = "#id")
     public void deleteById(Long id) {
         khoanThuRepository.deleteById(id);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.KHOAN_THU, key = "#entity.id", condition = "#entity.id != null")
     public void delete(KhoanThu entity) {
         khoanThuRepository.delete(entity);
     }
@@ -65,6 +76,22 @@ public class KhoanThuServiceImpl implements KhoanThuService {
                 .orElseThrow(() -> new ResourceNotFoundException("Fee not found with ID: " + id));
     }
 
+    @Override
+    @Cacheable(cacheNames = CacheConfig.KHOAN_THU, key = "#id")
+    @Transactional(readOnly = true)
+    public KhoanThuSummary getSummary(Long id) {
+        KhoanThu khoanThu = khoanThuRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Fee not found with ID: " + id));
+        return KhoanThuSummary.builder()
+                .id(khoanThu.getId())
+                .tenKhoanThu(khoanThu.getTenKhoanThu())
+                .batBuoc(khoanThu.getBatBuoc())
+                .soTien(khoanThu.getSoTien())
+                .thoiHan(khoanThu.getThoiHan())
+                .hoatDong(khoanThu.isHoatDong())
+                .build();
+    }
+
     @Override
     public List<KhoanThu> findByBatBuoc(Boolean batBuoc) {
         return khoanThuRepository.findByBatBuocAndHoatDongTrue(batBuoc);
@@ -89,10 +116,14 @@ public class KhoanThuServiceImpl implements KhoanThuService {
         
         khoanThu.setHoatDong(true);
         
-        return khoanThuRepository.save(khoanThu);
+        KhoanThu saved = khoanThuRepository.save(khoanThu);
+        notificationService.publish("Khoản thu mới", "Đã tạo khoản thu " + saved.getTenKhoanThu(),
+                Notification.EntityType.FEE, saved.getId(), "ADMIN", "TO_TRUONG", "KE_TOAN");
+        return saved;
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.KHOAN_THU, key = "#id")
     public KhoanThu updateKhoanThu(Long id, KhoanThu khoanThu) {
         KhoanThu existingKhoanThu = findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Fee not found with ID: " + id));
@@ -109,6 +140,7 @@ public class KhoanThuServiceImpl implements KhoanThuService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.KHOAN_THU, key = "#id")
     public void deactivateKhoanThu(Long id) {
         KhoanThu khoanThu = findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Fee not found with ID: " + id));
@@ -117,6 +149,7 @@ public class KhoanThuServiceImpl implements KhoanThuService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.KHOAN_THU, key = "#id")
     public void activateKhoanThu(Long id) {
         KhoanThu khoanThu = findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Fee not found with ID: " + id));
@@ -1,5 +1,6 @@
 package com.bluemoon.fees.service.impl;
 
+import com.bluemoon.fees.dto.PageResponse;
 import com.bluemoon.fees.entity.LichSuHoKhau;
 import com.bluemoon.fees.entity.HoKhau;
 import com.bluemoon.fees.entity.NhanKhau;
@@ -9,6 +10,7 @@ import com.bluemoon.fees.repository.HoKhauRepository;
 import com.bluemoon.fees.repository.NhanKhauRepository;
 import com.bluemoon.fees.service.LichSuHoKhauService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,6 +47,15 @@ public class LichSuHoKhauServiceImpl implements LichSuHoKhauService {
         return lichSuHoKhauRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<LichSuHoKhau> findPage(Long afterId, Pageable pageable) {
+        if (afterId != null) {
+            return PageResponse.of(lichSuHoKhauRepository.findByIdGreaterThan(afterId, PageResponse.keysetRequest(pageable)), LichSuHoKhau::getId);
+        }
+        return PageResponse.of(lichSuHoKhauRepository.findPageWithHoKhauAndNhanKhau(pageable), LichSuHoKhau::getId);
+    }
+
     @Override
     public void deleteById(Long id) {
         lichSuHoKhauRepository.deleteById(id);
@@ -1,5 +1,6 @@
 package com.bluemoon.fees.service.impl;
 
+import com.bluemoon.fees.dto.PageResponse;
 import com.bluemoon.fees.entity.NhanKhau;
 import com.bluemoon.fees.exception.ResourceNotFoundException;
 import com.bluemoon.fees.repository.NhanKhauRepository;
@@ -8,6 +9,7 @@ import com.bluemoon.fees.repository.TamTruTamVangRepository;
 import com.bluemoon.fees.service.NhanKhauService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -45,6 +47,15 @@ public class NhanKhauServiceImpl implements NhanKhauService {
         return nhanKhauRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<NhanKhau> findPage(Long afterId, Pageable pageable) {
+        if (afterId != null) {
+            return PageResponse.of(nhanKhauRepository.findByIdGreaterThan(afterId, PageResponse.keysetRequest(pageable)), NhanKhau::getId);
+        }
+        return PageResponse.of(nhanKhauRepository.findPageWithHoKhau(pageable), NhanKhau::getId);
+    }
+
     @Override
     public void deleteById(Long id) {
         nhanKhauRepository.deleteById(id);
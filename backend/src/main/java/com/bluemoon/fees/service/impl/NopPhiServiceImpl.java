@@ -1,19 +1,34 @@
 package com.bluemoon.fees.service.impl;
 
+import com.bluemoon.fees.dto.PageResponse;
+import com.bluemoon.fees.dto.PaymentVerificationRequest;
+import com.bluemoon.fees.dto.PaymentVerificationResult;
 import com.bluemoon.fees.entity.HoKhau;
 import com.bluemoon.fees.entity.KhoanThu;
 import com.bluemoon.fees.entity.NopPhi;
+import com.bluemoon.fees.entity.Notification;
 import com.bluemoon.fees.exception.ResourceNotFoundException;
+import com.bluemoon.fees.monitoring.DomainMetrics;
+import com.bluemoon.fees.repository.FeeObligationRepository;
 import com.bluemoon.fees.repository.HoKhauRepository;
 import com.bluemoon.fees.repository.KhoanThuRepository;
 import com.bluemoon.fees.repository.NopPhiRepository;
+import com.bluemoon.fees.repository.projection.PaymentFeeMonth;
+import com.bluemoon.fees.repository.projection.PaymentStatistics;
+import com.bluemoon.fees.repository.projection.PaymentVerificationState;
+import com.bluemoon.fees.service.HouseholdBalanceService;
 import com.bluemoon.fees.service.NopPhiService;
+import com.bluemoon.fees.service.NotificationService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Map;
 import java.util.HashMap;
@@ -22,20 +37,34 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Slf4j
 public class NopPhiServiceImpl implements NopPhiService {
 
+    // Ids per UPDATE ... WHERE id IN (...) statement in batch verification
+    private static final int VERIFY_CHUNK_SIZE = 500;
+
     private final NopPhiRepository nopPhiRepository;
+    private final FeeObligationRepository feeObligationRepository;
     private final HoKhauRepository hoKhauRepository;
     private final KhoanThuRepository khoanThuRepository;
+    private final DomainMetrics domainMetrics;
+    private final NotificationService notificationService;
+    private final HouseholdBalanceService householdBalanceService;
 
     @Override
     public NopPhi save(NopPhi entity) {
-        return nopPhiRepository.save(entity);
+        NopPhi saved = nopPhiRepository.save(entity);
+        settleObligation(saved);
+        refreshBalance(saved);
+        return saved;
     }
 
     @Override
     public List<NopPhi> saveAll(List<NopPhi> entities) {
-        return nopPhiRepository.saveAll(entities);
+        List<NopPhi> saved = nopPhiRepository.saveAll(entities);
+        saved.forEach(this::settleObligation);
+        saved.forEach(this::refreshBalance);
+        return saved;
     }
 
     @Override
@@ -48,14 +77,31 @@ public class NopPhiServiceImpl implements NopPhiService {
         return nopPhiRepository.findAllWithHoKhauAndKhoanThu();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<NopPhi> findPage(Long afterId, Pageable pageable) {
+        if (afterId != null) {
+            return PageResponse.of(nopPhiRepository.findByIdGreaterThan(afterId, PageResponse.keysetRequest(pageable)), NopPhi::getId);
+        }
+        return PageResponse.of(nopPhiRepository.findPageWithHoKhauAndKhoanThu(pageable), NopPhi::getId);
+    }
+
     @Override
     public void deleteById(Long id) {
-        nopPhiRepository.deleteById(id);
+        nopPhiRepository.findById(id).ifPresent(this::delete);
     }
 
     @Override
     public void delete(NopPhi entity) {
+        List<PaymentFeeMonth> months = nopPhiRepository.findFeeMonths(List.of(entity.getId()));
         nopPhiRepository.delete(entity);
+        feeObligationRepository.release(entity.getId());
+        refreshMonths(months);
+        // Without a levy obligation the fee is charged on the first payment, which may now be another one
+        if (entity.getHoKhau() != null && entity.getKhoanThu() != null) {
+            nopPhiRepository.findFirstByHoKhauIdAndKhoanThuIdOrderByIdAsc(entity.getHoKhau().getId(), entity.getKhoanThu().getId())
+                    .ifPresent(this::refreshBalance);
+        }
     }
 
     @Override
@@ -85,7 +131,7 @@ public class NopPhiServiceImpl implements NopPhiService {
 
     @Override
     public NopPhi findByHoKhauAndKhoanThu(Long hoKhauId, Long khoanThuId) {
-        return nopPhiRepository.findByHoKhauIdAndKhoanThuId(hoKhauId, khoanThuId)
+        return nopPhiRepository.findFirstByHoKhauIdAndKhoanThuIdOrderByIdDesc(hoKhauId, khoanThuId)
                 .orElseThrow(() -> new ResourceNotFoundException("Payment not found for household ID: " + hoKhauId + " and fee ID: " + khoanThuId));
     }
 
@@ -117,7 +163,17 @@ public class NopPhiServiceImpl implements NopPhiService {
             nopPhi.setTongTien(khoanThu.getSoTien());
         }
         
-        return nopPhiRepository.save(nopPhi);
+        NopPhi saved = nopPhiRepository.save(nopPhi);
+        settleObligation(saved);
+        refreshBalance(saved);
+        domainMetrics.paymentCreated();
+        if (saved.isDaXacNhan()) {
+            domainMetrics.paymentsVerified(1);
+        }
+        notificationService.publish("Khoản nộp phí mới",
+                "Hộ " + hoKhau.getSoHoKhau() + " nộp " + khoanThu.getTenKhoanThu(),
+                Notification.EntityType.PAYMENT, saved.getId(), "ADMIN", "KE_TOAN");
+        return saved;
     }
 
     @Override
@@ -127,6 +183,7 @@ public class NopPhiServiceImpl implements NopPhiService {
         
         // Maintain important references
         nopPhi.setId(existingNopPhi.getId());
+        LocalDate oldNgayNop = existingNopPhi.getNgayNop();
         
         // Update all necessary fields
         existingNopPhi.setNguoiNop(nopPhi.getNguoiNop());
@@ -134,57 +191,173 @@ public class NopPhiServiceImpl implements NopPhiService {
         existingNopPhi.setSoTien(nopPhi.getSoTien());
         existingNopPhi.setTongTien(nopPhi.getTongTien());
         existingNopPhi.setGhiChu(nopPhi.getGhiChu());
+        if (!existingNopPhi.isDaXacNhan() && nopPhi.isDaXacNhan()) {
+            domainMetrics.paymentsVerified(1);
+        }
         existingNopPhi.setDaXacNhan(nopPhi.isDaXacNhan());
         
-        System.out.printf("Updating payment with ID: {} - nguoiNop: {}, ngayNop: {}, soTien: {}, tongTien: {}, daXacNhan: {}", 
+        log.debug("Updating payment with ID: {} - nguoiNop: {}, ngayNop: {}, soTien: {}, tongTien: {}, daXacNhan: {}",
                  id, nopPhi.getNguoiNop(), nopPhi.getNgayNop(), nopPhi.getSoTien(), nopPhi.getTongTien(), nopPhi.isDaXacNhan());
         
-        return nopPhiRepository.save(existingNopPhi);
+        NopPhi saved = nopPhiRepository.save(existingNopPhi);
+        householdBalanceService.refreshMonthOf(saved.getHoKhau().getId(), oldNgayNop);
+        refreshBalance(saved);
+        return saved;
     }
 
     @Override
     public void verifyNopPhi(Long id) {
-        NopPhi nopPhi = findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Payment not found with ID: " + id));
-        
-        nopPhi.setDaXacNhan(true);
-        nopPhiRepository.save(nopPhi);
+        // Flip the flag in place instead of loading the payment with its household and fee
+        int updated = nopPhiRepository.updateVerification(List.of(id), true);
+        if (updated == 0 && !nopPhiRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Payment not found with ID: " + id);
+        }
+        domainMetrics.paymentsVerified(updated);
+        if (updated > 0) {
+            refreshBalances(nopPhiRepository.findVerificationStates(List.of(id)));
+        }
     }
 
     @Override
     public void unverifyNopPhi(Long id) {
-        NopPhi nopPhi = findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Payment not found with ID: " + id));
-        
-        nopPhi.setDaXacNhan(false);
-        nopPhiRepository.save(nopPhi);
+        int updated = nopPhiRepository.updateVerification(List.of(id), false);
+        if (updated == 0 && !nopPhiRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Payment not found with ID: " + id);
+        }
+        if (updated > 0) {
+            refreshBalances(nopPhiRepository.findVerificationStates(List.of(id)));
+        }
+    }
+
+    @Override
+    public PaymentVerificationResult setVerification(PaymentVerificationRequest request, boolean daXacNhan) {
+        List<Long> ids;
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            ids = request.getIds().stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        } else if (request.getKhoanThuId() != null || request.getStartDate() != null || request.getEndDate() != null) {
+            ids = nopPhiRepository.findIdsToVerify(daXacNhan, request.getKhoanThuId(), request.getStartDate(), request.getEndDate());
+        } else {
+            throw new RuntimeException("Select payments by ids or by a filter (khoanThuId, startDate, endDate)");
+        }
+
+        List<PaymentVerificationResult.Item> results = new ArrayList<>(ids.size());
+        int updated = 0;
+        int unchanged = 0;
+        int notFound = 0;
+        for (int from = 0; from < ids.size(); from += VERIFY_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + VERIFY_CHUNK_SIZE, ids.size()));
+            Map<Long, PaymentVerificationState> states = nopPhiRepository.findVerificationStates(chunk).stream()
+                    .collect(Collectors.toMap(PaymentVerificationState::getId, state -> state));
+            List<Long> toUpdate = new ArrayList<>(chunk.size());
+            List<PaymentVerificationState> changed = new ArrayList<>(chunk.size());
+            for (Long id : chunk) {
+                PaymentVerificationState state = states.get(id);
+                Boolean current = state != null ? state.isDaXacNhan() : null;
+                String status;
+                if (current == null) {
+                    status = "NOT_FOUND";
+                    notFound++;
+                } else if (current == daXacNhan) {
+                    status = "UNCHANGED";
+                    unchanged++;
+                } else {
+                    status = "UPDATED";
+                    toUpdate.add(id);
+                    changed.add(state);
+                }
+                results.add(new PaymentVerificationResult.Item(id, status));
+            }
+            if (!toUpdate.isEmpty()) {
+                updated += nopPhiRepository.updateVerification(toUpdate, daXacNhan);
+                refreshBalances(changed);
+            }
+        }
+
+        if (daXacNhan) {
+            domainMetrics.paymentsVerified(updated);
+        }
+        log.info("Batch {} of {} payments: {} updated, {} unchanged, {} not found",
+                daXacNhan ? "verification" : "unverification", ids.size(), updated, unchanged, notFound);
+        // One notification for the whole batch rather than one per payment, fanned out to accountants after commit
+        if (updated > 0) {
+            notificationService.publish(
+                    daXacNhan ? "Xác nhận thanh toán hàng loạt" : "Hủy xác nhận thanh toán hàng loạt",
+                    (daXacNhan ? "Đã xác nhận " : "Đã hủy xác nhận ") + updated + " khoản thanh toán",
+                    Notification.EntityType.PAYMENT, null, "ADMIN", "KE_TOAN");
+        }
+
+        return PaymentVerificationResult.builder()
+                .daXacNhan(daXacNhan)
+                .requested(ids.size())
+                .updated(updated)
+                .unchanged(unchanged)
+                .notFound(notFound)
+                .results(results)
+                .build();
+    }
+
+    private void settleObligation(NopPhi nopPhi) {
+        if (nopPhi.getHoKhau() != null && nopPhi.getKhoanThu() != null) {
+            feeObligationRepository.settle(nopPhi.getHoKhau().getId(), nopPhi.getKhoanThu().getId(), nopPhi.getId());
+        }
+    }
+
+    // Payments are booked in the month their fee is charged, not the month of ngayNop
+    private void refreshBalance(NopPhi nopPhi) {
+        if (nopPhi.getId() != null) {
+            refreshMonths(nopPhiRepository.findFeeMonths(List.of(nopPhi.getId())));
+        }
+    }
+
+    private void refreshBalances(List<PaymentVerificationState> payments) {
+        refreshMonths(nopPhiRepository.findFeeMonths(
+                payments.stream().map(PaymentVerificationState::getId).collect(Collectors.toList())));
+    }
+
+    // One ledger upsert per month touched by a set of payments
+    private void refreshMonths(List<PaymentFeeMonth> months) {
+        months.stream()
+                .filter(month -> month.getNgay() != null)
+                .collect(Collectors.groupingBy(month -> month.getNgay().withDayOfMonth(1),
+                        Collectors.mapping(PaymentFeeMonth::getHoKhauId, Collectors.toSet())))
+                .forEach((month, households) ->
+                        householdBalanceService.refresh(households, month.getMonthValue(), month.getYear()));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Double calculateTotalPaymentsByHoKhau(Long hoKhauId) {
-        List<NopPhi> payments = findByHoKhau(hoKhauId);
-        return payments.stream()
-                .filter(NopPhi::isDaXacNhan)
-                .mapToDouble(NopPhi::getSoTien)
-                .sum();
+        return nopPhiRepository.sumVerifiedByHoKhauId(hoKhauId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Double calculateTotalPaymentsByKhoanThu(Long khoanThuId) {
-        List<NopPhi> payments = findByKhoanThu(khoanThuId);
-        return payments.stream()
-                .filter(NopPhi::isDaXacNhan)
-                .mapToDouble(NopPhi::getSoTien)
-                .sum();
+        return nopPhiRepository.sumVerifiedByKhoanThuId(khoanThuId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Double calculateTotalPaymentsByDateRange(LocalDate startDate, LocalDate endDate) {
-        List<NopPhi> payments = findByDateRange(startDate, endDate);
-        return payments.stream()
-                .filter(NopPhi::isDaXacNhan)
-                .mapToDouble(NopPhi::getSoTien)
-                .sum();
+        return nopPhiRepository.sumVerifiedByNgayNopBetween(startDate, endDate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Double calculateTotalPayments() {
+        return nopPhiRepository.sumAll();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaymentStatistics getStatisticsByHoKhau(Long hoKhauId) {
+        return nopPhiRepository.statisticsByHoKhauId(hoKhauId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaymentStatistics getStatisticsByKhoanThu(Long khoanThuId) {
+        return nopPhiRepository.statisticsByKhoanThuId(khoanThuId);
     }
 
     @Override
@@ -1,11 +1,16 @@
 package com.bluemoon.fees.service.impl;
 
 import com.bluemoon.fees.entity.Notification;
-import com.bluemoon.fees.entity.User;
+import com.bluemoon.fees.entity.NotificationOutbox;
+import com.bluemoon.fees.notification.NotificationsReadEvent;
+import com.bluemoon.fees.notification.UnreadNotificationCounter;
+import com.bluemoon.fees.repository.NotificationOutboxRepository;
 import com.bluemoon.fees.repository.NotificationRepository;
 import com.bluemoon.fees.service.NotificationService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,24 +19,29 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
     
+    private static final int UNREAD_LIST_LIMIT = 100;
+
     private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository outboxRepository;
+    private final UnreadNotificationCounter unreadCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
-    public void createNotification(String title, String message, Notification.EntityType entityType, Long entityId, User user) {
-        Notification notification = Notification.builder()
+    @Transactional
+    public void publish(String title, String message, Notification.EntityType entityType, Long entityId, String... recipientRoles) {
+        // One row however many recipients; NotificationOutboxDispatcher fans it out in the background
+        outboxRepository.save(NotificationOutbox.builder()
                 .title(title)
                 .message(message)
                 .entityType(entityType)
                 .entityId(entityId)
-                .user(user)
-                .build();
-        
-        notificationRepository.save(notification);
+                .recipientRoles(recipientRoles.length > 0 ? String.join(",", recipientRoles) : null)
+                .build());
     }
 
     @Override
-    public List<Notification> getUnreadNotifications() {
-        return notificationRepository.findByReadFalseOrderByCreatedAtDesc();
+    public List<Notification> getUnreadNotifications(Long userId) {
+        return notificationRepository.findUnreadVisibleTo(userId, PageRequest.of(0, UNREAD_LIST_LIMIT));
     }
 
     @Override
@@ -41,12 +51,19 @@ public class NotificationServiceImpl implements NotificationService {
 
     @Override
     @Transactional
-    public void markAsRead(Long notificationId) {
-        notificationRepository.markAsRead(notificationId);
+    public void markAsRead(Long notificationId, Long userId) {
+        if (notificationRepository.markAsRead(notificationId, userId) > 0) {
+            eventPublisher.publishEvent(new NotificationsReadEvent(notificationId));
+        }
     }
 
     @Override
     public long getUnreadCount() {
-        return notificationRepository.countByReadFalse();
+        return unreadCounter.countAll();
+    }
+
+    @Override
+    public long getUnreadCount(Long userId) {
+        return unreadCounter.countFor(userId);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,151 @@
+package com.bluemoon.fees.service.impl;
+
+import com.bluemoon.fees.dto.OverdueHouseholdDTO;
+import com.bluemoon.fees.dto.PageResponse;
+import com.bluemoon.fees.entity.JobLock;
+import com.bluemoon.fees.entity.KhoanThu;
+import com.bluemoon.fees.entity.Notification;
+import com.bluemoon.fees.repository.JobLockRepository;
+import com.bluemoon.fees.repository.KhoanThuRepository;
+import com.bluemoon.fees.repository.OverdueFeeRepository;
+import com.bluemoon.fees.service.NotificationService;
+import com.bluemoon.fees.service.OverdueFeeService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class OverdueFeeServiceImpl implements OverdueFeeService {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final String JOB_NAME = "overdue-fee-snapshot";
+
+    private final KhoanThuRepository khoanThuRepository;
+    private final OverdueFeeRepository overdueFeeRepository;
+    private final JobLockRepository jobLockRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    // Per-fee rebuilds commit on their own while the run's job_lock transaction stays open
+    private final TransactionTemplate requiresNew;
+    private final String cron;
+    // A rebuild can take minutes; on its own thread it never holds back the jobs sharing Boot's single-thread
+    // taskScheduler (outbox poll every second, SSE heartbeats). Not a bean: any TaskScheduler bean would switch
+    // off Boot's default scheduler and application task executor.
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+    public OverdueFeeServiceImpl(KhoanThuRepository khoanThuRepository,
+                                 OverdueFeeRepository overdueFeeRepository,
+                                 JobLockRepository jobLockRepository,
+                                 NotificationService notificationService,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.fees.overdue.cron:0 0 6 * * *}") String cron) {
+        this.khoanThuRepository = khoanThuRepository;
+        this.overdueFeeRepository = overdueFeeRepository;
+        this.jobLockRepository = jobLockRepository;
+        this.notificationService = notificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cron = cron;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (Scheduled.CRON_DISABLED.equals(cron)) {
+            return;
+        }
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("overdue-fee-");
+        scheduler.initialize();
+        // A failed run is logged by the scheduler and the next one starts from whatever it committed
+        scheduler.schedule(this::refreshSnapshot, new CronTrigger(cron));
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+    }
+
+    @Override
+    public int refreshSnapshot() {
+        if (!jobLockRepository.existsById(JOB_NAME)) {
+            transactionTemplate.executeWithoutResult(status -> jobLockRepository.insertIfMissing(JOB_NAME));
+        }
+
+        // The job_lock row is held for the whole run, so only one instance of the cluster rebuilds at a time
+        Integer total = transactionTemplate.execute(status -> {
+            JobLock lock = jobLockRepository.tryLock(JOB_NAME).orElse(null);
+            if (lock == null) {
+                return null;
+            }
+            lock.setLockedAt(LocalDateTime.now());
+            return rebuild();
+        });
+        if (total == null) {
+            log.info("Overdue snapshot is being rebuilt by another instance, skipping this run");
+            return 0;
+        }
+        return total;
+    }
+
+    private int rebuild() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime computedAt = LocalDateTime.now();
+        List<KhoanThu> overdueFees = khoanThuRepository.findByThoiHanBeforeAndBatBuocTrueAndHoatDongTrue(today);
+
+        requiresNew.executeWithoutResult(status -> {
+            if (overdueFees.isEmpty()) {
+                overdueFeeRepository.deleteAllInBatch();
+            } else {
+                overdueFeeRepository.deleteByKhoanThuNotIn(overdueFees.stream().map(KhoanThu::getId).collect(Collectors.toList()));
+            }
+        });
+
+        // One transaction per fee: readers see either the previous or the new rows of a fee, never a mix.
+        // Rows of households still unpaid are kept, so only households that became overdue since the last run
+        // are reminded about.
+        int total = 0;
+        for (KhoanThu fee : overdueFees) {
+            Long unpaid = requiresNew.execute(status -> {
+                overdueFeeRepository.deleteSettled(fee.getId());
+                overdueFeeRepository.updateFee(fee.getId(), fee.getSoTien(), fee.getThoiHan(), computedAt);
+                int added = overdueFeeRepository.insertNewlyUnpaid(fee.getId(), computedAt);
+                long rows = overdueFeeRepository.countByKhoanThuId(fee.getId());
+                if (added > 0) {
+                    notificationService.publish("Nhắc nộp khoản thu quá hạn",
+                            "Khoản thu " + fee.getTenKhoanThu() + " quá hạn từ " + fee.getThoiHan().format(DATE_FORMAT)
+                                    + ": thêm " + added + " hộ chưa nộp (tổng " + rows + " hộ)",
+                            Notification.EntityType.FEE, fee.getId(), "ADMIN", "TO_TRUONG", "KE_TOAN");
+                }
+                return rows;
+            });
+            total += unpaid != null ? unpaid.intValue() : 0;
+        }
+        log.info("Overdue snapshot: {} overdue mandatory fees, {} unpaid household-fee pairs", overdueFees.size(), total);
+        return total;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<OverdueHouseholdDTO> findOverdueHouseholds(Long khoanThuId, Long hoKhauId, Pageable pageable) {
+        return PageResponse.of(overdueFeeRepository.findOverdueHouseholds(khoanThuId, hoKhauId, pageable));
+    }
+}
@@ -0,0 +1,78 @@
+package com.bluemoon.fees.service.impl;
+
+import com.bluemoon.fees.entity.ParkingTariff;
+import com.bluemoon.fees.entity.VehicleType;
+import com.bluemoon.fees.parking.ParkingTariffTable;
+import com.bluemoon.fees.parking.ParkingTariffsChangedEvent;
+import com.bluemoon.fees.repository.ParkingTariffRepository;
+import com.bluemoon.fees.service.ParkingTariffService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parking rates held as an in-memory {@link ParkingTariffTable}, so pricing never queries the tariff table.
+ * The snapshot is loaded on first use and rebuilt after a tariff is committed; each application instance has its own
+ * copy, so rates added on another node apply here after a restart.
+ */
+@Service
+public class ParkingTariffServiceImpl implements ParkingTariffService {
+
+    private final ParkingTariffRepository parkingTariffRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<String, Double> defaultRates;
+
+    private final ReloadableSnapshot<ParkingTariffTable> table = new ReloadableSnapshot<>(this::load);
+
+    public ParkingTariffServiceImpl(ParkingTariffRepository parkingTariffRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${app.parking.default-rate.xe-may:70000}") double xeMayRate,
+                                    @Value("${app.parking.default-rate.oto:1200000}") double otoRate) {
+        this.parkingTariffRepository = parkingTariffRepository;
+        this.eventPublisher = eventPublisher;
+        this.defaultRates = Map.of(VehicleType.XE_MAY.name(), xeMayRate, VehicleType.OTO.name(), otoRate);
+    }
+
+    @Override
+    public ParkingTariffTable getTariffTable() {
+        return table.get();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ParkingTariff> findAll() {
+        return parkingTariffRepository.findAllByOrderByLoaiXeAscHieuLucTuAsc();
+    }
+
+    @Override
+    @Transactional
+    public ParkingTariff createTariff(ParkingTariff tariff) {
+        if (tariff.getLoaiXe() == null || tariff.getHieuLucTu() == null) {
+            throw new RuntimeException("Loại xe và ngày hiệu lực là bắt buộc");
+        }
+        if (tariff.getMucPhi() == null || tariff.getMucPhi() < 0) {
+            throw new RuntimeException("Mức phí không hợp lệ");
+        }
+        if (parkingTariffRepository.existsByLoaiXeAndHieuLucTu(tariff.getLoaiXe(), tariff.getHieuLucTu())) {
+            throw new RuntimeException("Đã có mức phí cho loại xe này từ ngày " + tariff.getHieuLucTu());
+        }
+        tariff.setId(null);
+        ParkingTariff saved = parkingTariffRepository.save(tariff);
+        eventPublisher.publishEvent(new ParkingTariffsChangedEvent());
+        return saved;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTariffsChanged(ParkingTariffsChangedEvent event) {
+        table.reload();
+    }
+
+    private ParkingTariffTable load() {
+        return new ParkingTariffTable(parkingTariffRepository.findAll(), defaultRates);
+    }
+}
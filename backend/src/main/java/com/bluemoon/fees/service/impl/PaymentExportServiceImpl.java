@@ -0,0 +1,127 @@
+package com.bluemoon.fees.service.impl;
+
+import com.bluemoon.fees.dto.NopPhiDTO;
+import com.bluemoon.fees.entity.NopPhi;
+import com.bluemoon.fees.repository.NopPhiRepository;
+import com.bluemoon.fees.service.PaymentExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentExportServiceImpl implements PaymentExportService {
+
+    // Rows written between persistence context clears and writer flushes
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String CSV_HEADER = "id,hoKhauId,soHoKhau,chuHo,address,khoanThuId,tenKhoanThu,"
+            + "soTienKhoanThu,ngayNop,nguoiNop,tongTien,soTien,daXacNhan,ghiChu";
+
+    private final NopPhiRepository nopPhiRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(Writer writer, NopPhiDTO row) throws IOException;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportNdjson(OutputStream out) throws IOException {
+        return export(out, null, (writer, row) -> {
+            writer.write(objectMapper.writeValueAsString(row));
+            writer.write('\n');
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportCsv(OutputStream out) throws IOException {
+        return export(out, CSV_HEADER, (writer, row) -> {
+            writer.write(String.valueOf(row.getId()));
+            writer.write(',');
+            writer.write(csv(row.getHoKhauId()));
+            writer.write(',');
+            writer.write(csv(row.getSoHoKhau()));
+            writer.write(',');
+            writer.write(csv(row.getChuHo()));
+            writer.write(',');
+            writer.write(csv(row.getAddress()));
+            writer.write(',');
+            writer.write(csv(row.getKhoanThuId()));
+            writer.write(',');
+            writer.write(csv(row.getTenKhoanThu()));
+            writer.write(',');
+            writer.write(csv(row.getSoTienKhoanThu()));
+            writer.write(',');
+            writer.write(csv(row.getNgayNop()));
+            writer.write(',');
+            writer.write(csv(row.getNguoiNop()));
+            writer.write(',');
+            writer.write(csv(row.getTongTien()));
+            writer.write(',');
+            writer.write(csv(row.getSoTien()));
+            writer.write(',');
+            writer.write(String.valueOf(row.isDaXacNhan()));
+            writer.write(',');
+            writer.write(csv(row.getGhiChu()));
+            writer.write("\r\n");
+        });
+    }
+
+    private long export(OutputStream out, String header, RowWriter rowWriter) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (header != null) {
+            // BOM so spreadsheet tools open the Vietnamese text as UTF-8
+            writer.write('\uFEFF');
+            writer.write(header);
+            writer.write("\r\n");
+        }
+
+        long count = 0;
+        try (Stream<NopPhi> payments = nopPhiRepository.streamAllWithHoKhauAndKhoanThu()) {
+            Iterator<NopPhi> iterator = payments.iterator();
+            while (iterator.hasNext()) {
+                NopPhi payment = iterator.next();
+                NopPhiDTO row = new NopPhiDTO(payment);
+                entityManager.detach(payment);
+                rowWriter.write(writer, row);
+
+                if (++count % BATCH_SIZE == 0) {
+                    // Drops the households and fees pulled in by the fetch join
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        log.info("Exported {} payments", count);
+        return count;
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,46 @@
+package com.bluemoon.fees.service.impl;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * An immutable value built from the database, loaded on first use and rebuilt on demand (e.g. after the rows
+ * behind it are committed). Reads are a volatile load; loads are serialized so a slow load cannot overwrite
+ * the result of a later one.
+ */
+final class ReloadableSnapshot<T> {
+
+    private final Supplier<T> loader;
+    private volatile T value;
+    // A lock rather than synchronized: loading runs a query, which would pin a virtual thread's carrier
+    private final Lock reloadLock = new ReentrantLock();
+
+    ReloadableSnapshot(Supplier<T> loader) {
+        this.loader = loader;
+    }
+
+    T get() {
+        T current = value;
+        if (current == null) {
+            reloadLock.lock();
+            try {
+                current = value != null ? value : reload();
+            } finally {
+                reloadLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    T reload() {
+        reloadLock.lock();
+        try {
+            T fresh = loader.get();
+            value = fresh;
+            return fresh;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.bluemoon.fees.service.impl;
+
+import com.bluemoon.fees.dto.SearchResultDTO;
+import com.bluemoon.fees.entity.HoKhau;
+import com.bluemoon.fees.entity.NhanKhau;
+import com.bluemoon.fees.entity.Vehicle;
+import com.bluemoon.fees.search.SearchDocument;
+import com.bluemoon.fees.search.SearchIndex;
+import com.bluemoon.fees.service.SearchService;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Households, residents and vehicles held in an in-memory {@link SearchIndex}. Built at startup and kept current by
+ * post-commit Hibernate listeners (see SearchIndexConfig); each application instance has its own copy.
+ * Inactive households are left out. Updates that arrive while a rebuild is reading the database are recorded and
+ * replayed onto the new index before it replaces the old one, so they are not lost by the swap.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchServiceImpl implements SearchService {
+
+    public static final String HO_KHAU = "HO_KHAU";
+    public static final String NHAN_KHAU = "NHAN_KHAU";
+    public static final String XE = "XE";
+
+    private final EntityManager entityManager;
+
+    private volatile SearchIndex index = new SearchIndex();
+    // Guards index swaps and the pending list; held only briefly, never while querying
+    private final Lock updateLock = new ReentrantLock();
+    // One rebuild at a time
+    private final Lock rebuildLock = new ReentrantLock();
+    // Updates made during a rebuild, replayed onto the fresh index; null when no rebuild is running
+    private List<Consumer<SearchIndex>> pending;
+
+    @Override
+    public List<SearchResultDTO> search(String query, Set<String> types, int limit) {
+        return index.search(query, types, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildIndex();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int rebuildIndex() {
+        rebuildLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            setPending(new ArrayList<>());
+            SearchIndex fresh = new SearchIndex();
+            try {
+                load(fresh);
+            } catch (RuntimeException e) {
+                // The recorded updates already reached the live index, which stays in place
+                setPending(null);
+                throw e;
+            }
+            updateLock.lock();
+            try {
+                pending.forEach(update -> update.accept(fresh));
+                pending = null;
+                index = fresh;
+            } finally {
+                updateLock.unlock();
+            }
+            log.info("Search index built with {} documents in {} ms", fresh.size(), System.currentTimeMillis() - start);
+            return fresh.size();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void load(SearchIndex fresh) {
+        // Scalar queries: no entity loads, no lazy collections
+        for (Object[] row : entityManager.createQuery(
+                "SELECT h.id, h.soHoKhau, h.chuHo, h.address FROM HoKhau h WHERE h.hoatDong = true", Object[].class).getResultList()) {
+            fresh.put(householdDocument((Long) row[0], (String) row[1], (String) row[2], (String) row[3]));
+        }
+        for (Object[] row : entityManager.createQuery(
+                "SELECT n.id, n.hoTen, n.cccd, h.id FROM NhanKhau n LEFT JOIN n.hoKhau h", Object[].class).getResultList()) {
+            fresh.put(personDocument((Long) row[0], (String) row[1], (String) row[2], (Long) row[3]));
+        }
+        for (Object[] row : entityManager.createQuery(
+                "SELECT v.id, v.bienSoXe, v.loaiXe, v.hangXe, v.hoKhauId FROM Vehicle v", Object[].class).getResultList()) {
+            fresh.put(vehicleDocument((Long) row[0], (String) row[1], (String) row[2], (String) row[3], (Long) row[4]));
+        }
+    }
+
+    @Override
+    public void indexEntity(Object entity) {
+        if (entity instanceof HoKhau hoKhau) {
+            if (!hoKhau.isHoatDong()) {
+                // Deactivated households drop out of the results
+                apply(target -> target.remove(HO_KHAU, hoKhau.getId()));
+                return;
+            }
+            SearchDocument document = householdDocument(hoKhau.getId(), hoKhau.getSoHoKhau(), hoKhau.getChuHo(), hoKhau.getAddress());
+            apply(target -> target.put(document));
+        } else if (entity instanceof NhanKhau nhanKhau) {
+            // getId() on an uninitialized proxy does not hit the database
+            Long hoKhauId = nhanKhau.getHoKhau() != null ? nhanKhau.getHoKhau().getId() : null;
+            SearchDocument document = personDocument(nhanKhau.getId(), nhanKhau.getHoTen(), nhanKhau.getCccd(), hoKhauId);
+            apply(target -> target.put(document));
+        } else if (entity instanceof Vehicle vehicle) {
+            SearchDocument document = vehicleDocument(vehicle.getId(), vehicle.getBienSoXe(), vehicle.getLoaiXe(),
+                    vehicle.getHangXe(), vehicle.getHoKhauId());
+            apply(target -> target.put(document));
+        }
+    }
+
+    @Override
+    public void removeEntity(Object entity) {
+        if (entity instanceof HoKhau hoKhau) {
+            apply(target -> target.remove(HO_KHAU, hoKhau.getId()));
+        } else if (entity instanceof NhanKhau nhanKhau) {
+            apply(target -> target.remove(NHAN_KHAU, nhanKhau.getId()));
+        } else if (entity instanceof Vehicle vehicle) {
+            apply(target -> target.remove(XE, vehicle.getId()));
+        }
+    }
+
+    // Applies an update to the live index and, during a rebuild, records it for the index being built
+    private void apply(Consumer<SearchIndex> update) {
+        updateLock.lock();
+        try {
+            update.accept(index);
+            if (pending != null) {
+                pending.add(update);
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void setPending(List<Consumer<SearchIndex>> updates) {
+        updateLock.lock();
+        try {
+            pending = updates;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private static SearchDocument householdDocument(Long id, String soHoKhau, String chuHo, String address) {
+        return SearchDocument.builder()
+                .type(HO_KHAU)
+                .id(id)
+                .hoKhauId(id)
+                .title(chuHo)
+                .subtitle(soHoKhau + " - " + address)
+                .fields(List.of(
+                        new SearchDocument.Field(soHoKhau, 3, true),
+                        new SearchDocument.Field(chuHo, 3, false),
+                        new SearchDocument.Field(address, 1, false)))
+                .build();
+    }
+
+    private static SearchDocument personDocument(Long id, String hoTen, String cccd, Long hoKhauId) {
+        return SearchDocument.builder()
+                .type(NHAN_KHAU)
+                .id(id)
+                .hoKhauId(hoKhauId)
+                .title(hoTen)
+                .subtitle(cccd)
+                .fields(List.of(
+                        new SearchDocument.Field(hoTen, 3, false),
+                        new SearchDocument.Field(cccd, 3, true)))
+                .build();
+    }
+
+    private static SearchDocument vehicleDocument(Long id, String bienSoXe, String loaiXe, String hangXe, Long hoKhauId) {
+        return SearchDocument.builder()
+                .type(XE)
+                .id(id)
+                .hoKhauId(hoKhauId)
+                .title(bienSoXe)
+                .subtitle(hangXe != null ? loaiXe + " - " + hangXe : loaiXe)
+                .fields(List.of(new SearchDocument.Field(bienSoXe, 3, true)))
+                .build();
+    }
+}
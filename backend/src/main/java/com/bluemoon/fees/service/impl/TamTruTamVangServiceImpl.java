@@ -1,5 +1,7 @@
 package com.bluemoon.fees.service.impl;
 
+import com.bluemoon.fees.dto.PageResponse;
+import com.bluemoon.fees.dto.TamTruTamVangDTO;
 import com.bluemoon.fees.entity.TamTruTamVang;
 import com.bluemoon.fees.entity.NhanKhau;
 import com.bluemoon.fees.exception.ResourceNotFoundException;
@@ -7,6 +9,7 @@ import com.bluemoon.fees.repository.TamTruTamVangRepository;
 import com.bluemoon.fees.repository.NhanKhauRepository;
 import com.bluemoon.fees.service.TamTruTamVangService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +23,7 @@ import java.util.Optional;
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Slf4j
 public class TamTruTamVangServiceImpl implements TamTruTamVangService {
 
     private final TamTruTamVangRepository tamTruTamVangRepository;
@@ -47,27 +51,8 @@ public class TamTruTamVangServiceImpl implements TamTruTamVangService {
 
     @Override
     public Page<TamTruTamVang> findAll(Pageable pageable) {
-        Page<TamTruTamVang> page = tamTruTamVangRepository.findAll(pageable);
-        
-        // Initialize any lazy-loaded relationships to prevent serialization issues
-        page.getContent().forEach(record -> {
-            if (record.getNhanKhau() != null) {
-                try {
-                    // Force loading of properties we need
-                    Long nhanKhauId = record.getNhanKhau().getId();
-                    String hoTen = record.getNhanKhau().getHoTen();
-                    
-                    // Set the transient fields for serialization
-                    record.getNhanKhauId();
-                    record.getHoTen();
-                } catch (Exception e) {
-                    // Log and continue if there's an issue with a specific record
-                    System.err.println("Error initializing person data for record " + record.getId() + ": " + e.getMessage());
-                }
-            }
-        });
-        
-        return page;
+        // Lists that need the person's name go through findRecords instead of initializing nhanKhau per row
+        return tamTruTamVangRepository.findAll(pageable);
     }
 
     @Override
@@ -163,4 +148,30 @@ public class TamTruTamVangServiceImpl implements TamTruTamVangService {
                 .orElseThrow(() -> new ResourceNotFoundException("Temporary residence/absence record not found with ID: " + id));
         delete(record);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<TamTruTamVangDTO> findRecords(TamTruTamVang.TrangThai trangThai, LocalDate startDate,
+                                                    LocalDate endDate, Pageable pageable) {
+        return PageResponse.of(tamTruTamVangRepository.findRecordPage(trangThai, startDate, endDate, pageable),
+                TamTruTamVangDTO::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TamTruTamVangDTO> findRecords(TamTruTamVang.TrangThai trangThai, LocalDate startDate, LocalDate endDate) {
+        return tamTruTamVangRepository.findRecords(trangThai, startDate, endDate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TamTruTamVangDTO> findRecordsByNhanKhauId(Long nhanKhauId) {
+        return tamTruTamVangRepository.findRecordsByNhanKhauId(nhanKhauId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<TamTruTamVangDTO> findRecordById(Long id) {
+        return tamTruTamVangRepository.findRecordById(id);
+    }
 }
\ No newline at end of file
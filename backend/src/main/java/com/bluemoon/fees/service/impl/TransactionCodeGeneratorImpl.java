@@ -0,0 +1,93 @@
+package com.bluemoon.fees.service.impl;
+
+import com.bluemoon.fees.repository.TransactionCodeBlockRepository;
+import com.bluemoon.fees.service.TransactionCodeGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Hi/lo generator: each node reserves a block of numbers per day in transaction_code_block and hands them
+// out from memory, so a code costs one atomic increment and the database is touched once per block.
+// Codes are never reused; numbers left in a block when the node stops or the day changes are skipped.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionCodeGeneratorImpl implements TransactionCodeGenerator {
+
+    private static final String UTILITY_PAYMENT_PREFIX = "UT";
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final TransactionCodeBlockRepository blockRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.transaction-code.block-size:100}")
+    private int blockSize;
+
+    private final AtomicReference<Block> current = new AtomicReference<>();
+    private final Lock allocationLock = new ReentrantLock();
+
+    @Override
+    public String nextUtilityPaymentCode() {
+        String prefix = UTILITY_PAYMENT_PREFIX + LocalDate.now().format(DAY);
+        while (true) {
+            Block block = current.get();
+            if (block != null && block.prefix.equals(prefix)) {
+                long value = block.next.getAndIncrement();
+                if (value < block.limit) {
+                    // At least six digits; longer numbers keep the codes unique because the prefix has a fixed length
+                    return prefix + String.format("%06d", value);
+                }
+            }
+            allocate(prefix, block);
+        }
+    }
+
+    private void allocate(String prefix, Block exhausted) {
+        allocationLock.lock();
+        try {
+            // Another thread may already have replaced the block we found exhausted
+            if (current.get() != exhausted) {
+                return;
+            }
+            long end = reserve(prefix);
+            current.set(new Block(prefix, end - blockSize, end));
+            log.debug("Reserved transaction codes {}[{}, {})", prefix, end - blockSize, end);
+        } finally {
+            allocationLock.unlock();
+        }
+    }
+
+    // Returns the exclusive end of a freshly reserved block, committed independently of the caller's transaction
+    private long reserve(String prefix) {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return requiresNew.execute(status -> {
+            blockRepository.reserve(prefix, blockSize);
+            // The row is locked by this transaction, so the value read back is the end of our block
+            return blockRepository.findNextVal(prefix);
+        });
+    }
+
+    private static final class Block {
+        private final String prefix;
+        private final AtomicLong next;
+        private final long limit;
+
+        private Block(String prefix, long start, long limit) {
+            this.prefix = prefix;
+            this.next = new AtomicLong(start);
+            this.limit = limit;
+        }
+    }
+}
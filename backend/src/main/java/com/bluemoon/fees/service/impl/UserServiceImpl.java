@@ -2,8 +2,10 @@ package com.bluemoon.fees.service.impl;
 
 import com.bluemoon.fees.entity.User;
 import com.bluemoon.fees.repository.UserRepository;
+import com.bluemoon.fees.security.UserAccountChangedEvent;
 import com.bluemoon.fees.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -22,14 +24,17 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public User save(User entity) {
+        publishChanged(entity);
         return userRepository.save(entity);
     }
 
     @Override
     public List<User> saveAll(List<User> entities) {
+        entities.forEach(this::publishChanged);
         return userRepository.saveAll(entities);
     }
 
@@ -45,11 +50,14 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public void deleteById(Long id) {
+        userRepository.findById(id)
+                .ifPresent(user -> eventPublisher.publishEvent(new UserAccountChangedEvent(user.getUsername())));
         userRepository.deleteById(id);
     }
 
     @Override
     public void delete(User entity) {
+        eventPublisher.publishEvent(new UserAccountChangedEvent(entity.getUsername()));
         userRepository.delete(entity);
     }
 
@@ -94,6 +102,9 @@ public class UserServiceImpl implements UserService {
             throw new RuntimeException("Email already exists");
         }
 
+        // Cached tokens carry the old username; save() evicts the new one
+        eventPublisher.publishEvent(new UserAccountChangedEvent(existingUser.getUsername()));
+
         existingUser.setUsername(user.getUsername());
         existingUser.setEmail(user.getEmail());
         existingUser.setFullName(user.getFullName());
@@ -147,4 +158,11 @@ public class UserServiceImpl implements UserService {
         return userRepository.findByVaiTro("ADMIN")
                 .orElseThrow(() -> new RuntimeException("No admin user found"));
     }
-}
\ No newline at end of file
+
+    // Any write to an existing account (role, enabled flag, password) invalidates its cached tokens
+    private void publishChanged(User user) {
+        if (user.getId() != null && user.getUsername() != null) {
+            eventPublisher.publishEvent(new UserAccountChangedEvent(user.getUsername()));
+        }
+    }
+}
@@ -1,23 +1,29 @@
 package com.bluemoon.fees.service.impl;
 
+import com.bluemoon.fees.dto.HoKhauSummary;
+import com.bluemoon.fees.dto.PageResponse;
 import com.bluemoon.fees.dto.UtilityPaymentDTO;
 import com.bluemoon.fees.dto.UtilityPaymentRequest;
 import com.bluemoon.fees.entity.HoKhau;
+import com.bluemoon.fees.entity.Notification;
 import com.bluemoon.fees.entity.UtilityPayment;
 import com.bluemoon.fees.entity.UtilityService;
+import com.bluemoon.fees.monitoring.DomainMetrics;
 import com.bluemoon.fees.repository.HoKhauRepository;
 import com.bluemoon.fees.repository.UtilityPaymentRepository;
 import com.bluemoon.fees.repository.UtilityServiceRepository;
+import com.bluemoon.fees.service.HoKhauService;
+import com.bluemoon.fees.service.HouseholdBalanceService;
+import com.bluemoon.fees.service.NotificationService;
+import com.bluemoon.fees.service.TransactionCodeGenerator;
 import com.bluemoon.fees.service.UtilityPaymentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Random;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +34,11 @@ public class UtilityPaymentServiceImpl implements UtilityPaymentService {
     private final UtilityPaymentRepository utilityPaymentRepository;
     private final HoKhauRepository hoKhauRepository;
     private final UtilityServiceRepository utilityServiceRepository;
+    private final DomainMetrics domainMetrics;
+    private final HoKhauService hoKhauService;
+    private final TransactionCodeGenerator transactionCodeGenerator;
+    private final HouseholdBalanceService householdBalanceService;
+    private final NotificationService notificationService;
 
     @Override
     @Transactional(readOnly = true)
@@ -37,6 +48,15 @@ public class UtilityPaymentServiceImpl implements UtilityPaymentService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<UtilityPaymentDTO> getUtilityPaymentsPage(Long afterId, Pageable pageable) {
+        PageResponse<UtilityPayment> page = afterId != null
+                ? PageResponse.of(utilityPaymentRepository.findByIdGreaterThan(afterId, PageResponse.keysetRequest(pageable)), UtilityPayment::getId)
+                : PageResponse.of(utilityPaymentRepository.findPageWithHoKhau(pageable), UtilityPayment::getId);
+        return page.map(this::convertToDTO);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<UtilityPaymentDTO> getUtilityPaymentsByHoKhauId(Long hoKhauId) {
@@ -118,6 +138,11 @@ public class UtilityPaymentServiceImpl implements UtilityPaymentService {
         // onCreate() method will set createdAt and updatedAt automatically
 
         UtilityPayment savedPayment = utilityPaymentRepository.save(payment);
+        householdBalanceService.refresh(savedPayment.getHoKhauId(), thang, nam);
+        domainMetrics.utilityPaymentCreated();
+        notificationService.publish("Thanh toán tiện ích mới",
+                "Hộ " + hoKhau.getSoHoKhau() + " thanh toán tháng " + thang + "/" + nam + " (" + savedPayment.getMaGiaoDich() + ")",
+                Notification.EntityType.PAYMENT, savedPayment.getId(), "ADMIN", "KE_TOAN");
         return convertToDTO(savedPayment);
     }    @Override
     public UtilityPaymentDTO updateUtilityPayment(Long id, UtilityPaymentRequest request) {
@@ -128,6 +153,11 @@ public class UtilityPaymentServiceImpl implements UtilityPaymentService {
         HoKhau hoKhau = hoKhauRepository.findById(request.getHoKhauId())
                 .orElseThrow(() -> new RuntimeException("Không tìm thấy hộ khẩu với ID: " + request.getHoKhauId()));
 
+        // The payment may move to another household or month; both ledger rows change
+        Long oldHoKhauId = payment.getHoKhauId();
+        Integer oldThang = payment.getThang();
+        Integer oldNam = payment.getNam();
+
         payment.setHoKhau(hoKhau);
         payment.setHoKhauId(request.getHoKhauId());
         
@@ -156,6 +186,8 @@ public class UtilityPaymentServiceImpl implements UtilityPaymentService {
         // onUpdate() method will set updatedAt automatically
 
         UtilityPayment savedPayment = utilityPaymentRepository.save(payment);
+        householdBalanceService.refresh(oldHoKhauId, oldThang, oldNam);
+        householdBalanceService.refresh(savedPayment.getHoKhauId(), savedPayment.getThang(), savedPayment.getNam());
         return convertToDTO(savedPayment);
     }
 
@@ -165,6 +197,7 @@ public class UtilityPaymentServiceImpl implements UtilityPaymentService {
                 .orElseThrow(() -> new RuntimeException("Không tìm thấy thanh toán với ID: " + id));
         
         utilityPaymentRepository.delete(payment);
+        householdBalanceService.refresh(payment.getHoKhauId(), payment.getThang(), payment.getNam());
     }
 
     @Override
@@ -177,6 +210,7 @@ public class UtilityPaymentServiceImpl implements UtilityPaymentService {
         // onUpdate() method will set updatedAt automatically
 
         utilityPaymentRepository.save(payment);
+        householdBalanceService.refresh(payment.getHoKhauId(), payment.getThang(), payment.getNam());
     }
 
     @Override
@@ -203,15 +237,15 @@ public class UtilityPaymentServiceImpl implements UtilityPaymentService {
 
     @Override
     public String generateTransactionCode() {
-        String datePrefix = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String randomSuffix = String.format("%04d", new Random().nextInt(10000));
-        return "UT" + datePrefix + randomSuffix;
+        return transactionCodeGenerator.nextUtilityPaymentCode();
     }    private UtilityPaymentDTO convertToDTO(UtilityPayment payment) {
         UtilityPaymentDTO dto = new UtilityPaymentDTO();
         dto.setId(payment.getId());
-        dto.setHoKhauId(payment.getHoKhau().getId());
-        dto.setSoHoKhau(payment.getHoKhau().getSoHoKhau());
-        dto.setChuHo(payment.getHoKhau().getChuHo());
+        // Household names come from the cache instead of initializing the lazy association per row
+        HoKhauSummary hoKhau = hoKhauService.getSummary(payment.getHoKhauId());
+        dto.setHoKhauId(hoKhau.getId());
+        dto.setSoHoKhau(hoKhau.getSoHoKhau());
+        dto.setChuHo(hoKhau.getChuHo());
 
         dto.setThang(payment.getThang());
         dto.setNam(payment.getNam());
@@ -1,26 +1,65 @@
 package com.bluemoon.fees.service.impl;
 
+import com.bluemoon.fees.dto.BulkUtilityServiceResult;
+import com.bluemoon.fees.dto.HoKhauSummary;
+import com.bluemoon.fees.dto.UtilityRepriceResult;
 import com.bluemoon.fees.dto.UtilityServiceDTO;
 import com.bluemoon.fees.dto.UtilityServiceRequest;
 import com.bluemoon.fees.entity.HoKhau;
 import com.bluemoon.fees.entity.UtilityService;
+import com.bluemoon.fees.monitoring.DomainMetrics;
 import com.bluemoon.fees.repository.HoKhauRepository;
 import com.bluemoon.fees.repository.UtilityServiceRepository;
+import com.bluemoon.fees.repository.projection.UtilityServiceKey;
+import com.bluemoon.fees.service.HoKhauService;
+import com.bluemoon.fees.service.HouseholdBalanceService;
 import com.bluemoon.fees.service.UtilityServiceService;
+import com.bluemoon.fees.service.UtilityTariffService;
+import com.bluemoon.fees.utility.TierSchedule;
+import com.bluemoon.fees.utility.UtilityTariffTable;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Slf4j
 public class UtilityServiceServiceImpl implements UtilityServiceService {
     
+    // Rows flushed and cleared from the persistence context at a time during a bulk billing run
+    private static final int BULK_CHUNK_SIZE = 500;
+    // Statements per JDBC batch when writing repriced amounts back
+    private static final int REPRICE_BATCH_SIZE = 1000;
+    
     private final UtilityServiceRepository utilityServiceRepository;
     private final HoKhauRepository hoKhauRepository;
+    private final EntityManager entityManager;
+    private final DomainMetrics domainMetrics;
+    private final HoKhauService hoKhauService;
+    private final HouseholdBalanceService householdBalanceService;
+    private final UtilityTariffService utilityTariffService;
+    private final JdbcTemplate jdbcTemplate;
     
     @Override
     @Transactional(readOnly = true)
@@ -73,61 +112,16 @@ public class UtilityServiceServiceImpl implements UtilityServiceService {
                                      " đã tồn tại cho hộ khẩu này");
         }
         
-        // Validate that new reading is greater than old reading only for water and electricity services
-        if (request.getChiSoCu() != null && request.getChiSoMoi() != null && 
-            ("NUOC".equals(request.getLoaiDichVu()) || "DIEN".equals(request.getLoaiDichVu())) &&
-            request.getChiSoMoi() <= request.getChiSoCu()) {
-            throw new RuntimeException("Chỉ số mới phải lớn hơn chỉ số cũ");
-        }
-          UtilityService utilityService = new UtilityService();
+        validateReadings(request);
+        
+        UtilityService utilityService = new UtilityService();
         utilityService.setHoKhau(hoKhau);
-        utilityService.setLoaiDichVu(request.getLoaiDichVu());
-        utilityService.setThang(request.getThang());
-        utilityService.setNam(request.getNam());
-        utilityService.setChiSoCu(request.getChiSoCu());
-        utilityService.setChiSoMoi(request.getChiSoMoi());
-        utilityService.setDonGia(request.getDonGia());
-        utilityService.setPhiCoDinh(request.getPhiCoDinh());
-        utilityService.setGhiChu(request.getGhiChu());
         utilityService.setTrangThai("CHUA_THANH_TOAN");
-        utilityService.setDonViTinh(request.getDonViTinh());
-          // Calculate total manually before saving
-        Double tongTien = 0.0;
-          // Debug log để kiểm tra giá trị từ request
-        System.out.println("DEBUG - Creating utility service:");
-        System.out.println("  request.getTongTien(): " + request.getTongTien());
-        System.out.println("  request.getSoTien(): " + request.getSoTien());
-        System.out.println("  request.getAmount(): " + request.getAmount());
-        System.out.println("  request.getPhiCoDinh(): " + request.getPhiCoDinh());
-        System.out.println("  request.getDonGia(): " + request.getDonGia());
-        
-        if (request.getAmount() != null && request.getAmount() > 0) {
-            // Nếu có amount từ request thì dùng giá trị đó (nhập thủ công)
-            tongTien = request.getAmount();
-            System.out.println("  Using amount from request: " + tongTien);
-        } else if (request.getPhiCoDinh() != null && request.getPhiCoDinh() > 0) {
-            tongTien = request.getPhiCoDinh();
-            System.out.println("  Using phiCoDinh: " + tongTien);
-        } else if (request.getChiSoCu() != null && request.getChiSoMoi() != null && request.getDonGia() != null) {
-            Double soLuongSuDung = request.getChiSoMoi() - request.getChiSoCu();
-            utilityService.setSoLuongSuDung(soLuongSuDung);
-            tongTien = soLuongSuDung * request.getDonGia();
-            System.out.println("  Calculated from readings: " + tongTien);
-        } else if (request.getDonGia() != null) {
-            // If only donGia is provided, assume quantity is 1
-            tongTien = request.getDonGia();
-            System.out.println("  Using donGia as tongTien: " + tongTien);
-        }
-        
-        System.out.println("  Final tongTien before setting: " + tongTien);
-        utilityService.setTongTien(tongTien);
-        System.out.println("  After setting - utilityService.getTongTien(): " + utilityService.getTongTien());
-          UtilityService savedUtilityService = utilityServiceRepository.save(utilityService);
-        
-        // Debug log để kiểm tra giá trị sau khi save
-        System.out.println("  After save - savedUtilityService.getTongTien(): " + savedUtilityService.getTongTien());
-        System.out.println("  After save - savedUtilityService.getId(): " + savedUtilityService.getId());
+        applyRequest(utilityService, request, utilityTariffService.getTariffTable());
         
+        UtilityService savedUtilityService = utilityServiceRepository.save(utilityService);
+        householdBalanceService.refresh(hoKhau.getId(), savedUtilityService.getThang(), savedUtilityService.getNam());
+        domainMetrics.utilityBillsIssued(1);
         return convertToDTO(savedUtilityService);
     }
     
@@ -147,61 +141,151 @@ public class UtilityServiceServiceImpl implements UtilityServiceService {
                                      " đã tồn tại cho hộ khẩu này");
         }
         
-        // Validate that new reading is greater than old reading only for water and electricity services
-        if (request.getChiSoCu() != null && request.getChiSoMoi() != null && 
-            ("NUOC".equals(request.getLoaiDichVu()) || "DIEN".equals(request.getLoaiDichVu())) &&
-            request.getChiSoMoi() <= request.getChiSoCu()) {
-            throw new RuntimeException("Chỉ số mới phải lớn hơn chỉ số cũ");
-        }        
+        validateReadings(request);
+        
+        // The bill may move to another household or month; both ledger rows change
+        Long oldHoKhauId = existingUtilityService.getHoKhau() != null ? existingUtilityService.getHoKhau().getId() : null;
+        Integer oldThang = existingUtilityService.getThang();
+        Integer oldNam = existingUtilityService.getNam();
+        
         existingUtilityService.setHoKhau(hoKhau);
-        existingUtilityService.setLoaiDichVu(request.getLoaiDichVu());
-        existingUtilityService.setThang(request.getThang());
-        existingUtilityService.setNam(request.getNam());
-        existingUtilityService.setChiSoCu(request.getChiSoCu());
-        existingUtilityService.setChiSoMoi(request.getChiSoMoi());
-        existingUtilityService.setDonGia(request.getDonGia());
-        existingUtilityService.setPhiCoDinh(request.getPhiCoDinh());
-        existingUtilityService.setGhiChu(request.getGhiChu());
-        existingUtilityService.setDonViTinh(request.getDonViTinh());
-          // Calculate total manually before saving
-        Double tongTien = 0.0;
+        applyRequest(existingUtilityService, request, utilityTariffService.getTariffTable());
         
-        // Debug log để kiểm tra giá trị từ request
-        System.out.println("DEBUG - Updating utility service:");
-        System.out.println("  request.getTongTien(): " + request.getTongTien());
-        System.out.println("  request.getSoTien(): " + request.getSoTien());
-        System.out.println("  request.getAmount(): " + request.getAmount());
-        System.out.println("  request.getPhiCoDinh(): " + request.getPhiCoDinh());
-        System.out.println("  request.getDonGia(): " + request.getDonGia());
+        UtilityService updatedUtilityService = utilityServiceRepository.save(existingUtilityService);
+        householdBalanceService.refresh(oldHoKhauId, oldThang, oldNam);
+        householdBalanceService.refresh(hoKhau.getId(), updatedUtilityService.getThang(), updatedUtilityService.getNam());
+        return convertToDTO(updatedUtilityService);
+    }
+    
+    @Override
+    public BulkUtilityServiceResult createUtilityServicesBulk(List<UtilityServiceRequest> requests) {
+        // Pre-fetch everything validation needs: one query for household ids, one per billed month for existing keys
+        Set<Long> householdIds = requests.stream()
+                .map(UtilityServiceRequest::getHoKhauId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> existingHouseholds = householdIds.isEmpty()
+                ? Set.of() : new HashSet<>(hoKhauRepository.findExistingIds(householdIds));
         
-        // Use the getAmount() helper method which prioritizes soTien over tongTien
-        if (request.getAmount() != null && request.getAmount() > 0) {
-            // Nếu có amount từ request thì dùng giá trị đó (nhập thủ công)
-            tongTien = request.getAmount();
-            System.out.println("  Using amount from request: " + tongTien);        } else if (request.getPhiCoDinh() != null && request.getPhiCoDinh() > 0) {
-            tongTien = request.getPhiCoDinh();
-            System.out.println("  Using phiCoDinh: " + tongTien);
-        } else if (request.getChiSoCu() != null && request.getChiSoMoi() != null && request.getDonGia() != null) {
-            Double soLuongSuDung = request.getChiSoMoi() - request.getChiSoCu();
-            existingUtilityService.setSoLuongSuDung(soLuongSuDung);
-            tongTien = soLuongSuDung * request.getDonGia();
-            System.out.println("  Calculated from readings: " + tongTien);
-        } else if (request.getDonGia() != null) {
-            // If only donGia is provided, assume quantity is 1
-            tongTien = request.getDonGia();
-            System.out.println("  Using donGia as tongTien: " + tongTien);
+        Set<String> takenKeys = new HashSet<>();
+        requests.stream()
+                .filter(request -> request.getThang() != null && request.getNam() != null)
+                .map(request -> Arrays.asList(request.getThang(), request.getNam()))
+                .distinct()
+                .forEach(month -> {
+                    for (UtilityServiceKey key : utilityServiceRepository.findKeysByThangAndNam(month.get(0), month.get(1))) {
+                        takenKeys.add(serviceKey(key.getHoKhauId(), key.getLoaiDichVu(), key.getThang(), key.getNam()));
+                    }
+                });
+        
+        List<BulkUtilityServiceResult.RowError> errors = new ArrayList<>();
+        List<UtilityServiceRequest> accepted = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            UtilityServiceRequest request = requests.get(i);
+            String error = validateBulkRow(request, existingHouseholds, takenKeys);
+            if (error != null) {
+                errors.add(new BulkUtilityServiceResult.RowError(i + 1, request.getHoKhauId(), request.getLoaiDichVu(), error));
+            } else {
+                accepted.add(request);
+            }
         }
         
-        System.out.println("  Final tongTien before setting: " + tongTien);
-        existingUtilityService.setTongTien(tongTien);
-        System.out.println("  After setting - existingUtilityService.getTongTien(): " + existingUtilityService.getTongTien());
+        double totalAmount = 0.0;
+        // One snapshot for the whole run, so every row is priced by the same tariff versions
+        UtilityTariffTable tariffs = utilityTariffService.getTariffTable();
+        for (int from = 0; from < accepted.size(); from += BULK_CHUNK_SIZE) {
+            List<UtilityService> chunk = new ArrayList<>();
+            for (UtilityServiceRequest request : accepted.subList(from, Math.min(from + BULK_CHUNK_SIZE, accepted.size()))) {
+                UtilityService utilityService = new UtilityService();
+                utilityService.setHoKhau(hoKhauRepository.getReferenceById(request.getHoKhauId()));
+                utilityService.setTrangThai("CHUA_THANH_TOAN");
+                applyRequest(utilityService, request, tariffs);
+                totalAmount += utilityService.getTongTien();
+                chunk.add(utilityService);
+            }
+            utilityServiceRepository.saveAll(chunk);
+            entityManager.flush();
+            entityManager.clear();
+        }
         
-        UtilityService updatedUtilityService = utilityServiceRepository.save(existingUtilityService);
+        // One ledger upsert per billed month (chunked by household) instead of one per bill
+        accepted.stream()
+                .collect(Collectors.groupingBy(request -> Arrays.asList(request.getThang(), request.getNam()),
+                        Collectors.mapping(UtilityServiceRequest::getHoKhauId, Collectors.toSet())))
+                .forEach((month, households) -> householdBalanceService.refresh(households, month.get(0), month.get(1)));
         
-        // Debug log để kiểm tra giá trị sau khi save
-        System.out.println("  After save - updatedUtilityService.getTongTien(): " + updatedUtilityService.getTongTien());
-        System.out.println("  After save - updatedUtilityService.getId(): " + updatedUtilityService.getId());
-        return convertToDTO(updatedUtilityService);
+        domainMetrics.utilityBillsIssued(accepted.size());
+        log.info("Bulk utility billing: {} received, {} created, {} rejected", requests.size(), accepted.size(), errors.size());
+        return BulkUtilityServiceResult.builder()
+                .received(requests.size())
+                .created(accepted.size())
+                .rejected(errors.size())
+                .totalAmount(totalAmount)
+                .errors(errors)
+                .build();
+    }
+    
+    @Override
+    public BulkUtilityServiceResult importUtilityServicesCsv(InputStream csv, Integer thang, Integer nam) throws IOException {
+        return createUtilityServicesBulk(parseCsv(csv, thang, nam));
+    }
+    
+    @Override
+    public UtilityRepriceResult repriceMonth(Integer thang, Integer nam) {
+        if (thang == null || thang < 1 || thang > 12 || nam == null) {
+            throw new RuntimeException("Tháng/năm không hợp lệ");
+        }
+        UtilityTariffTable tariffs = utilityTariffService.getTariffTable();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> updates = new ArrayList<>();
+        Set<Long> changedHouseholds = new HashSet<>();
+        int priced = 0;
+        double totalAmount = 0.0;
+        for (String loaiDichVu : UtilityTariffService.TIERED_TYPES) {
+            TierSchedule schedule = tariffs.schedule(loaiDichVu, thang, nam);
+            if (schedule == null) {
+                continue;
+            }
+            List<Object[]> rows = utilityServiceRepository.findMeteredReadings(loaiDichVu, thang, nam);
+            double[] quantities = new double[rows.size()];
+            for (int i = 0; i < quantities.length; i++) {
+                quantities[i] = ((Number) rows.get(i)[1]).doubleValue();
+            }
+            double[] amounts = new double[rows.size()];
+            schedule.priceAll(quantities, amounts, quantities.length);
+            
+            for (int i = 0; i < amounts.length; i++) {
+                Object[] row = rows.get(i);
+                totalAmount += amounts[i];
+                if (row[2] == null || ((Number) row[2]).doubleValue() != amounts[i]) {
+                    updates.add(new Object[]{amounts[i], averagePrice(amounts[i], quantities[i]), now, row[0]});
+                    if (row[3] != null) {
+                        changedHouseholds.add((Long) row[3]);
+                    }
+                }
+            }
+            priced += rows.size();
+        }
+        
+        // Only the changed bills are written, in JDBC batches rather than one entity update each
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE utility_service SET tong_tien = ?, don_gia = ?, updated_at = ? WHERE id = ?",
+                    updates, REPRICE_BATCH_SIZE, (statement, update) -> {
+                        statement.setDouble(1, (Double) update[0]);
+                        statement.setDouble(2, (Double) update[1]);
+                        statement.setTimestamp(3, (Timestamp) update[2]);
+                        statement.setLong(4, (Long) update[3]);
+                    });
+            householdBalanceService.refresh(changedHouseholds, thang, nam);
+        }
+        log.info("Utility repricing {}/{}: {} bills priced, {} updated", thang, nam, priced, updates.size());
+        return UtilityRepriceResult.builder()
+                .thang(thang)
+                .nam(nam)
+                .priced(priced)
+                .updated(updates.size())
+                .totalAmount(totalAmount)
+                .build();
     }
     
     @Override
@@ -215,6 +299,7 @@ public class UtilityServiceServiceImpl implements UtilityServiceService {
         }
         
         utilityServiceRepository.delete(utilityService);
+        householdBalanceService.refresh(utilityService.getHoKhau().getId(), utilityService.getThang(), utilityService.getNam());
     }
     
     @Override
@@ -254,6 +339,7 @@ public class UtilityServiceServiceImpl implements UtilityServiceService {
         
         utilityService.setTrangThai("DA_THANH_TOAN");
         utilityServiceRepository.save(utilityService);
+        householdBalanceService.refresh(utilityService.getHoKhau().getId(), utilityService.getThang(), utilityService.getNam());
     }
     
     @Override
@@ -263,7 +349,211 @@ public class UtilityServiceServiceImpl implements UtilityServiceService {
         
         utilityService.setTrangThai("CHUA_THANH_TOAN");
         utilityServiceRepository.save(utilityService);
+        householdBalanceService.refresh(utilityService.getHoKhau().getId(), utilityService.getThang(), utilityService.getNam());
     }
+    
+    // Validate that new reading is greater than old reading only for water and electricity services
+    private String readingsError(UtilityServiceRequest request) {
+        if (request.getChiSoCu() != null && request.getChiSoMoi() != null &&
+            ("NUOC".equals(request.getLoaiDichVu()) || "DIEN".equals(request.getLoaiDichVu())) &&
+            request.getChiSoMoi() <= request.getChiSoCu()) {
+            return "Chỉ số mới phải lớn hơn chỉ số cũ";
+        }
+        return null;
+    }
+    
+    private void validateReadings(UtilityServiceRequest request) {
+        String error = readingsError(request);
+        if (error != null) {
+            throw new RuntimeException(error);
+        }
+    }
+    
+    // Copies the request onto the entity and works out tongTien, shared by single and bulk creation.
+    // DIEN/NUOC readings are priced by the tariff version of the billing month; donGia then holds the average rate.
+    private void applyRequest(UtilityService utilityService, UtilityServiceRequest request, UtilityTariffTable tariffs) {
+        utilityService.setLoaiDichVu(request.getLoaiDichVu());
+        utilityService.setThang(request.getThang());
+        utilityService.setNam(request.getNam());
+        utilityService.setChiSoCu(request.getChiSoCu());
+        utilityService.setChiSoMoi(request.getChiSoMoi());
+        utilityService.setDonGia(request.getDonGia());
+        utilityService.setPhiCoDinh(request.getPhiCoDinh());
+        utilityService.setGhiChu(request.getGhiChu());
+        utilityService.setDonViTinh(request.getDonViTinh());
+        utilityService.setSoLuongSuDung(null);
+        utilityService.setTheoBieuGia(false);
+        TierSchedule schedule = tieredSchedule(request, tariffs);
+        
+        Double tongTien = 0.0;
+        if (request.getAmount() != null && request.getAmount() > 0) {
+            // Nếu có amount từ request thì dùng giá trị đó (nhập thủ công)
+            tongTien = request.getAmount();
+        } else if (request.getPhiCoDinh() != null && request.getPhiCoDinh() > 0) {
+            tongTien = request.getPhiCoDinh();
+        } else if (request.getChiSoCu() != null && request.getChiSoMoi() != null
+                && (request.getDonGia() != null || schedule != null)) {
+            Double soLuongSuDung = request.getChiSoMoi() - request.getChiSoCu();
+            utilityService.setSoLuongSuDung(soLuongSuDung);
+            if (schedule != null) {
+                tongTien = schedule.price(soLuongSuDung);
+                utilityService.setDonGia(averagePrice(tongTien, soLuongSuDung));
+                utilityService.setTheoBieuGia(true);
+            } else {
+                tongTien = soLuongSuDung * request.getDonGia();
+            }
+        } else if (request.getDonGia() != null) {
+            // If only donGia is provided, assume quantity is 1
+            tongTien = request.getDonGia();
+        }
+        utilityService.setTongTien(tongTien);
+    }
+    
+    private static TierSchedule tieredSchedule(UtilityServiceRequest request, UtilityTariffTable tariffs) {
+        if (request.getThang() == null || request.getNam() == null || request.getThang() < 1 || request.getThang() > 12
+                || !UtilityTariffService.TIERED_TYPES.contains(request.getLoaiDichVu())) {
+            return null;
+        }
+        return tariffs.schedule(request.getLoaiDichVu(), request.getThang(), request.getNam());
+    }
+    
+    private static double averagePrice(double amount, double quantity) {
+        return quantity > 0 ? amount / quantity : 0.0;
+    }
+    
+    private String validateBulkRow(UtilityServiceRequest request, Set<Long> existingHouseholds, Set<String> takenKeys) {
+        if (request.getHoKhauId() == null) {
+            return "ID hộ khẩu không được để trống";
+        }
+        if (request.getLoaiDichVu() == null || request.getLoaiDichVu().isBlank()) {
+            return "Loại dịch vụ không được để trống";
+        }
+        if (request.getThang() == null || request.getThang() < 1 || request.getThang() > 12) {
+            return "Tháng phải từ 1-12";
+        }
+        if (request.getNam() == null) {
+            return "Năm không được để trống";
+        }
+        if (!existingHouseholds.contains(request.getHoKhauId())) {
+            return "Không tìm thấy hộ khẩu với ID: " + request.getHoKhauId();
+        }
+        String readingsError = readingsError(request);
+        if (readingsError != null) {
+            return readingsError;
+        }
+        // Also catches the same key appearing twice in one upload
+        if (!takenKeys.add(serviceKey(request.getHoKhauId(), request.getLoaiDichVu(), request.getThang(), request.getNam()))) {
+            return "Dịch vụ " + request.getLoaiDichVu() + " cho tháng " + request.getThang() + "/" + request.getNam() +
+                   " đã tồn tại cho hộ khẩu này";
+        }
+        return null;
+    }
+    
+    private static String serviceKey(Long hoKhauId, String loaiDichVu, Integer thang, Integer nam) {
+        return hoKhauId + "|" + loaiDichVu + "|" + thang + "|" + nam;
+    }
+    
+    // CSV with a header row naming UtilityServiceRequest fields (hoKhauId, loaiDichVu, thang, nam, chiSoCu, ...);
+    // thang/nam columns may be omitted when given as parameters
+    private static List<UtilityServiceRequest> parseCsv(InputStream csv, Integer thang, Integer nam) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            return List.of();
+        }
+        if (headerLine.startsWith("\uFEFF")) {
+            headerLine = headerLine.substring(1);
+        }
+        List<String> header = splitCsvLine(headerLine);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        
+        List<UtilityServiceRequest> requests = new ArrayList<>();
+        String line;
+        int lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> values = splitCsvLine(line);
+            try {
+                UtilityServiceRequest request = new UtilityServiceRequest();
+                request.setHoKhauId(csvLong(values, columns, "hoKhauId"));
+                request.setLoaiDichVu(csvString(values, columns, "loaiDichVu"));
+                Integer rowThang = csvInteger(values, columns, "thang");
+                Integer rowNam = csvInteger(values, columns, "nam");
+                request.setThang(rowThang != null ? rowThang : thang);
+                request.setNam(rowNam != null ? rowNam : nam);
+                request.setChiSoCu(csvDouble(values, columns, "chiSoCu"));
+                request.setChiSoMoi(csvDouble(values, columns, "chiSoMoi"));
+                request.setDonGia(csvDouble(values, columns, "donGia"));
+                request.setPhiCoDinh(csvDouble(values, columns, "phiCoDinh"));
+                request.setTongTien(csvDouble(values, columns, "tongTien"));
+                request.setDonViTinh(csvString(values, columns, "donViTinh"));
+                request.setGhiChu(csvString(values, columns, "ghiChu"));
+                requests.add(request);
+            } catch (NumberFormatException e) {
+                throw new RuntimeException("Dòng " + lineNumber + " của file CSV có giá trị số không hợp lệ: " + e.getMessage());
+            }
+        }
+        return requests;
+    }
+    
+    private static List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+    
+    private static String csvString(List<String> values, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+    
+    private static Long csvLong(List<String> values, Map<String, Integer> columns, String name) {
+        String value = csvString(values, columns, name);
+        return value != null ? Long.valueOf(value) : null;
+    }
+    
+    private static Integer csvInteger(List<String> values, Map<String, Integer> columns, String name) {
+        String value = csvString(values, columns, name);
+        return value != null ? Integer.valueOf(value) : null;
+    }
+    
+    private static Double csvDouble(List<String> values, Map<String, Integer> columns, String name) {
+        String value = csvString(values, columns, name);
+        return value != null ? Double.valueOf(value) : null;
+    }
+    
       private UtilityServiceDTO convertToDTO(UtilityService utilityService) {
         UtilityServiceDTO dto = new UtilityServiceDTO();
         dto.setId(utilityService.getId());
@@ -282,10 +572,11 @@ public class UtilityServiceServiceImpl implements UtilityServiceService {
         dto.setGhiChu(utilityService.getGhiChu());
         dto.setDonViTinh(utilityService.getDonViTinh());
         
-        // Set household information if available
+        // Set household information if available (getId() on the lazy proxy does not load it; names come from the cache)
         if (utilityService.getHoKhau() != null) {
-            dto.setSoHoKhau(utilityService.getHoKhau().getSoHoKhau());
-            dto.setChuHo(utilityService.getHoKhau().getChuHo());
+            HoKhauSummary hoKhau = hoKhauService.getSummary(utilityService.getHoKhau().getId());
+            dto.setSoHoKhau(hoKhau.getSoHoKhau());
+            dto.setChuHo(hoKhau.getChuHo());
         }
         
         return dto;
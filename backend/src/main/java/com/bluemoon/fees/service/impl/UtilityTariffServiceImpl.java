@@ -0,0 +1,81 @@
+package com.bluemoon.fees.service.impl;
+
+import com.bluemoon.fees.dto.UtilityTariffRequest;
+import com.bluemoon.fees.entity.UtilityTariffTier;
+import com.bluemoon.fees.repository.UtilityTariffTierRepository;
+import com.bluemoon.fees.service.UtilityTariffService;
+import com.bluemoon.fees.utility.UtilityTariffTable;
+import com.bluemoon.fees.utility.UtilityTariffsChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tiered utility tariffs held as an in-memory {@link UtilityTariffTable} of compiled versions, so pricing a reading
+ * never queries the tariff table. Like the parking tariffs, the snapshot is loaded on first use and rebuilt after a
+ * version is committed on this instance.
+ */
+@Service
+@RequiredArgsConstructor
+public class UtilityTariffServiceImpl implements UtilityTariffService {
+
+    private final UtilityTariffTierRepository tierRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ReloadableSnapshot<UtilityTariffTable> table = new ReloadableSnapshot<>(this::load);
+
+    @Override
+    public UtilityTariffTable getTariffTable() {
+        return table.get();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UtilityTariffTier> findAll() {
+        return tierRepository.findAllByOrderByLoaiDichVuAscHieuLucTuAscBacAsc();
+    }
+
+    @Override
+    @Transactional
+    public List<UtilityTariffTier> createVersion(UtilityTariffRequest request) {
+        if (!TIERED_TYPES.contains(request.getLoaiDichVu())) {
+            throw new RuntimeException("Biểu giá bậc thang chỉ áp dụng cho " + String.join(", ", TIERED_TYPES));
+        }
+        if (tierRepository.existsByLoaiDichVuAndHieuLucTu(request.getLoaiDichVu(), request.getHieuLucTu())) {
+            throw new RuntimeException("Đã có biểu giá " + request.getLoaiDichVu() + " từ ngày " + request.getHieuLucTu());
+        }
+        List<UtilityTariffRequest.Tier> tiers = request.getTiers();
+        List<UtilityTariffTier> version = new ArrayList<>(tiers.size());
+        double previousLimit = 0.0;
+        for (int i = 0; i < tiers.size(); i++) {
+            UtilityTariffRequest.Tier tier = tiers.get(i);
+            boolean last = i == tiers.size() - 1;
+            if (tier.getDonGia() == null || tier.getDonGia() < 0) {
+                throw new RuntimeException("Đơn giá bậc " + (i + 1) + " không hợp lệ");
+            }
+            if (!last && (tier.getGioiHan() == null || tier.getGioiHan() <= previousLimit)) {
+                throw new RuntimeException("Giới hạn bậc " + (i + 1) + " phải lớn hơn giới hạn bậc trước");
+            }
+            version.add(new UtilityTariffTier(null, request.getLoaiDichVu(), request.getHieuLucTu(), i + 1,
+                    last ? null : tier.getGioiHan(), tier.getDonGia()));
+            previousLimit = last ? previousLimit : tier.getGioiHan();
+        }
+        List<UtilityTariffTier> saved = tierRepository.saveAll(version);
+        eventPublisher.publishEvent(new UtilityTariffsChangedEvent());
+        return saved;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTariffsChanged(UtilityTariffsChangedEvent event) {
+        table.reload();
+    }
+
+    private UtilityTariffTable load() {
+        return new UtilityTariffTable(tierRepository.findAllByOrderByLoaiDichVuAscHieuLucTuAscBacAsc());
+    }
+}
@@ -1,18 +1,32 @@
 package com.bluemoon.fees.service.impl;
 
+import com.bluemoon.fees.dto.HoKhauSummary;
+import com.bluemoon.fees.dto.HouseholdParkingFeeDTO;
+import com.bluemoon.fees.dto.PageResponse;
 import com.bluemoon.fees.dto.VehicleDTO;
 import com.bluemoon.fees.dto.VehicleRequest;
 import com.bluemoon.fees.dto.HouseholdVehicleFeeDTO;
 import com.bluemoon.fees.entity.HoKhau;
 import com.bluemoon.fees.entity.Vehicle;
+import com.bluemoon.fees.entity.VehicleType;
+import com.bluemoon.fees.parking.ParkingTariffTable;
 import com.bluemoon.fees.repository.HoKhauRepository;
 import com.bluemoon.fees.repository.VehicleRepository;
+import com.bluemoon.fees.repository.projection.HouseholdVehicleCount;
+import com.bluemoon.fees.repository.projection.VehicleTypeCount;
+import com.bluemoon.fees.service.HoKhauService;
+import com.bluemoon.fees.service.ParkingTariffService;
 import com.bluemoon.fees.service.VehicleService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,10 +36,9 @@ public class VehicleServiceImpl implements VehicleService {
     
     private final VehicleRepository vehicleRepository;
     private final HoKhauRepository hoKhauRepository;
-    
-    // Vehicle type fees (VND per month)
-    private static final double XE_MAY_FEE = 70000.0;  // Motorcycle: 70,000 VND/month
-    private static final double OTO_FEE = 1200000.0;   // Car: 1,200,000 VND/month
+    private final HoKhauService hoKhauService;
+    // Vehicle type fees (VND per month), configurable per type and effective date
+    private final ParkingTariffService parkingTariffService;
     
     @Override
     @Transactional(readOnly = true)
@@ -35,6 +48,15 @@ public class VehicleServiceImpl implements VehicleService {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<VehicleDTO> getVehiclesPage(Long afterId, Pageable pageable) {
+        PageResponse<Vehicle> page = afterId != null
+                ? PageResponse.of(vehicleRepository.findByIdGreaterThan(afterId, PageResponse.keysetRequest(pageable)), Vehicle::getId)
+                : PageResponse.of(vehicleRepository.findPageWithHoKhau(pageable), Vehicle::getId);
+        return page.map(this::convertToDTO);
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<VehicleDTO> getVehiclesByHoKhauId(Long hoKhauId) {
@@ -123,24 +145,49 @@ public class VehicleServiceImpl implements VehicleService {
     @Override
     @Transactional(readOnly = true)
     public double calculateMonthlyParkingFee(Long hoKhauId) {
-        List<Vehicle> vehicles = vehicleRepository.findByHoKhauId(hoKhauId);
-        double totalFee = 0.0;
-        
-        for (Vehicle vehicle : vehicles) {
-            if ("XE_MAY".equals(vehicle.getLoaiXe())) {
-                totalFee += XE_MAY_FEE;
-            } else if ("OTO".equals(vehicle.getLoaiXe())) {
-                totalFee += OTO_FEE;
+        Map<String, Long> counts = new HashMap<>();
+        for (VehicleTypeCount count : vehicleRepository.countByTypeForHoKhau(hoKhauId)) {
+            counts.put(count.getLoaiXe(), count.getSoLuong());
+        }
+        return parkingTariffService.getTariffTable().fee(counts, LocalDate.now());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<HouseholdParkingFeeDTO> calculateAllMonthlyParkingFees(LocalDate date) {
+        ParkingTariffTable tariffs = parkingTariffService.getTariffTable();
+        List<HouseholdParkingFeeDTO> fees = new ArrayList<>();
+        HouseholdParkingFeeDTO current = null;
+        // Rows arrive ordered by household, one per vehicle type it holds
+        for (HouseholdVehicleCount row : vehicleRepository.countByTypeForAllHoKhau()) {
+            if (current == null || !current.getHoKhauId().equals(row.getHoKhauId())) {
+                current = new HouseholdParkingFeeDTO(row.getHoKhauId(), row.getSoHoKhau(), row.getChuHo(), 0, 0, 0, 0.0);
+                fees.add(current);
             }
+            if (row.getLoaiXe() == null) {
+                continue;
+            }
+            current.setTotalVehicleCount(current.getTotalVehicleCount() + row.getSoLuong());
+            if (VehicleType.XE_MAY.name().equals(row.getLoaiXe())) {
+                current.setMotorcycleCount(row.getSoLuong());
+            } else if (VehicleType.OTO.name().equals(row.getLoaiXe())) {
+                current.setCarCount(row.getSoLuong());
+            }
+            current.setMonthlyParkingFee(current.getMonthlyParkingFee() + tariffs.rate(row.getLoaiXe(), date) * row.getSoLuong());
         }
-        
-        return totalFee;
+        return fees;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long countVehicles() {
+        return vehicleRepository.count();
     }
     
     @Override
     @Transactional(readOnly = true)
     public long countVehiclesByType(String loaiXe) {
-        return vehicleRepository.findByLoaiXe(loaiXe).size();
+        return vehicleRepository.countByLoaiXe(loaiXe);
     }
     
     @Override
@@ -161,11 +208,10 @@ public class VehicleServiceImpl implements VehicleService {
         for (VehicleDTO vehicle : vehicles) {
             if ("XE_MAY".equals(vehicle.getLoaiXe())) {
                 motorcycleCount++;
-                totalFee += XE_MAY_FEE;
             } else if ("OTO".equals(vehicle.getLoaiXe())) {
                 carCount++;
-                totalFee += OTO_FEE;
             }
+            totalFee += vehicle.getMonthlyFee();
         }
         
         return new HouseholdVehicleFeeDTO(
@@ -192,20 +238,15 @@ public class VehicleServiceImpl implements VehicleService {
         dto.setGhiChu(vehicle.getGhiChu());
         dto.setHoKhauId(vehicle.getHoKhauId());
         
-        // Set household information if available
-        if (vehicle.getHoKhau() != null) {
-            dto.setSoHoKhau(vehicle.getHoKhau().getSoHoKhau());
-            dto.setChuHo(vehicle.getHoKhau().getChuHo());
+        // Set household information if available (cached, so the lazy association is not loaded per row)
+        if (vehicle.getHoKhauId() != null) {
+            HoKhauSummary hoKhau = hoKhauService.getSummary(vehicle.getHoKhauId());
+            dto.setSoHoKhau(hoKhau.getSoHoKhau());
+            dto.setChuHo(hoKhau.getChuHo());
         }
         
-        // Calculate monthly fee based on vehicle type
-        if ("XE_MAY".equals(vehicle.getLoaiXe())) {
-            dto.setMonthlyFee(XE_MAY_FEE);
-        } else if ("OTO".equals(vehicle.getLoaiXe())) {
-            dto.setMonthlyFee(OTO_FEE);
-        } else {
-            dto.setMonthlyFee(0.0);
-        }
+        // Calculate monthly fee based on vehicle type (current rate; unknown types are free)
+        dto.setMonthlyFee(parkingTariffService.getTariffTable().rate(vehicle.getLoaiXe(), LocalDate.now()));
         
         return dto;
     }
@@ -0,0 +1,46 @@
+package com.bluemoon.fees.utility;
+
+import java.util.Arrays;
+
+/**
+ * One tariff version compiled into primitive arrays: tier i covers consumption up to {@code upper[i]} at
+ * {@code rates[i]} per unit, and {@code base[i]} is the cost of everything below it. Pricing is a short scan over
+ * at most a handful of tiers with no allocation. Amounts are rounded to whole đồng.
+ */
+public final class TierSchedule {
+
+    private final double[] upper;
+    private final double[] rates;
+    private final double[] base;
+
+    // limits: cumulative upper bound per tier, the last one Double.POSITIVE_INFINITY
+    public TierSchedule(double[] limits, double[] rates) {
+        if (limits.length == 0 || limits.length != rates.length) {
+            throw new IllegalArgumentException("A tariff needs one rate per tier");
+        }
+        this.upper = Arrays.copyOf(limits, limits.length);
+        this.rates = Arrays.copyOf(rates, rates.length);
+        this.base = new double[limits.length];
+        for (int i = 1; i < limits.length; i++) {
+            base[i] = base[i - 1] + (upper[i - 1] - (i > 1 ? upper[i - 2] : 0.0)) * rates[i - 1];
+        }
+    }
+
+    public double price(double quantity) {
+        if (!(quantity > 0)) {
+            return 0.0;
+        }
+        int i = 0;
+        while (quantity > upper[i]) {
+            i++;
+        }
+        return Math.round(base[i] + (quantity - (i > 0 ? upper[i - 1] : 0.0)) * rates[i]);
+    }
+
+    // Prices quantities[0..count) into amounts[0..count)
+    public void priceAll(double[] quantities, double[] amounts, int count) {
+        for (int k = 0; k < count; k++) {
+            amounts[k] = price(quantities[k]);
+        }
+    }
+}
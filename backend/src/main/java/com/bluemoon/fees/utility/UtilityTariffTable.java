@@ -0,0 +1,57 @@
+package com.bluemoon.fees.utility;
+
+import com.bluemoon.fees.entity.UtilityTariffTier;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable snapshot of the tiered utility tariffs: for each service type, its compiled versions keyed by effective
+ * date. A billing month is priced by the version in effect on its first day.
+ */
+public final class UtilityTariffTable {
+
+    private final Map<String, NavigableMap<LocalDate, TierSchedule>> versions;
+
+    // tiers must be ordered by loaiDichVu, hieuLucTu and bac
+    public UtilityTariffTable(List<UtilityTariffTier> tiers) {
+        Map<String, NavigableMap<LocalDate, TierSchedule>> byType = new HashMap<>();
+        int from = 0;
+        while (from < tiers.size()) {
+            UtilityTariffTier first = tiers.get(from);
+            int to = from;
+            List<UtilityTariffTier> version = new ArrayList<>();
+            while (to < tiers.size() && tiers.get(to).getLoaiDichVu().equals(first.getLoaiDichVu())
+                    && tiers.get(to).getHieuLucTu().equals(first.getHieuLucTu())) {
+                version.add(tiers.get(to++));
+            }
+            byType.computeIfAbsent(first.getLoaiDichVu(), type -> new TreeMap<>()).put(first.getHieuLucTu(), compile(version));
+            from = to;
+        }
+        this.versions = Map.copyOf(byType);
+    }
+
+    // The version in effect for a billing month, or null when the type has none (priced at a flat rate instead)
+    public TierSchedule schedule(String loaiDichVu, int thang, int nam) {
+        NavigableMap<LocalDate, TierSchedule> byDate = loaiDichVu != null ? versions.get(loaiDichVu) : null;
+        Map.Entry<LocalDate, TierSchedule> effective = byDate != null ? byDate.floorEntry(LocalDate.of(nam, thang, 1)) : null;
+        return effective != null ? effective.getValue() : null;
+    }
+
+    private static TierSchedule compile(List<UtilityTariffTier> version) {
+        double[] limits = new double[version.size()];
+        double[] rates = new double[version.size()];
+        for (int i = 0; i < version.size(); i++) {
+            UtilityTariffTier tier = version.get(i);
+            // The last tier is open-ended whatever its stored bound
+            limits[i] = i == version.size() - 1 || tier.getGioiHan() == null ? Double.POSITIVE_INFINITY : tier.getGioiHan();
+            rates[i] = tier.getDonGia();
+        }
+        return new TierSchedule(limits, rates);
+    }
+}
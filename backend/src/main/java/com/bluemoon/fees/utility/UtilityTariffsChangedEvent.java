@@ -0,0 +1,7 @@
+package com.bluemoon.fees.utility;
+
+/**
+ * Published when a utility tariff version is added; the in-memory tariff table is reloaded after commit.
+ */
+public class UtilityTariffsChangedEvent {
+}
@@ -0,0 +1,24 @@
+-- Tiered DIEN/NUOC tariffs: the tiers sharing (loai_dich_vu, hieu_luc_tu) form one version.
+-- Seeded with the residential rates (VND per kWh / per m3, before VAT): EVN retail electricity and Hanoi clean water.
+CREATE TABLE utility_tariff_tier (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    loai_dich_vu VARCHAR(20) NOT NULL,
+    hieu_luc_tu DATE NOT NULL,
+    bac INT NOT NULL,
+    gioi_han DOUBLE,
+    don_gia DOUBLE NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_utility_tariff_tier_loai_hieu_luc_bac UNIQUE (loai_dich_vu, hieu_luc_tu, bac)
+) ENGINE=InnoDB;
+
+INSERT INTO utility_tariff_tier (loai_dich_vu, hieu_luc_tu, bac, gioi_han, don_gia) VALUES
+    ('DIEN', '2000-01-01', 1, 50, 1984),
+    ('DIEN', '2000-01-01', 2, 100, 2050),
+    ('DIEN', '2000-01-01', 3, 200, 2380),
+    ('DIEN', '2000-01-01', 4, 300, 2998),
+    ('DIEN', '2000-01-01', 5, 400, 3350),
+    ('DIEN', '2000-01-01', 6, NULL, 3460),
+    ('NUOC', '2000-01-01', 1, 10, 5973),
+    ('NUOC', '2000-01-01', 2, 20, 7052),
+    ('NUOC', '2000-01-01', 3, 30, 8669),
+    ('NUOC', '2000-01-01', 4, NULL, 15929);
@@ -0,0 +1,13 @@
+-- Fee levy obligations, one per household and fee; nop_phi keeps only real payments.
+CREATE TABLE fee_obligation (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    ho_khau_id BIGINT NOT NULL,
+    khoan_thu_id BIGINT NOT NULL,
+    so_tien DOUBLE NOT NULL,
+    ngay_phat_sinh DATE NOT NULL,
+    nop_phi_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_fee_obligation_khoan_thu_ho_khau UNIQUE (khoan_thu_id, ho_khau_id),
+    INDEX idx_fee_obligation_ho_khau (ho_khau_id),
+    INDEX idx_fee_obligation_nop_phi (nop_phi_id)
+) ENGINE=InnoDB;
@@ -0,0 +1,34 @@
+-- Rebuilds the ledger with each household and fee booked once, in the month it is charged (levy obligation, or else
+-- the first payment), together with all of its verified payments, instead of once per payment row by ngay_nop.
+DELETE FROM household_balance;
+
+INSERT INTO household_balance (ho_khau_id, thang, nam, utility_charged, utility_paid, fee_charged, fee_paid,
+                               unpaid_bills, outstanding, updated_at)
+SELECT k.ho_khau_id, k.thang, k.nam,
+       SUM(k.utility_charged), SUM(k.utility_paid), SUM(k.fee_charged), SUM(k.fee_paid), SUM(k.unpaid_bills),
+       SUM(k.utility_charged - k.utility_paid + k.fee_charged - k.fee_paid), NOW(6)
+FROM (
+    SELECT s.ho_khau_id, s.thang, s.nam, s.tong_tien AS utility_charged, 0.0 AS utility_paid,
+           0.0 AS fee_charged, 0.0 AS fee_paid,
+           CASE WHEN s.trang_thai = 'CHUA_THANH_TOAN' THEN 1 ELSE 0 END AS unpaid_bills
+    FROM utility_service s
+    UNION ALL
+    SELECT p.ho_khau_id, p.thang, p.nam, 0.0, COALESCE(p.so_tien_thanh_toan, 0), 0.0, 0.0, 0
+    FROM utility_payment p
+    WHERE p.trang_thai = 'THANH_CONG'
+    UNION ALL
+    SELECT o.ho_khau_id, MONTH(o.ngay_phat_sinh), YEAR(o.ngay_phat_sinh), 0.0, 0.0, o.so_tien,
+           COALESCE((SELECT SUM(p.so_tien) FROM nop_phi p
+                     WHERE p.ho_khau_id = o.ho_khau_id AND p.khoan_thu_id = o.khoan_thu_id AND p.da_xac_nhan = true), 0), 0
+    FROM fee_obligation o
+    UNION ALL
+    SELECT n.ho_khau_id, MONTH(n.ngay_nop), YEAR(n.ngay_nop), 0.0, 0.0, COALESCE(n.tong_tien, 0),
+           COALESCE((SELECT SUM(p.so_tien) FROM nop_phi p
+                     WHERE p.ho_khau_id = n.ho_khau_id AND p.khoan_thu_id = n.khoan_thu_id AND p.da_xac_nhan = true), 0), 0
+    FROM nop_phi n
+    WHERE n.ngay_nop IS NOT NULL
+      AND n.id = (SELECT MIN(f.id) FROM nop_phi f WHERE f.ho_khau_id = n.ho_khau_id AND f.khoan_thu_id = n.khoan_thu_id)
+      AND NOT EXISTS (SELECT 1 FROM fee_obligation o WHERE o.ho_khau_id = n.ho_khau_id AND o.khoan_thu_id = n.khoan_thu_id)
+) k
+JOIN ho_khau h ON h.id = k.ho_khau_id
+GROUP BY k.ho_khau_id, k.thang, k.nam;
@@ -0,0 +1,3 @@
+-- Marks utility bills whose tong_tien was computed by the tiered tariff; only these are repriced.
+-- Existing rows stay unmarked, so amounts entered by hand are never overwritten.
+ALTER TABLE utility_service ADD COLUMN theo_bieu_gia BIT NOT NULL DEFAULT 0;
@@ -0,0 +1,8 @@
+-- Cluster-wide guards for background jobs: the instance running a job holds its row FOR UPDATE.
+CREATE TABLE job_lock (
+    job_name VARCHAR(64) NOT NULL,
+    locked_at DATETIME(6),
+    PRIMARY KEY (job_name)
+) ENGINE=InnoDB;
+
+INSERT INTO job_lock (job_name) VALUES ('overdue-fee-snapshot');
@@ -0,0 +1,173 @@
+-- Baseline schema, matching the JPA entities as of the move to Flyway.
+-- Databases created earlier by Hibernate are baselined at this version and skip this script.
+
+CREATE TABLE ho_khau (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    so_ho_khau VARCHAR(255) NOT NULL,
+    chu_ho VARCHAR(255) NOT NULL,
+    so_thanh_vien INT NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    so_dien_thoai VARCHAR(255),
+    email VARCHAR(255),
+    so_nha VARCHAR(255),
+    duong VARCHAR(255),
+    phuong VARCHAR(255),
+    quan VARCHAR(255),
+    ngay_lam_ho_khau DATE,
+    hoat_dong BIT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_ho_khau_so_ho_khau UNIQUE (so_ho_khau)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE khoan_thu (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    ten_khoan_thu VARCHAR(255) NOT NULL,
+    bat_buoc BIT NOT NULL,
+    so_tien DOUBLE NOT NULL,
+    thoi_han DATE NOT NULL,
+    ngay_tao DATE NOT NULL,
+    ghi_chu VARCHAR(255),
+    hoat_dong BIT NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE nhan_khau (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    ho_ten VARCHAR(255) NOT NULL,
+    ngay_sinh DATE NOT NULL,
+    gioi_tinh VARCHAR(255) NOT NULL,
+    dan_toc VARCHAR(255),
+    ton_giao VARCHAR(255),
+    nghe_nghiep VARCHAR(255),
+    cccd VARCHAR(255),
+    ngay_cap DATE,
+    noi_cap VARCHAR(255),
+    quan_he_voi_chu_ho VARCHAR(255),
+    ngay_them_nhan_khau DATE NOT NULL,
+    ghi_chu VARCHAR(255),
+    ho_khau_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_nhan_khau_ho_khau FOREIGN KEY (ho_khau_id) REFERENCES ho_khau (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE lich_su_ho_khau (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    ho_khau_id BIGINT NOT NULL,
+    nhan_khau_id BIGINT NOT NULL,
+    loai_thay_doi ENUM('TAM_TRU','TAM_VANG','THEM_NHAN_KHAU','XOA_NHAN_KHAU') NOT NULL,
+    thoi_gian DATE NOT NULL,
+    ghi_chu VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_lich_su_ho_khau_ho_khau FOREIGN KEY (ho_khau_id) REFERENCES ho_khau (id),
+    CONSTRAINT fk_lich_su_ho_khau_nhan_khau FOREIGN KEY (nhan_khau_id) REFERENCES nhan_khau (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE tam_tru_tam_vang (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    nhan_khau_id BIGINT NOT NULL,
+    trang_thai ENUM('TAM_TRU','TAM_VANG') NOT NULL,
+    dia_chi_tam_tru_tam_vang VARCHAR(255) NOT NULL,
+    thoi_gian DATE NOT NULL,
+    noi_dung_de_nghi VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_tam_tru_tam_vang_nhan_khau FOREIGN KEY (nhan_khau_id) REFERENCES nhan_khau (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE nop_phi (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    ho_khau_id BIGINT NOT NULL,
+    khoan_thu_id BIGINT NOT NULL,
+    nguoi_nop VARCHAR(255),
+    ngay_nop DATE NOT NULL,
+    tong_tien DOUBLE NOT NULL,
+    so_tien DOUBLE NOT NULL,
+    da_xac_nhan BIT NOT NULL,
+    ghi_chu VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_nop_phi_ho_khau FOREIGN KEY (ho_khau_id) REFERENCES ho_khau (id),
+    CONSTRAINT fk_nop_phi_khoan_thu FOREIGN KEY (khoan_thu_id) REFERENCES khoan_thu (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    username VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    vai_tro VARCHAR(255) NOT NULL,
+    email VARCHAR(255),
+    full_name VARCHAR(255),
+    enabled BIT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE notifications (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    title VARCHAR(255) NOT NULL,
+    message VARCHAR(1000) NOT NULL,
+    is_read BIT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    user_id BIGINT,
+    entity_type ENUM('FEE','HOUSEHOLD','PAYMENT') NOT NULL,
+    entity_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_notifications_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE utility_service (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    ho_khau_id BIGINT,
+    loai_dich_vu VARCHAR(255) NOT NULL,
+    thang INT NOT NULL,
+    nam INT NOT NULL,
+    chi_so_cu DOUBLE,
+    chi_so_moi DOUBLE,
+    so_luong_su_dung DOUBLE,
+    don_gia DOUBLE,
+    phi_co_dinh DOUBLE,
+    tong_tien DOUBLE NOT NULL,
+    don_vi_tinh VARCHAR(255),
+    ngay_ghi_nhan DATETIME(6),
+    trang_thai VARCHAR(255),
+    ghi_chu VARCHAR(255),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_utility_service_ho_khau FOREIGN KEY (ho_khau_id) REFERENCES ho_khau (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE utility_payment (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    ho_khau_id BIGINT NOT NULL,
+    thang INT NOT NULL,
+    nam INT NOT NULL,
+    so_tien_thanh_toan DOUBLE NOT NULL,
+    phi_gui_xe DOUBLE,
+    phi_dich_vu DOUBLE,
+    ngay_thanh_toan DATE NOT NULL,
+    phuong_thuc_thanh_toan VARCHAR(255) NOT NULL,
+    ma_giao_dich VARCHAR(255),
+    nguoi_thu VARCHAR(255),
+    ghi_chu VARCHAR(255),
+    trang_thai VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_utility_payment_ho_khau FOREIGN KEY (ho_khau_id) REFERENCES ho_khau (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+CREATE TABLE vehicle (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    bien_so_xe VARCHAR(255) NOT NULL,
+    loai_xe VARCHAR(255) NOT NULL,
+    hang_xe VARCHAR(255),
+    mau_xe VARCHAR(255),
+    nam_san_xuat INT,
+    mau_sac VARCHAR(255),
+    ghi_chu VARCHAR(255),
+    ho_khau_id BIGINT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_vehicle_bien_so_xe UNIQUE (bien_so_xe),
+    CONSTRAINT fk_vehicle_ho_khau FOREIGN KEY (ho_khau_id) REFERENCES ho_khau (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
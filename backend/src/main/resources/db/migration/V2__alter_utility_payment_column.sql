@@ -0,0 +1,12 @@
+-- utility_payment.utility_service_id is no longer mapped; older databases still have it as NOT NULL.
+-- Only databases that have the column are altered, so this also runs cleanly after V1.
+SET @has_column = (SELECT COUNT(*) FROM information_schema.columns
+                   WHERE table_schema = DATABASE()
+                     AND table_name = 'utility_payment'
+                     AND column_name = 'utility_service_id');
+SET @ddl = IF(@has_column > 0,
+              'ALTER TABLE utility_payment MODIFY COLUMN utility_service_id BIGINT NULL',
+              'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,35 @@
+-- Indexes for the lookups the repositories actually run.
+-- Composite indexes lead with the foreign key so they also serve plain "by household" queries.
+
+-- NopPhiRepository: findByHoKhauIdAndKhoanThuId, findByHoKhauId, statisticsByHoKhauId
+CREATE INDEX idx_nop_phi_ho_khau_khoan_thu ON nop_phi (ho_khau_id, khoan_thu_id);
+-- NopPhiRepository: findByKhoanThuId, sumVerifiedByKhoanThuId, statisticsByKhoanThuId
+CREATE INDEX idx_nop_phi_khoan_thu_xac_nhan ON nop_phi (khoan_thu_id, da_xac_nhan);
+-- NopPhiRepository: findByNgayNopBetween, sumMonthlyByFeeType
+CREATE INDEX idx_nop_phi_ngay_nop ON nop_phi (ngay_nop);
+-- NopPhiRepository: findByDaXacNhanFalse
+CREATE INDEX idx_nop_phi_da_xac_nhan ON nop_phi (da_xac_nhan);
+
+-- UtilityServiceRepository: existsByHoKhauIdAndLoaiDichVuAndThangAndNamAndIdNot, findByHoKhau_Id
+CREATE INDEX idx_utility_service_ho_khau_loai_thang_nam ON utility_service (ho_khau_id, loai_dich_vu, thang, nam);
+-- UtilityServiceRepository: findByHoKhau_IdAndThangAndNam, calculateTotalUtilityFeeByHouseholdAndMonth
+CREATE INDEX idx_utility_service_ho_khau_nam_thang ON utility_service (ho_khau_id, nam, thang);
+-- UtilityServiceRepository: findByThangAndNam
+CREATE INDEX idx_utility_service_nam_thang ON utility_service (nam, thang);
+
+-- UtilityPaymentRepository: findByHoKhauIdAndThangAndNam, calculateTotalPaidByHouseholdAndMonth, findByHoKhauId
+CREATE INDEX idx_utility_payment_ho_khau_thang_nam ON utility_payment (ho_khau_id, thang, nam);
+-- UtilityPaymentRepository: findByMaGiaoDich
+CREATE INDEX idx_utility_payment_ma_giao_dich ON utility_payment (ma_giao_dich);
+-- UtilityPaymentRepository: findByNgayThanhToanBetween
+CREATE INDEX idx_utility_payment_ngay_thanh_toan ON utility_payment (ngay_thanh_toan);
+
+-- LichSuHoKhauRepository: findByThoiGianBetween
+CREATE INDEX idx_lich_su_ho_khau_thoi_gian ON lich_su_ho_khau (thoi_gian);
+
+-- TamTruTamVangRepository: findByThoiGianBetween
+CREATE INDEX idx_tam_tru_tam_vang_thoi_gian ON tam_tru_tam_vang (thoi_gian);
+
+-- NotificationRepository: findByUserIdOrderByCreatedAtDesc, findByReadFalseOrderByCreatedAtDesc, countByReadFalse
+CREATE INDEX idx_notifications_user_created ON notifications (user_id, created_at);
+CREATE INDEX idx_notifications_read_created ON notifications (is_read, created_at);
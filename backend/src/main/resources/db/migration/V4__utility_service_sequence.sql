@@ -0,0 +1,8 @@
+-- Id generator for utility_service (Hibernate emulates sequences with a one-row table on MySQL).
+-- Starts past the current max id; Hibernate hands out blocks of 50 ending at next_val.
+CREATE TABLE utility_service_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO utility_service_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM utility_service;
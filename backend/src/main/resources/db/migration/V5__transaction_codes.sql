@@ -0,0 +1,19 @@
+-- Hi/lo blocks for transaction codes: one row per code prefix (e.g. UT20261017); nodes reserve ranges from next_val.
+CREATE TABLE transaction_code_block (
+    code_prefix VARCHAR(32) NOT NULL,
+    next_val BIGINT NOT NULL,
+    PRIMARY KEY (code_prefix)
+) ENGINE=InnoDB;
+
+-- Random codes could collide; keep the oldest payment's code and suffix later duplicates with their id.
+UPDATE utility_payment u
+JOIN (SELECT ma_giao_dich, MIN(id) AS keep_id
+      FROM utility_payment
+      WHERE ma_giao_dich IS NOT NULL
+      GROUP BY ma_giao_dich
+      HAVING COUNT(*) > 1) d ON u.ma_giao_dich = d.ma_giao_dich AND u.id <> d.keep_id
+SET u.ma_giao_dich = CONCAT(u.ma_giao_dich, '-', u.id);
+
+ALTER TABLE utility_payment
+    DROP INDEX idx_utility_payment_ma_giao_dich,
+    ADD UNIQUE INDEX uk_utility_payment_ma_giao_dich (ma_giao_dich);
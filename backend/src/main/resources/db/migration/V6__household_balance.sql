@@ -0,0 +1,42 @@
+-- Per-household monthly ledger (utility bills, utility payments, fee payments by month of ngay_nop).
+-- Kept current by the application on every write; this script creates it and backfills existing data.
+CREATE TABLE household_balance (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    ho_khau_id BIGINT NOT NULL,
+    thang INT NOT NULL,
+    nam INT NOT NULL,
+    utility_charged DOUBLE NOT NULL,
+    utility_paid DOUBLE NOT NULL,
+    fee_charged DOUBLE NOT NULL,
+    fee_paid DOUBLE NOT NULL,
+    unpaid_bills INT NOT NULL,
+    outstanding DOUBLE NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_household_balance_ho_khau_thang_nam UNIQUE (ho_khau_id, thang, nam),
+    INDEX idx_household_balance_nam_thang_outstanding (nam, thang, outstanding),
+    INDEX idx_household_balance_outstanding (outstanding)
+) ENGINE=InnoDB;
+
+INSERT INTO household_balance (ho_khau_id, thang, nam, utility_charged, utility_paid, fee_charged, fee_paid,
+                               unpaid_bills, outstanding, updated_at)
+SELECT k.ho_khau_id, k.thang, k.nam,
+       SUM(k.utility_charged), SUM(k.utility_paid), SUM(k.fee_charged), SUM(k.fee_paid), SUM(k.unpaid_bills),
+       SUM(k.utility_charged - k.utility_paid + k.fee_charged - k.fee_paid), NOW(6)
+FROM (
+    SELECT s.ho_khau_id, s.thang, s.nam, s.tong_tien AS utility_charged, 0.0 AS utility_paid,
+           0.0 AS fee_charged, 0.0 AS fee_paid,
+           CASE WHEN s.trang_thai = 'CHUA_THANH_TOAN' THEN 1 ELSE 0 END AS unpaid_bills
+    FROM utility_service s
+    UNION ALL
+    SELECT p.ho_khau_id, p.thang, p.nam, 0.0, COALESCE(p.so_tien_thanh_toan, 0), 0.0, 0.0, 0
+    FROM utility_payment p
+    WHERE p.trang_thai = 'THANH_CONG'
+    UNION ALL
+    SELECT n.ho_khau_id, MONTH(n.ngay_nop), YEAR(n.ngay_nop), 0.0, 0.0, COALESCE(n.tong_tien, 0),
+           CASE WHEN n.da_xac_nhan = true THEN COALESCE(n.so_tien, 0) ELSE 0.0 END, 0
+    FROM nop_phi n
+    WHERE n.ngay_nop IS NOT NULL
+) k
+JOIN ho_khau h ON h.id = k.ho_khau_id
+GROUP BY k.ho_khau_id, k.thang, k.nam;
@@ -0,0 +1,19 @@
+-- Notifications queued in the writer's transaction and fanned out per recipient by NotificationOutboxDispatcher.
+CREATE TABLE notification_outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    title VARCHAR(255) NOT NULL,
+    message VARCHAR(1000) NOT NULL,
+    entity_type VARCHAR(255) NOT NULL,
+    entity_id BIGINT,
+    recipient_roles VARCHAR(255),
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+-- Id generator for notifications so the dispatcher's inserts can be JDBC-batched (same scheme as V4).
+CREATE TABLE notifications_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO notifications_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM notifications;
@@ -0,0 +1,20 @@
+-- Snapshot of active households without a verified payment for each overdue mandatory fee.
+-- Rebuilt daily by the application (app.fees.overdue.cron); this script creates it and fills it once.
+CREATE TABLE overdue_fee (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    ho_khau_id BIGINT NOT NULL,
+    khoan_thu_id BIGINT NOT NULL,
+    so_tien DOUBLE NOT NULL,
+    thoi_han DATE NOT NULL,
+    computed_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_overdue_fee_khoan_thu_ho_khau UNIQUE (khoan_thu_id, ho_khau_id),
+    INDEX idx_overdue_fee_ho_khau (ho_khau_id)
+) ENGINE=InnoDB;
+
+INSERT INTO overdue_fee (ho_khau_id, khoan_thu_id, so_tien, thoi_han, computed_at)
+SELECT h.id, k.id, k.so_tien, k.thoi_han, NOW(6)
+FROM khoan_thu k
+JOIN ho_khau h ON h.hoat_dong = true
+WHERE k.bat_buoc = true AND k.hoat_dong = true AND k.thoi_han < CURDATE()
+  AND NOT EXISTS (SELECT 1 FROM nop_phi p WHERE p.ho_khau_id = h.id AND p.khoan_thu_id = k.id AND p.da_xac_nhan = true);
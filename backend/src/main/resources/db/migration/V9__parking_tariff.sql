@@ -0,0 +1,16 @@
+-- Monthly parking rates per vehicle type and effective date, starting from the previously hard-coded rates.
+CREATE TABLE parking_tariff (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    loai_xe VARCHAR(20) NOT NULL,
+    muc_phi DOUBLE NOT NULL,
+    hieu_luc_tu DATE NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_parking_tariff_loai_xe_hieu_luc_tu UNIQUE (loai_xe, hieu_luc_tu)
+) ENGINE=InnoDB;
+
+INSERT INTO parking_tariff (loai_xe, muc_phi, hieu_luc_tu, created_at) VALUES
+    ('XE_MAY', 70000, '2000-01-01', NOW(6)),
+    ('OTO', 1200000, '2000-01-01', NOW(6));
+
+CREATE INDEX idx_vehicle_loai_xe ON vehicle (loai_xe);
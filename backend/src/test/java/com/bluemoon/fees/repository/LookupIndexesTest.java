@@ -0,0 +1,216 @@
+package com.bluemoon.fees.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.util.StreamUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the repository lookups listed in V3 on H2 in MySQL mode, captures the SQL Hibernate generates for each and
+ * checks that H2's EXPLAIN of that SQL picks the intended index. This proves the generated predicates match the index
+ * columns; it says nothing about the plan MySQL's optimizer chooses.
+ *
+ * <p>The schema comes from the entity mappings with the V3 indexes added on top, since the Flyway migrations after V1
+ * include MySQL-only DDL. Foreign keys are left out: H2 gives each one its own single-column index, which would compete
+ * with the composite indexes under test.
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:lookup_indexes;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=YEAR,MONTH,VALUE",
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create",
+    "spring.jpa.properties.hibernate.hbm2ddl.default_constraint_mode=NO_CONSTRAINT"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class LookupIndexesTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private RecordingStatementInspector statements;
+    @Autowired
+    private NopPhiRepository nopPhiRepository;
+    @Autowired
+    private UtilityServiceRepository utilityServiceRepository;
+    @Autowired
+    private UtilityPaymentRepository utilityPaymentRepository;
+    @Autowired
+    private LichSuHoKhauRepository lichSuHoKhauRepository;
+    @Autowired
+    private TamTruTamVangRepository tamTruTamVangRepository;
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private final LocalDate start = LocalDate.of(2024, 1, 1);
+    private final LocalDate end = LocalDate.of(2024, 1, 31);
+
+    @BeforeEach
+    void addLookupIndexes() throws Exception {
+        // Some of the V3 indexes are also declared on the entities, so ddl-auto has already created them
+        String script = StreamUtils.copyToString(
+                new ClassPathResource("db/migration/V3__lookup_indexes.sql").getInputStream(), StandardCharsets.UTF_8);
+        for (String statement : script.replaceAll("(?m)^--.*$", "").split(";")) {
+            if (!statement.isBlank()) {
+                jdbcTemplate.execute(statement.replace("CREATE INDEX", "CREATE INDEX IF NOT EXISTS"));
+            }
+        }
+        statements.clear();
+    }
+
+    @Test
+    void paymentsByHouseholdAndFee() {
+        nopPhiRepository.findFirstByHoKhauIdAndKhoanThuIdOrderByIdDesc(1L, 2L);
+        assertUsesIndex("nop_phi", "idx_nop_phi_ho_khau_khoan_thu");
+    }
+
+    @Test
+    void paymentsByFee() {
+        nopPhiRepository.findByKhoanThuId(2L);
+        assertUsesIndex("nop_phi", "idx_nop_phi_khoan_thu_xac_nhan");
+    }
+
+    @Test
+    void verifiedTotalByFee() {
+        nopPhiRepository.sumVerifiedByKhoanThuId(2L);
+        assertUsesIndex("nop_phi", "idx_nop_phi_khoan_thu_xac_nhan");
+    }
+
+    @Test
+    void paymentsByDate() {
+        nopPhiRepository.findByNgayNopBetween(start, end);
+        assertUsesIndex("nop_phi", "idx_nop_phi_ngay_nop");
+    }
+
+    @Test
+    void unverifiedPayments() {
+        nopPhiRepository.findByDaXacNhanFalse();
+        assertUsesIndex("nop_phi", "idx_nop_phi_da_xac_nhan");
+    }
+
+    @Test
+    void duplicateUtilityServiceCheck() {
+        utilityServiceRepository.existsByHoKhauIdAndLoaiDichVuAndThangAndNamAndIdNot(1L, "DIEN", 3, 2024, null);
+        assertUsesIndex("utility_service", "idx_utility_service_ho_khau_loai_thang_nam");
+    }
+
+    @Test
+    void utilityServicesByHouseholdAndMonth() {
+        utilityServiceRepository.calculateTotalUtilityFeeByHouseholdAndMonth(1L, 3, 2024);
+        assertUsesIndex("utility_service", "idx_utility_service_ho_khau_nam_thang");
+    }
+
+    @Test
+    void utilityServicesByMonth() {
+        utilityServiceRepository.findByThangAndNam(3, 2024);
+        assertUsesIndex("utility_service", "idx_utility_service_nam_thang");
+    }
+
+    @Test
+    void utilityPaymentsByHouseholdAndMonth() {
+        utilityPaymentRepository.findByHoKhauIdAndThangAndNam(1L, 3, 2024);
+        assertUsesIndex("utility_payment", "idx_utility_payment_ho_khau_thang_nam");
+    }
+
+    @Test
+    void utilityPaymentByTransactionCode() {
+        // V5 replaced the V3 index on ma_giao_dich with this unique one
+        utilityPaymentRepository.findByMaGiaoDich("GD-1");
+        assertUsesIndex("utility_payment", "uk_utility_payment_ma_giao_dich");
+    }
+
+    @Test
+    void utilityPaymentsByDate() {
+        utilityPaymentRepository.findByNgayThanhToanBetween(start, end);
+        assertUsesIndex("utility_payment", "idx_utility_payment_ngay_thanh_toan");
+    }
+
+    @Test
+    void householdHistoryByDate() {
+        lichSuHoKhauRepository.findByThoiGianBetween(start, end);
+        assertUsesIndex("lich_su_ho_khau", "idx_lich_su_ho_khau_thoi_gian");
+    }
+
+    @Test
+    void residenceRecordsByDate() {
+        tamTruTamVangRepository.findByThoiGianBetween(start, end);
+        assertUsesIndex("tam_tru_tam_vang", "idx_tam_tru_tam_vang_thoi_gian");
+    }
+
+    @Test
+    void notificationsByUser() {
+        notificationRepository.findByUserIdOrderByCreatedAtDesc(1L);
+        assertUsesIndex("notifications", "idx_notifications_user_created");
+    }
+
+    @Test
+    void unreadNotificationCount() {
+        notificationRepository.countByReadFalse();
+        assertUsesIndex("notifications", "idx_notifications_read_created");
+    }
+
+    // EXPLAIN the statement the repository call sent for the table; H2 plans it with the parameters unbound
+    private void assertUsesIndex(String table, String index) {
+        List<String> sent = statements.selectsFrom(table);
+        assertThat(sent).as("SELECT statements sent for %s", table).hasSize(1);
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sent.get(0), String.class);
+        // Unique constraints are backed by an index named <constraint>_INDEX_<n>
+        assertThat(plan).containsPattern("public\\." + index + "(_INDEX_\\w+)?:");
+    }
+
+    static class RecordingStatementInspector implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        void clear() {
+            statements.clear();
+        }
+
+        List<String> selectsFrom(String table) {
+            return statements.stream()
+                    .filter(sql -> sql.startsWith("select") && sql.matches("(?s).* from " + table + " .*"))
+                    .toList();
+        }
+    }
+
+    @TestConfiguration
+    static class StatementCapture {
+
+        // FeesApplication's user seeder needs one; the security configuration is outside the JPA slice
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder();
+        }
+
+        @Bean
+        RecordingStatementInspector recordingStatementInspector() {
+            return new RecordingStatementInspector();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspectorCustomizer(RecordingStatementInspector inspector) {
+            return properties -> properties.put("hibernate.session_factory.statement_inspector", inspector);
+        }
+    }
+}
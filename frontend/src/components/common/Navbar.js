@@ -15,7 +15,7 @@ import {
   AccountCircle,
   ExitToApp
 } from '@mui/icons-material';
-import { getUserData, isAdmin } from '../../utils/auth';
+import { getUserData, isAdmin, isToTruong, isKeToan } from '../../utils/auth';
 import NotificationMenu from './NotificationMenu';
 
 const Navbar = ({ toggleSidebar, isSidebarOpen, onLogout }) => {
@@ -66,7 +66,7 @@ const Navbar = ({ toggleSidebar, isSidebarOpen, onLogout }) => {
         <Box sx={{ flexGrow: 1 }} />
 
         <Box sx={{ display: 'flex', alignItems: 'center' }}>
-          {admin && <NotificationMenu />}
+          {(admin || isToTruong() || isKeToan()) && <NotificationMenu />}
 
           <Box sx={{ ml: 2 }}>
             <IconButton onClick={handleMenu} size="small" sx={{ ml: 2 }}>
@@ -67,8 +67,13 @@ const NotificationMenu = () => {
   useEffect(() => {
     console.log('NotificationMenu useEffect running'); // Debug log
     fetchNotifications();
-    const interval = setInterval(fetchNotifications, 30000); // Refresh every 30 seconds
-    return () => clearInterval(interval);
+    // New notifications and the unread count are pushed by the server instead of polled
+    const source = notificationService.openStream(
+      (notification) => setNotifications(current =>
+        current.some(n => n.id === notification.id) ? current : [notification, ...current]),
+      (count) => setUnreadCount(count)
+    );
+    return () => source.close();
   }, []);
 
   const fetchNotifications = async () => {
@@ -78,7 +83,6 @@ const NotificationMenu = () => {
     try {
       const data = await notificationService.getUnreadNotifications();
       setNotifications(data);
-      setUnreadCount(data.length);
     } catch (error) {
       console.error('Error fetching notifications:', error);
       setError('Failed to load notifications');
@@ -101,9 +105,7 @@ const NotificationMenu = () => {
   const handleNotificationClick = async (notification) => {
     try {
       await notificationService.markAsRead(notification.id);
-      const updatedNotifications = notifications.filter(n => n.id !== notification.id);
-      setNotifications(updatedNotifications);
-      setUnreadCount(updatedNotifications.length);
+      setNotifications(current => current.filter(n => n.id !== notification.id));
       handleClose();
       
       // Navigate based on entity type
@@ -127,8 +129,6 @@ const NotificationMenu = () => {
         // Nếu không có entityId, chuyển hướng đến trang danh sách tương ứng
         navigateToListPage(notification.entityType);
       }
-      
-      fetchNotifications();
     } catch (error) {
       console.error('Error handling notification:', error);
       setError('Failed to mark notification as read');
@@ -34,9 +34,7 @@ import { BarChart, Bar, XAxis, YAxis, Tooltip, ResponsiveContainer, PieChart, Pi
 
 import PageHeader from '../common/PageHeader';
 import DashboardCard from './DashboardCard';
-import { getDashboardSummary, getRecentPayments, getMonthlyPaymentData, getAccountantDashboardSummary } from '../../services/dashboardService';
-import { getAllPayments } from '../../services/paymentService';
-import { getAllFees } from '../../services/feeService';
+import { getAccountantDashboardSummary } from '../../services/dashboardService';
 
 const AccountantDashboard = () => {
   const navigate = useNavigate();
@@ -68,15 +66,7 @@ const AccountantDashboard = () => {
       try {
         setLoading(true);
         
-        // Load all data in parallel
-        const [summary, payments, chartData] = await Promise.all([
-          getAccountantDashboardSummary(),
-          getRecentPayments(5),
-          getMonthlyPaymentData(6)
-        ]);
-        
-        // Get fees for fee type chart
-        const fees = await getAllFees();
+        const summary = await getAccountantDashboardSummary(6);
         
         // Prepare fee type chart data
         const feeTypeChartData = [
@@ -93,8 +83,8 @@ const AccountantDashboard = () => {
         ];
         
         setStats(summary);
-        setRecentPayments(payments);
-        setMonthlyData(chartData);
+        setRecentPayments(summary.recentPayments);
+        setMonthlyData(summary.monthlyData);
         setFeeTypeData(feeTypeChartData);
         
       } catch (error) {
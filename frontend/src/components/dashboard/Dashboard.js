@@ -32,7 +32,7 @@ import PageHeader from '../common/PageHeader';
 import DashboardCard from './DashboardCard';
 import AccountantDashboard from './AccountantDashboard';
 import ToTruongDashboard from './ToTruongDashboard';
-import { getDashboardSummary, getRecentPayments, getMonthlyPaymentData } from '../../services/dashboardService';
+import { getDashboardSummary } from '../../services/dashboardService';
 import { isAdmin, isKeToan, isToTruong } from '../../utils/auth';
 
 const Dashboard = () => {
@@ -72,16 +72,11 @@ const Dashboard = () => {
       try {
         setLoading(true);
         
-        // Load all data in parallel
-        const [summary, payments, chartData] = await Promise.all([
-          getDashboardSummary(),
-          getRecentPayments(5),
-          getMonthlyPaymentData(6)
-        ]);
+        const summary = await getDashboardSummary(6);
         
         setStats(summary);
-        setRecentPayments(payments);
-        setMonthlyData(chartData);
+        setRecentPayments(summary.recentPayments);
+        setMonthlyData(summary.monthlyData);
       } catch (error) {
         console.error('Error loading dashboard data:', error);
         setError('Không thể tải dữ liệu bảng điều khiển. Vui lòng thử lại.');
@@ -32,9 +32,7 @@ import { BarChart, Bar, XAxis, YAxis, Tooltip, ResponsiveContainer, PieChart, Pi
 
 import PageHeader from '../common/PageHeader';
 import DashboardCard from './DashboardCard';
-import { getDashboardSummary, getToTruongDashboardSummary, getRecentHouseholds } from '../../services/dashboardService';
-import { getAllHouseholds } from '../../services/householdService';
-import { getAllPeople } from '../../services/personService';
+import { getToTruongDashboardSummary } from '../../services/dashboardService';
 
 const COLORS = ['#2196f3', '#4caf50', '#ff9800', '#f44336'];
 
@@ -66,20 +64,14 @@ const ToTruongDashboard = () => {
         setLoading(true);
         
         // Use the specialized tổ trưởng dashboard service
-        const [summary, recentHouseholdsData] = await Promise.all([
-          getToTruongDashboardSummary(),
-          getRecentHouseholds(5)
-        ]);
-        
-        // Load people data for age distribution
-        const people = await getAllPeople();
+        const summary = await getToTruongDashboardSummary();
         
         // Calculate age distribution (would need actual age calculation with birth dates)
         const ageDistribution = [
-          { name: 'Dưới 18', count: Math.floor(people.length * 0.2) },
-          { name: '18-35', count: Math.floor(people.length * 0.35) },
-          { name: '36-55', count: Math.floor(people.length * 0.3) },
-          { name: 'Trên 55', count: Math.floor(people.length * 0.15) }
+          { name: 'Dưới 18', count: Math.floor(summary.totalPeople * 0.2) },
+          { name: '18-35', count: Math.floor(summary.totalPeople * 0.35) },
+          { name: '36-55', count: Math.floor(summary.totalPeople * 0.3) },
+          { name: 'Trên 55', count: Math.floor(summary.totalPeople * 0.15) }
         ];
         
         setStats({
@@ -87,7 +79,7 @@ const ToTruongDashboard = () => {
           populationDensity: summary.averagePeoplePerHousehold
         });
         
-        setRecentHouseholds(recentHouseholdsData);
+        setRecentHouseholds(summary.recentHouseholds);
         setHouseholdData(summary.householdMemberData);
         setPeopleByAge(ageDistribution);
         
@@ -386,7 +378,7 @@ const ToTruongDashboard = () => {
                                   size="small"
                                 />
                               </TableCell>
-                              <TableCell>{formatDate(household.createdAt)}</TableCell>
+                              <TableCell>{formatDate(household.ngayLamHoKhau)}</TableCell>
                             </TableRow>
                           ))}
                         </TableBody>
@@ -30,12 +30,7 @@ import {
 } from 'recharts';
 
 import PageHeader from '../common/PageHeader';
-import { 
-  getPaymentTrendsByMonth,
-  getPaymentsByFee,
-  getCollectionRateByMonth,
-  getTopPayingHouseholds
-} from '../../services/statisticsService';
+import { getStatistics } from '../../services/statisticsService';
 
 // Chart colors
 const COLORS = ['#2196f3', '#4caf50', '#ff9800', '#f44336', '#9c27b0', '#00bcd4'];
@@ -75,18 +70,12 @@ const Statistics = () => {
         
         const months = getMonthsFromTimeRange(timeRange);
         
-        // Load all data in parallel
-        const [trends, feePayments, rates, households] = await Promise.all([
-          getPaymentTrendsByMonth(months),
-          getPaymentsByFee(),
-          getCollectionRateByMonth(months),
-          getTopPayingHouseholds(5)
-        ]);
+        const statistics = await getStatistics(months);
         
-        setPaymentTrends(trends);
-        setPaymentsByFee(feePayments);
-        setCollectionRate(rates);
-        setTopHouseholds(households);
+        setPaymentTrends(statistics.paymentTrends);
+        setPaymentsByFee(statistics.paymentsByFee);
+        setCollectionRate(statistics.collectionRate);
+        setTopHouseholds(statistics.topHouseholds);
       } catch (err) {
         console.error('Error loading statistics:', err);
         setError('Failed to load statistics data. Please try again.');
@@ -314,17 +314,34 @@ export const processPayments = async (paymentDataList) => {
   }
 };
 
-// Get outstanding payments (unpaid)
-export const getOutstandingPayments = async (month, year) => {
+// Get outstanding balances (per household and month, largest first)
+export const getOutstandingPayments = async (month, year, page = 0, size = 50) => {
   try {
     const response = await api.get('/utility-payments/outstanding', {
-      params: { thang: month, nam: year }
+      params: { thang: month, nam: year, page, size }
     });
     
-    if (Array.isArray(response.data)) {
-      return response.data.map(payment => mapToFrontendFormat(payment));
-    }
-    return [];
+    const balances = response.data?.content || [];
+    return balances.map(balance => ({
+      hoKhauId: balance.hoKhauId,
+      householdId: balance.hoKhauId,
+      soHoKhau: balance.soHoKhau,
+      householdNumber: balance.soHoKhau,
+      chuHo: balance.chuHo,
+      ownerName: balance.chuHo,
+      thang: balance.thang,
+      month: balance.thang,
+      nam: balance.nam,
+      year: balance.nam,
+      utilityCharged: balance.utilityCharged,
+      utilityPaid: balance.utilityPaid,
+      feeCharged: balance.feeCharged,
+      feePaid: balance.feePaid,
+      unpaidBills: balance.unpaidBills,
+      outstanding: balance.outstanding,
+      tongTien: balance.outstanding,
+      totalAmount: balance.outstanding
+    }));
   } catch (error) {
     console.error('Error fetching outstanding payments:', error);
     throw error;
@@ -42,6 +42,54 @@ const notificationService = {
     }
   },
 
+  // Open the push channel: onNotification receives each new notification, onUnreadCount the unread total.
+  // The stream is opened with a single-use ticket (EventSource cannot send the token as a header), so after an error
+  // a new ticket is fetched and the stream reopened. The caller closes the returned handle when done.
+  openStream: (onNotification, onUnreadCount) => {
+    let source = null;
+    let retryTimer = null;
+    let closed = false;
+
+    const connect = async () => {
+      try {
+        const response = await axios.post(`${API_BASE_URL}/notifications/stream-ticket`, null, {
+          headers: authHeader()
+        });
+        if (closed) {
+          return;
+        }
+        source = new EventSource(`${API_BASE_URL}/notifications/stream?ticket=${encodeURIComponent(response.data.ticket)}`);
+        source.addEventListener('notification', (event) => onNotification(JSON.parse(event.data)));
+        source.addEventListener('unread-count', (event) => onUnreadCount(Number(event.data)));
+        source.onerror = (error) => {
+          console.error('Notification stream error:', error);
+          source.close();
+          scheduleReconnect();
+        };
+      } catch (error) {
+        console.error('Error opening notification stream:', error);
+        scheduleReconnect();
+      }
+    };
+
+    const scheduleReconnect = () => {
+      if (!closed) {
+        retryTimer = setTimeout(connect, 5000);
+      }
+    };
+
+    connect();
+    return {
+      close: () => {
+        closed = true;
+        clearTimeout(retryTimer);
+        if (source) {
+          source.close();
+        }
+      }
+    };
+  },
+
   // Mark a notification as read
   markAsRead: async (notificationId) => {
     try {